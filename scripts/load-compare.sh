@@ -0,0 +1,87 @@
+#!/bin/bash
+
+# ⚡ Comparación de carga: pool de hilos de Tomcat vs hilos virtuales
+# Arranca el jar dos veces (spring.threads.virtual.enabled=false / true) y lanza la misma carga contra cada uno.
+# Requisitos: jar construido con JDK 21 (mvn -Pvirtual-threads package), `hey` en el PATH y una base accesible
+# con el perfil indicado. Mide un solo endpoint; la comparación con la mezcla completa y la revisión de pinning
+# están en docs/LoadTest.md (sección "Pool de Tomcat vs hilos virtuales").
+#
+# Uso: ./scripts/load-compare.sh [concurrencia] [duración] [ruta]
+#   ./scripts/load-compare.sh 1000 60s /api/members?page=0&size=20
+
+CONCURRENCY=${1:-1000}
+DURATION=${2:-60s}
+ENDPOINT=${3:-/api/members?page=0&size=20}
+PORT=${PORT:-8080}
+PROFILE=${PROFILE:-dev}
+USERNAME=${LOAD_USER:-admin}
+PASSWORD=${LOAD_PASSWORD:-admin123}
+
+GREEN='\033[0;32m'
+BLUE='\033[0;34m'
+RED='\033[0;31m'
+NC='\033[0m'
+
+log_info() { echo -e "${BLUE}[INFO]${NC} $1"; }
+log_success() { echo -e "${GREEN}[SUCCESS]${NC} $1"; }
+log_error() { echo -e "${RED}[ERROR]${NC} $1"; }
+
+JAR=$(ls target/*.jar 2>/dev/null | grep -v original | head -1)
+if [ -z "$JAR" ]; then
+    log_error "No hay jar en target/: ejecutar 'mvn -Pvirtual-threads package -DskipTests'"
+    exit 1
+fi
+if ! command -v hey >/dev/null; then
+    log_error "'hey' no está instalado (https://github.com/rakyll/hey)"
+    exit 1
+fi
+
+wait_for_startup() {
+    for _ in $(seq 1 60); do
+        curl -s -o /dev/null "http://localhost:$PORT/actuator/health" && return 0
+        sleep 1
+    done
+    return 1
+}
+
+run_mode() {
+    local virtual=$1
+    log_info "Arrancando con spring.threads.virtual.enabled=$virtual"
+    java -jar "$JAR" --spring.profiles.active="$PROFILE" --server.port="$PORT" \
+        --spring.threads.virtual.enabled="$virtual" > "target/load-virtual-$virtual.log" 2>&1 &
+    local pid=$!
+    if ! wait_for_startup; then
+        log_error "La aplicación no arrancó, ver target/load-virtual-$virtual.log"
+        kill "$pid"
+        exit 1
+    fi
+
+    local token
+    token=$(curl -s -X POST "http://localhost:$PORT/api/auth/login" -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$USERNAME\",\"password\":\"$PASSWORD\"}" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+
+    # Calentamiento corto para que JIT, pool de conexiones y cachés no penalicen al primer modo
+    hey -z 10s -c 50 -H "Authorization: Bearer $token" "http://localhost:$PORT$ENDPOINT" > /dev/null
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer $token" \
+        "http://localhost:$PORT$ENDPOINT" > "target/load-virtual-$virtual.txt"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null
+}
+
+summary() {
+    local file=$1
+    local rps p99
+    rps=$(grep 'Requests/sec' "$file" | awk '{print $2}')
+    p99=$(grep '99% in' "$file" | awk '{print $3}')
+    printf "%-20s %12s req/s   p99 %8s s\n" "$2" "$rps" "$p99"
+}
+
+mkdir -p target
+run_mode false
+run_mode true
+
+echo ""
+log_success "Resultados ($CONCURRENCY clientes, $DURATION, $ENDPOINT)"
+summary target/load-virtual-false.txt "pool de Tomcat"
+summary target/load-virtual-true.txt "hilos virtuales"
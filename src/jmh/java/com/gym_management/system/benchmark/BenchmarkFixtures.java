@@ -0,0 +1,84 @@
+package com.gym_management.system.benchmark;
+
+import com.gym_management.system.model.Member;
+import com.gym_management.system.security.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+/**
+ * Objetos compartidos por los benchmarks, armados sin contexto de Spring
+ * con los mismos valores por defecto que application.properties.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    public static final String USERNAME = "admin";
+    public static final String ROLE = "ADMIN";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static JwtService jwtService(boolean cacheEnabled) {
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.setField(jwtService, "cacheEnabled", cacheEnabled);
+        ReflectionTestUtils.setField(jwtService, "cacheMaxSize", 10000);
+        ReflectionTestUtils.setField(jwtService, "cacheTtl", 300000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        return jwtService;
+    }
+
+    public static UserDetails userDetails() {
+        return User.withUsername(USERNAME)
+                .password("irrelevante")
+                .authorities(Collections.singletonList(new SimpleGrantedAuthority(ROLE)))
+                .build();
+    }
+
+    public static com.gym_management.system.model.User user() {
+        com.gym_management.system.model.User user = new com.gym_management.system.model.User();
+        user.setId(1L);
+        user.setUsername(USERNAME);
+        user.setEmail("admin@gym.com");
+        user.setRole(ROLE);
+        user.setIsActive(true);
+        return user;
+    }
+
+    /**
+     * Miembro con todos los campos cargados, como los que devuelve el listado paginado
+     */
+    public static Member member(long id) {
+        Member member = new Member();
+        member.setId(id);
+        member.setFirstName("Juan");
+        member.setLastName("Pérez");
+        member.setEmail("juan.perez" + id + "@email.com");
+        member.setPhone("+56912345678");
+        member.setDateOfBirth(LocalDate.of(1990, 5, 15));
+        member.setGender("MALE");
+        member.setAddress("Av. Providencia 1234, Santiago");
+        member.setEmergencyContact("María Pérez");
+        member.setEmergencyPhone("+56987654321");
+        member.setMembershipType("PREMIUM");
+        member.setStartDate(LocalDate.of(2024, 1, 1));
+        member.setEndDate(LocalDate.of(2025, 1, 1));
+        member.setNotes("Prefiere entrenar por la mañana");
+        member.setHeight(178.5);
+        member.setWeight(76.2);
+        member.setIsActive(true);
+        member.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 30));
+        member.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 18, 0));
+        member.setVersion(3L);
+        return member;
+    }
+}
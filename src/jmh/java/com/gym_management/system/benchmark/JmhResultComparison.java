@@ -0,0 +1,114 @@
+package com.gym_management.system.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compara dos archivos de resultados JSON de JMH (línea base y candidato) y marca como regresión
+ * cada benchmark cuyo tiempo o bytes asignados por operación empeoran más que el umbral.
+ * Termina con código 1 si hay regresiones, para poder usarlo en CI.
+ *
+ * <p>Uso: {@code mvn -Pbenchmarks test-compile exec:exec@jmh-compare -Djmh.baseline=base.json -Djmh.candidate=nuevo.json}</p>
+ */
+public final class JmhResultComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private JmhResultComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: JmhResultComparison <baseline.json> <candidato.json> [umbral %]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> candidate = load(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-75s %14s %14s %9s %12s %12s %9s%n",
+                "Benchmark", "Base", "Candidato", "Δ %", "B/op base", "B/op cand", "Δ %");
+        for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-75s %s%n", entry.getKey(), "(nuevo, sin línea base)");
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            double scoreBefore = before.path("primaryMetric").path("score").asDouble();
+            double scoreAfter = after.path("primaryMetric").path("score").asDouble();
+            // En modo throughput un número menor es peor; en el resto (tiempos) un número mayor
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            double scoreChange = change(scoreBefore, scoreAfter);
+            double worseBy = higherIsBetter ? -scoreChange : scoreChange;
+
+            double allocBefore = allocation(before);
+            double allocAfter = allocation(after);
+            double allocChange = change(allocBefore, allocAfter);
+
+            boolean regression = worseBy > threshold || allocChange > threshold;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-75s %14.3f %14.3f %+8.1f%% %12.1f %12.1f %+8.1f%%%s%n",
+                    entry.getKey(), scoreBefore, scoreAfter, scoreChange,
+                    allocBefore, allocAfter, allocChange, regression ? "  << REGRESIÓN" : "");
+        }
+        for (String missing : baseline.keySet()) {
+            if (!candidate.containsKey(missing)) {
+                System.out.printf("%-75s %s%n", missing, "(ausente en el candidato)");
+            }
+        }
+
+        System.out.printf("%n%d regresiones por encima de %.1f%%%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            results.put(key(result), result);
+        }
+        return results;
+    }
+
+    /**
+     * Nombre del benchmark más sus parámetros, que distinguen cada variante en el JSON
+     */
+    private static String key(JsonNode result) {
+        String name = result.path("benchmark").asText();
+        name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        StringBuilder key = new StringBuilder(name);
+        JsonNode params = result.path("params");
+        Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> param = fields.next();
+            key.append(key.length() == name.length() ? " [" : ", ")
+                    .append(param.getKey()).append('=').append(param.getValue().asText());
+        }
+        if (key.length() > name.length()) {
+            key.append(']');
+        }
+        return key.toString();
+    }
+
+    private static double allocation(JsonNode result) {
+        return result.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score").asDouble(Double.NaN);
+    }
+
+    private static double change(double before, double after) {
+        if (Double.isNaN(before) || Double.isNaN(after) || before == 0) {
+            return 0;
+        }
+        return (after - before) / before * 100;
+    }
+}
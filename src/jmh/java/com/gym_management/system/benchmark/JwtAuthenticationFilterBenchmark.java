@@ -0,0 +1,71 @@
+package com.gym_management.system.benchmark;
+
+import com.gym_management.system.security.JwtAuthenticationFilter;
+import com.gym_management.system.security.JwtService;
+import com.gym_management.system.security.UserStatusCache;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request autenticado completo a través de {@link JwtAuthenticationFilter} con una cadena simulada.
+ * El {@code UserDetailsService} responde desde memoria, así que el modo no stateless mide el
+ * costo del filtro sin la consulta a la base de datos que tendría en producción.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    private boolean statelessPrincipal;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = BenchmarkFixtures.jwtService(true);
+        UserDetails userDetails = BenchmarkFixtures.userDetails();
+        UserStatusCache userStatusCache = new UserStatusCache(null, Long.MAX_VALUE / 2, 10000, 604800000L);
+        userStatusCache.update(BenchmarkFixtures.user(), false);
+
+        filter = new JwtAuthenticationFilter(jwtService, username -> userDetails, userStatusCache);
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", statelessPrincipal);
+        authorization = "Bearer " + jwtService.generateTokenWithRole(userDetails, BenchmarkFixtures.ROLE);
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
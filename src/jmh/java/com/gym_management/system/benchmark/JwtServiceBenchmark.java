@@ -0,0 +1,69 @@
+package com.gym_management.system.benchmark;
+
+import com.gym_management.system.security.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emisión, verificación y validación de tokens JWT, con y sin la caché de claims verificados.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        jwtService = BenchmarkFixtures.jwtService(cacheEnabled);
+        userDetails = BenchmarkFixtures.userDetails();
+        token = jwtService.generateTokenWithRole(userDetails, BenchmarkFixtures.ROLE);
+        claims = jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtService.generateTokenWithRole(userDetails, BenchmarkFixtures.ROLE);
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public boolean validateClaims() {
+        return jwtService.isTokenValid(claims, userDetails);
+    }
+
+    /**
+     * Lo que hace el filtro por request: verificar una vez y validar con los claims obtenidos
+     */
+    @Benchmark
+    public boolean parseAndValidate() {
+        return jwtService.isTokenValid(jwtService.parseToken(token), userDetails);
+    }
+}
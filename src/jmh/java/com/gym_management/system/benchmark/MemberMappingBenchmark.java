@@ -0,0 +1,85 @@
+package com.gym_management.system.benchmark;
+
+import com.gym_management.system.model.Member;
+import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.model.dto.UpdateMemberRequest;
+import com.gym_management.system.services.impl.MemberMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeo entidad/DTO de {@link MemberMapper} y cálculo de edad de {@link Member}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MemberMappingBenchmark {
+
+    private Member member;
+    private UpdateMemberRequest partialUpdate;
+    private UpdateMemberRequest fullUpdate;
+
+    @Setup
+    public void setUp() {
+        member = BenchmarkFixtures.member(1L);
+
+        partialUpdate = new UpdateMemberRequest();
+        partialUpdate.setPhone("+56911112222");
+        partialUpdate.setNotes("Cambio de horario");
+
+        fullUpdate = new UpdateMemberRequest();
+        fullUpdate.setFirstName("Juan Carlos");
+        fullUpdate.setLastName("Pérez Soto");
+        fullUpdate.setEmail("juan.carlos@email.com");
+        fullUpdate.setPhone("+56911112222");
+        fullUpdate.setDateOfBirth(LocalDate.of(1991, 3, 2));
+        fullUpdate.setGender("MALE");
+        fullUpdate.setAddress("Los Leones 456, Santiago");
+        fullUpdate.setEmergencyContact("Ana Soto");
+        fullUpdate.setEmergencyPhone("+56933334444");
+        fullUpdate.setMembershipType("VIP");
+        fullUpdate.setStartDate(LocalDate.of(2025, 1, 1));
+        fullUpdate.setEndDate(LocalDate.of(2026, 1, 1));
+        fullUpdate.setNotes("Renovación anual");
+        fullUpdate.setHeight(179.0);
+        fullUpdate.setWeight(75.0);
+        fullUpdate.setIsActive(true);
+    }
+
+    @Benchmark
+    public MemberResponse mapToResponse() {
+        return MemberMapper.toResponse(member);
+    }
+
+    @Benchmark
+    public Member updateMemberFieldsPartial() {
+        MemberMapper.updateFields(member, partialUpdate);
+        return member;
+    }
+
+    @Benchmark
+    public Member updateMemberFieldsFull() {
+        MemberMapper.updateFields(member, fullUpdate);
+        return member;
+    }
+
+    @Benchmark
+    public int getAge() {
+        return member.getAge();
+    }
+
+}
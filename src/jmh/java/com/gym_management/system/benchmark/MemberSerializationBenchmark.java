@@ -0,0 +1,79 @@
+package com.gym_management.system.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.services.impl.MemberMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización Jackson de un {@link MemberResponse} y de la página que devuelve GET /api/members,
+ * con un ObjectMapper configurado como el de Spring Boot (módulos de java.time, fechas ISO).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MemberSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private MemberResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = MemberMapper.toResponse(BenchmarkFixtures.member(1L));
+    }
+
+    /**
+     * Página de resultados; el tamaño solo afecta a {@link #memberPage}
+     */
+    @State(Scope.Benchmark)
+    public static class PageState {
+
+        @Param({"20", "100"})
+        private int pageSize;
+
+        private Page<MemberResponse> page;
+
+        @Setup
+        public void setUp() {
+            List<MemberResponse> content = new ArrayList<>(pageSize);
+            for (long id = 1; id <= pageSize; id++) {
+                content.add(MemberMapper.toResponse(BenchmarkFixtures.member(id)));
+            }
+            page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("lastName")), 10_000);
+        }
+    }
+
+    @Benchmark
+    public byte[] memberResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] memberPage(PageState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.page);
+    }
+}
@@ -0,0 +1,106 @@
+package com.gym_management.system.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escribe cada bloque en {@code <tabla>-<bloque>.csv.gz} y al final un {@code load-mysql.sh} que los carga
+ * con {@code LOAD DATA LOCAL INFILE} descomprimiendo por stdin.
+ *
+ * <p>Formato compatible con LOAD DATA: textos entre comillas dobles (las internas se duplican),
+ * {@code NULL} sin comillas para los nulos, booleanos como 1/0 y fechas ISO.</p>
+ */
+public class CsvRowSink implements RowSink {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path directory;
+
+    public CsvRowSink(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    @Override
+    public void write(SyntheticTable table, long chunk, List<Object[]> rows) throws IOException {
+        Path file = directory.resolve(String.format("%s-%06d.csv.gz", table.name(), chunk));
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+            writer.write(String.join(",", table.columns()));
+            writer.write('\n');
+            StringBuilder line = new StringBuilder(256);
+            for (Object[] row : rows) {
+                line.setLength(0);
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        line.append(',');
+                    }
+                    appendValue(line, row[i]);
+                }
+                line.append('\n');
+                writer.write(line.toString());
+            }
+        }
+    }
+
+    @Override
+    public void finish(List<SyntheticTable> tables) throws IOException {
+        StringBuilder script = new StringBuilder("""
+                #!/bin/bash
+                # Carga los CSV generados en MySQL. El esquema debe existir (arrancar la aplicación una vez).
+                # Requiere local_infile=1 en el servidor. Conexión por las variables MYSQLHOST, MYSQLPORT,
+                # MYSQLUSER, MYSQLPASSWORD y MYSQLDATABASE (las mismas que usa el perfil prod).
+                set -euo pipefail
+                cd "$(dirname "$0")"
+                MYSQL=(mysql --local-infile=1 -h "${MYSQLHOST:-localhost}" -P "${MYSQLPORT:-3306}" \\
+                    -u "${MYSQLUSER:-root}" -p"${MYSQLPASSWORD:-}" "${MYSQLDATABASE:-gym_management}")
+
+                """);
+        for (SyntheticTable table : tables) {
+            script.append("for f in ").append(table.name()).append("-*.csv.gz; do\n")
+                    .append("    echo \"Cargando $f\"\n")
+                    .append("    zcat \"$f\" | \"${MYSQL[@]}\" -e \"LOAD DATA LOCAL INFILE '/dev/stdin' INTO TABLE ")
+                    .append(table.name())
+                    .append(" CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\\\"' ESCAPED BY ''")
+                    .append(" LINES TERMINATED BY '\\n' IGNORE 1 LINES (")
+                    .append(String.join(", ", table.columns()))
+                    .append(")\"\ndone\n");
+        }
+        script.append("""
+
+                # Alinear el generador pooled de ids de miembros (bloques de 50), igual que data-prod.sql
+                "${MYSQL[@]}" -e "UPDATE members_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM members))"
+                """);
+        Path file = directory.resolve("load-mysql.sh");
+        Files.writeString(file, script.toString(), StandardCharsets.UTF_8);
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rwxr-xr-x"));
+        } catch (UnsupportedOperationException ignored) {
+            // Sistema de archivos sin permisos POSIX: se ejecuta con bash load-mysql.sh
+        }
+    }
+
+    private static void appendValue(StringBuilder line, Object value) {
+        if (value == null) {
+            line.append("NULL");
+        } else if (value instanceof Boolean bool) {
+            line.append(bool ? '1' : '0');
+        } else if (value instanceof Number || value instanceof LocalDate) {
+            line.append(value);
+        } else if (value instanceof LocalDateTime dateTime) {
+            line.append(DATE_TIME.format(dateTime));
+        } else {
+            line.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.gym_management.system.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Inserta las filas con INSERT en lotes JDBC, una conexión y una transacción por bloque.
+ * El esquema ya tiene que existir (la aplicación lo crea con {@code ddl-auto=update}). En MySQL conviene
+ * {@code rewriteBatchedStatements=true} en la URL para que cada lote viaje como un único INSERT multi-fila.
+ */
+@Slf4j
+public class JdbcRowSink implements RowSink {
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int batchSize;
+
+    public JdbcRowSink(String url, String username, String password, int batchSize) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void write(SyntheticTable table, long chunk, List<Object[]> rows) throws SQLException {
+        String[] columns = table.columns();
+        String sql = "INSERT INTO " + table.name() + " (" + String.join(", ", columns) + ") VALUES ("
+                + "?, ".repeat(columns.length - 1) + "?)";
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (Object[] row : rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        statement.setObject(i + 1, toJdbc(row[i]));
+                    }
+                    statement.addBatch();
+                    if (++pending == batchSize) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Alinear el generador pooled de ids de miembros (bloques de 50) con los ids insertados, igual que data-prod.sql
+     */
+    @Override
+    public void finish(List<SyntheticTable> tables) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if ("MySQL".equalsIgnoreCase(product) || "MariaDB".equalsIgnoreCase(product)) {
+                // Hibernate emula la secuencia con una tabla en MySQL
+                statement.executeUpdate("UPDATE members_seq SET next_val = GREATEST(next_val, "
+                        + "(SELECT COALESCE(MAX(id), 0) + 51 FROM members))");
+            } else {
+                long next;
+                try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 51 FROM members")) {
+                    resultSet.next();
+                    next = resultSet.getLong(1);
+                }
+                statement.execute("ALTER SEQUENCE members_seq RESTART WITH " + next);
+            }
+            log.info("Secuencia members_seq alineada con los ids generados ({})", product);
+        }
+    }
+
+    private static Object toJdbc(Object value) {
+        if (value instanceof LocalDate date) {
+            return java.sql.Date.valueOf(date);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return java.sql.Timestamp.valueOf(dateTime);
+        }
+        return value;
+    }
+}
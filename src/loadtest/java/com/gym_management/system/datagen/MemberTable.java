@@ -0,0 +1,173 @@
+package com.gym_management.system.datagen;
+
+import com.gym_management.system.model.Member;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.random.RandomGenerator;
+
+/**
+ * Miembros realistas, válidos para las validaciones de {@link Member}:
+ * <ul>
+ *   <li>Edades de 16 a 75 años concentradas entre los 20 y los 40.</li>
+ *   <li>Altas de los últimos cinco años, más frecuentes en los recientes y con pico en enero.</li>
+ *   <li>Membresías de 1, 3, 6 o 12 meses. Algo más de la mitad sigue renovando; el resto venció y está inactivo.</li>
+ *   <li>Teléfonos móviles de Chile (+569) y en menor medida de España (+346/+347).</li>
+ * </ul>
+ * Los ids son {@code index + 1}, así un bloque se puede cargar con INSERT explícitos o LOAD DATA.
+ */
+public class MemberTable implements SyntheticTable {
+
+    private static final String[] COLUMNS = {
+            "id", "first_name", "last_name", "email", "phone", "date_of_birth", "gender", "address",
+            "emergency_contact", "emergency_phone", "membership_type", "start_date", "end_date", "notes",
+            "height", "weight", "is_active", "created_at", "updated_at", "version"
+    };
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "gmail.com", "gmail.com", "hotmail.com", "outlook.com", "yahoo.es"};
+    private static final String[] NOTES = {
+            "Lesión de rodilla, evitar impacto", "Prefiere entrenar por la mañana", "Plan de nutrición incluido",
+            "Asma leve", "Viene con entrenador personal", "Pago con convenio de empresa", "Alumno universitario"
+    };
+    private static final int HISTORY_DAYS = 5 * 365;
+
+    private final long rowCount;
+    private final LocalDate referenceDate;
+
+    public MemberTable(long rowCount, LocalDate referenceDate) {
+        this.rowCount = rowCount;
+        this.referenceDate = referenceDate;
+    }
+
+    @Override
+    public String name() {
+        return "members";
+    }
+
+    @Override
+    public String[] columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public long rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public Object[] row(long index, RandomGenerator random) {
+        Member m = member(index, random);
+        return new Object[]{
+                m.getId(), m.getFirstName(), m.getLastName(), m.getEmail(), m.getPhone(), m.getDateOfBirth(),
+                m.getGender(), m.getAddress(), m.getEmergencyContact(), m.getEmergencyPhone(), m.getMembershipType(),
+                m.getStartDate(), m.getEndDate(), m.getNotes(), m.getHeight(), m.getWeight(), m.getIsActive(),
+                m.getCreatedAt(), m.getUpdatedAt(), m.getVersion()
+        };
+    }
+
+    public Member member(long index, RandomGenerator random) {
+        int genderRoll = random.nextInt(100);
+        String gender = genderRoll < 49 ? "FEMALE" : genderRoll < 98 ? "MALE" : "OTHER";
+        boolean female = "FEMALE".equals(gender) || ("OTHER".equals(gender) && random.nextBoolean());
+        String firstName = SpanishNames.pick(female ? SpanishNames.FEMALE_FIRST_NAMES : SpanishNames.MALE_FIRST_NAMES, random);
+        String lastName = SpanishNames.pick(SpanishNames.LAST_NAMES, random);
+        // La mitad usa los dos apellidos
+        if (random.nextBoolean()) {
+            lastName = lastName + " " + SpanishNames.pick(SpanishNames.LAST_NAMES, random);
+        }
+
+        Member member = new Member();
+        member.setId(index + 1);
+        member.setFirstName(firstName);
+        member.setLastName(lastName);
+        member.setEmail(SpanishNames.ascii(firstName) + "." + SpanishNames.ascii(lastName) + index
+                + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)]);
+        member.setPhone(phone(random));
+        member.setGender(gender);
+        member.setDateOfBirth(dateOfBirth(random));
+        member.setAddress(SpanishNames.pick(SpanishNames.STREETS, random) + " " + (10 + random.nextInt(9990))
+                + ", " + SpanishNames.pick(SpanishNames.DISTRICTS, random));
+        String contactFirstName = SpanishNames.pick(random.nextBoolean()
+                ? SpanishNames.FEMALE_FIRST_NAMES : SpanishNames.MALE_FIRST_NAMES, random);
+        member.setEmergencyContact(contactFirstName + " " + lastName.split(" ")[0]);
+        member.setEmergencyPhone(phone(random));
+
+        int typeRoll = random.nextInt(100);
+        member.setMembershipType(typeRoll < 55 ? "BASIC" : typeRoll < 85 ? "PREMIUM" : "VIP");
+        assignMembershipPeriod(member, random);
+
+        member.setNotes(random.nextInt(10) == 0 ? NOTES[random.nextInt(NOTES.length)] : null);
+        // Altura en metros y peso a partir de un IMC plausible
+        double height = (female ? 1.62 : 1.75) + random.nextGaussian() * 0.07;
+        height = Math.round(Math.min(2.10, Math.max(1.45, height)) * 100) / 100.0;
+        double bmi = 19 + random.nextDouble() * 12;
+        member.setHeight(height);
+        member.setWeight(Math.round(bmi * height * height * 10) / 10.0);
+
+        LocalDateTime createdAt = LocalDateTime.of(member.getStartDate().minusDays(random.nextInt(3)),
+                LocalTime.of(7 + random.nextInt(14), random.nextInt(60), random.nextInt(60)));
+        member.setCreatedAt(createdAt);
+        // Los activos se tocaron por última vez en la última renovación; el resto al vencer
+        LocalDate lastTouched = member.getIsActive() ? member.getStartDate() : member.getEndDate();
+        LocalDateTime updatedAt = LocalDateTime.of(lastTouched.isAfter(referenceDate) ? referenceDate : lastTouched,
+                LocalTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(60)));
+        member.setUpdatedAt(updatedAt.isBefore(createdAt) ? createdAt : updatedAt);
+        member.setVersion(0L);
+        return member;
+    }
+
+    /**
+     * Edad entre 16 y 75 años: el promedio de tres uniformes da una campana que la potencia corre hacia los 30
+     */
+    private LocalDate dateOfBirth(RandomGenerator random) {
+        double bell = (random.nextDouble() + random.nextDouble() + random.nextDouble()) / 3;
+        double years = 16 + 59 * Math.pow(bell, 1.6);
+        return referenceDate.minusDays((long) (years * 365.25));
+    }
+
+    /**
+     * Fecha de alta, período vigente y estado. {@code startDate} es el inicio del último período pagado.
+     */
+    private void assignMembershipPeriod(Member member, RandomGenerator random) {
+        // Más altas recientes que antiguas (el gimnasio crece)
+        double u = random.nextDouble();
+        LocalDate joined = referenceDate.minusDays((long) (HISTORY_DAYS * u * Math.sqrt(u)));
+        // Propósitos de año nuevo: una de cada cinco altas se concentra en enero
+        if (random.nextInt(5) == 0 && joined.getYear() < referenceDate.getYear()) {
+            joined = LocalDate.of(joined.getYear(), Month.JANUARY, 1 + random.nextInt(31));
+        }
+
+        int durationRoll = random.nextInt(100);
+        int months = durationRoll < 40 ? 1 : durationRoll < 65 ? 3 : durationRoll < 80 ? 6 : 12;
+        boolean retained = random.nextInt(100) < 55;
+
+        LocalDate start = joined;
+        LocalDate end = start.plusMonths(months);
+        if (retained) {
+            // Renueva hasta cubrir la fecha de referencia
+            while (end.isBefore(referenceDate)) {
+                start = end;
+                end = start.plusMonths(months);
+            }
+        } else {
+            // Renueva algunas veces y abandona
+            int renewals = (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(0.6));
+            for (int i = 0; i < renewals && end.plusMonths(months).isBefore(referenceDate); i++) {
+                start = end;
+                end = start.plusMonths(months);
+            }
+        }
+        member.setStartDate(start);
+        member.setEndDate(end);
+        // Vencidos: los desactiva el job de vencimientos; unos pocos vigentes fueron dados de baja a mano
+        member.setIsActive(!end.isBefore(referenceDate) && random.nextInt(50) != 0);
+    }
+
+    private static String phone(RandomGenerator random) {
+        if (random.nextInt(10) == 0) {
+            return "+34" + (6 + random.nextInt(2)) + (10_000_000 + random.nextInt(90_000_000));
+        }
+        return "+569" + (10_000_000 + random.nextInt(90_000_000));
+    }
+}
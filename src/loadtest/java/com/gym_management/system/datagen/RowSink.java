@@ -0,0 +1,23 @@
+package com.gym_management.system.datagen;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Destino de las filas generadas. {@link DataGenerator} llama a {@link #write} desde varios hilos a la
+ * vez, una vez por bloque; cada implementación aísla los bloques entre sí (una conexión o un archivo por bloque).
+ */
+public interface RowSink extends AutoCloseable {
+
+    void write(SyntheticTable table, long chunk, List<Object[]> rows) throws IOException, SQLException;
+
+    /**
+     * Se llama una vez, con todas las tablas ya escritas
+     */
+    void finish(List<SyntheticTable> tables) throws IOException, SQLException;
+
+    @Override
+    default void close() throws IOException, SQLException {
+    }
+}
@@ -0,0 +1,69 @@
+package com.gym_management.system.datagen;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * Nombres, apellidos y calles frecuentes en Chile y España. Las listas están ordenadas de más a menos
+ * frecuente y {@link #pick} favorece el comienzo, así la distribución se parece a la real: muchos
+ * "González" y pocos "Sepúlveda".
+ */
+public final class SpanishNames {
+
+    public static final String[] FEMALE_FIRST_NAMES = {
+            "María", "Sofía", "Isidora", "Florencia", "Valentina", "Catalina", "Fernanda", "Josefa", "Antonella",
+            "Martina", "Camila", "Agustina", "Emilia", "Javiera", "Constanza", "Francisca", "Daniela", "Carolina",
+            "Paula", "Lucía", "Ana", "Carmen", "Isabel", "Laura", "Marta", "Elena", "Pilar", "Rocío", "Alejandra",
+            "Gabriela", "Natalia", "Paz", "Trinidad", "Ignacia", "Antonia", "Beatriz", "Claudia", "Verónica"
+    };
+
+    public static final String[] MALE_FIRST_NAMES = {
+            "José", "Juan", "Benjamín", "Vicente", "Matías", "Martín", "Agustín", "Tomás", "Joaquín", "Cristóbal",
+            "Sebastián", "Diego", "Felipe", "Nicolás", "Ignacio", "Carlos", "Francisco", "Javier", "Andrés",
+            "Pedro", "Luis", "Miguel", "Jorge", "Rodrigo", "Pablo", "Manuel", "Alejandro", "Fernando", "Gonzalo",
+            "Ricardo", "Álvaro", "Sergio", "Maximiliano", "Gaspar", "Lucas", "Bruno", "Raúl", "Eduardo"
+    };
+
+    public static final String[] LAST_NAMES = {
+            "González", "Muñoz", "Rojas", "Díaz", "Pérez", "Soto", "Contreras", "Silva", "Martínez", "Sepúlveda",
+            "Morales", "Rodríguez", "López", "Fuentes", "Hernández", "Torres", "Araya", "Flores", "Espinoza",
+            "Valenzuela", "Castillo", "Tapia", "Reyes", "Gutiérrez", "Castro", "Pizarro", "Álvarez", "Vásquez",
+            "Sánchez", "Fernández", "Ramírez", "Carrasco", "Gómez", "Cortés", "Herrera", "Núñez", "Jara", "Vergara",
+            "Rivera", "Figueroa", "Riquelme", "García", "Miranda", "Bravo", "Vera", "Molina", "Vega", "Campos",
+            "Sandoval", "Orellana", "Zúñiga", "Olivares", "Alarcón", "Gallardo", "Ortiz", "Garrido", "Salazar",
+            "Guzmán", "Henríquez", "Saavedra", "Navarro", "Aguilera", "Parra", "Romero", "Aravena", "Vargas"
+    };
+
+    public static final String[] STREETS = {
+            "Av. Providencia", "Av. Apoquindo", "Los Leones", "Av. Irarrázaval", "Manuel Montt", "San Diego",
+            "Av. Matta", "Av. Grecia", "Av. Vicuña Mackenna", "Pedro de Valdivia", "Av. Las Condes", "Gran Avenida",
+            "Av. Pajaritos", "Av. La Florida", "Calle Mayor", "Gran Vía", "Av. Colón", "Calle Alcalá"
+    };
+
+    public static final String[] DISTRICTS = {
+            "Santiago", "Providencia", "Ñuñoa", "Las Condes", "La Florida", "Maipú", "Puente Alto", "Macul",
+            "San Miguel", "Vitacura", "La Reina", "Peñalolén", "Madrid", "Valencia"
+    };
+
+    private SpanishNames() {
+    }
+
+    /**
+     * Elegir un elemento con sesgo hacia el comienzo de la lista (el primero sale ~10 veces más que el último)
+     */
+    public static String pick(String[] values, RandomGenerator random) {
+        double u = random.nextDouble();
+        return values[(int) (values.length * u * u)];
+    }
+
+    /**
+     * Versión ASCII en minúsculas, para emails y nombres de usuario
+     */
+    public static String ascii(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replaceAll("[^A-Za-z]", "")
+                .toLowerCase(Locale.ROOT);
+    }
+}
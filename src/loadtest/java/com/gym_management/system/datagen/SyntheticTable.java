@@ -0,0 +1,28 @@
+package com.gym_management.system.datagen;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Tabla poblada por {@link DataGenerator}. Cada fila depende solo de su índice y del generador
+ * aleatorio que recibe, que {@link DataGenerator} deriva de la semilla, la tabla y el bloque:
+ * así el resultado es el mismo con cualquier cantidad de hilos.
+ *
+ * <p>Las tablas de asistencia y pagos se agregan implementando esta interfaz cuando existan sus entidades.</p>
+ */
+public interface SyntheticTable {
+
+    String name();
+
+    /**
+     * Columnas en el orden en que {@link #row} devuelve los valores
+     */
+    String[] columns();
+
+    long rowCount();
+
+    /**
+     * Valores de la fila {@code index} (0..rowCount-1): String, Number, Boolean, LocalDate,
+     * LocalDateTime o null
+     */
+    Object[] row(long index, RandomGenerator random);
+}
@@ -0,0 +1,70 @@
+package com.gym_management.system.datagen;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.random.RandomGenerator;
+
+/**
+ * Personal del gimnasio: un administrador cada 20 usuarios, 20% de encargados y el resto recepcionistas.
+ * Uno de cada diez está inactivo.
+ * Todos comparten la contraseña indicada (hasheada una sola vez: BCrypt por fila haría eterna la carga).
+ * El id lo asigna la base (IDENTITY).
+ */
+public class UserTable implements SyntheticTable {
+
+    private static final String[] COLUMNS = {
+            "username", "email", "password", "first_name", "last_name", "phone", "role", "is_active",
+            "last_login", "created_at", "updated_at", "version"
+    };
+
+    private final long rowCount;
+    private final LocalDate referenceDate;
+    private final String passwordHash;
+
+    public UserTable(long rowCount, LocalDate referenceDate, String passwordHash) {
+        this.rowCount = rowCount;
+        this.referenceDate = referenceDate;
+        this.passwordHash = passwordHash;
+    }
+
+    @Override
+    public String name() {
+        return "users";
+    }
+
+    @Override
+    public String[] columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public long rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public Object[] row(long index, RandomGenerator random) {
+        String role = index % 20 == 0 ? "ADMIN" : index % 5 == 1 ? "MANAGER" : "RECEPTIONIST";
+        boolean female = random.nextBoolean();
+        String firstName = SpanishNames.pick(female ? SpanishNames.FEMALE_FIRST_NAMES : SpanishNames.MALE_FIRST_NAMES, random);
+        String lastName = SpanishNames.pick(SpanishNames.LAST_NAMES, random);
+        // Predecible para poder iniciar sesión con cualquiera: admin0, encargado1, recepcion2...
+        String username = switch (role) {
+            case "ADMIN" -> "admin";
+            case "MANAGER" -> "encargado";
+            default -> "recepcion";
+        } + index;
+
+        LocalDateTime createdAt = LocalDateTime.of(referenceDate.minusDays(random.nextInt(3 * 365)), LocalTime.of(9, 0));
+        boolean active = index == 0 || random.nextInt(10) != 0;
+        LocalDateTime lastLogin = active
+                ? LocalDateTime.of(referenceDate.minusDays(random.nextInt(7)), LocalTime.of(7 + random.nextInt(14), random.nextInt(60)))
+                : null;
+        return new Object[]{
+                username, SpanishNames.ascii(firstName) + "." + SpanishNames.ascii(lastName) + index + "@gym.com",
+                passwordHash, firstName, lastName, "+569" + (10_000_000 + random.nextInt(90_000_000)), role, active,
+                lastLogin, createdAt, lastLogin != null ? lastLogin : createdAt, 0L
+        };
+    }
+}
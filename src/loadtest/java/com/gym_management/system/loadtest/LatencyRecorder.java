@@ -0,0 +1,72 @@
+package com.gym_management.system.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencias y códigos de estado de un cliente. Cada cliente escribe en el suyo sin sincronizar;
+ * al terminar se combinan con {@link #merge}.
+ */
+public class LatencyRecorder {
+
+    private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+
+    public void record(Operation operation, long nanos, int status) {
+        samples.computeIfAbsent(operation, ignored -> new Samples()).add(nanos, status);
+    }
+
+    public void merge(LatencyRecorder other) {
+        other.samples.forEach((operation, theirs) ->
+                samples.computeIfAbsent(operation, ignored -> new Samples()).addAll(theirs));
+    }
+
+    public Map<Operation, Samples> getSamples() {
+        return samples;
+    }
+
+    /**
+     * Latencias en nanosegundos de una operación; status 0 = error de conexión o timeout
+     */
+    public static class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        void add(long latency, int status) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+            statuses.merge(status, 1L, Long::sum);
+        }
+
+        void addAll(Samples other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+            other.statuses.forEach((status, n) -> statuses.merge(status, n, Long::sum));
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public Map<Integer, Long> getStatuses() {
+            return statuses;
+        }
+
+        /**
+         * Latencias ordenadas, para calcular percentiles
+         */
+        public long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.gym_management.system.loadtest;
+
+import com.gym_management.system.datagen.SpanishNames;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Cliente simulado: repite operaciones de la mezcla hasta el final de la prueba, sin pausa entre
+ * ellas salvo {@code thinkTimeMillis}. Solo registra las respuestas completadas después del calentamiento.
+ */
+class LoadClient implements Runnable {
+
+    private static final String[] SORT_FIELDS = {"firstName", "lastName", "createdAt"};
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String authorization;
+    private final long[] memberIds;
+    private final String[] memberEmails;
+    private final long measureFromNanos;
+    private final long endNanos;
+    private final long thinkTimeMillis;
+    private final SplittableRandom random;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    LoadClient(HttpClient httpClient, String baseUrl, String token, long[] memberIds, String[] memberEmails,
+               long measureFromNanos, long endNanos, long thinkTimeMillis, long seed) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.authorization = "Bearer " + token;
+        this.memberIds = memberIds;
+        this.memberEmails = memberEmails;
+        this.measureFromNanos = measureFromNanos;
+        this.endNanos = endNanos;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void run() {
+        int totalWeight = Operation.totalWeight();
+        while (System.nanoTime() < endNanos) {
+            Operation operation = Operation.pick(random.nextInt(totalWeight));
+            HttpRequest request = request(operation);
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long end = System.nanoTime();
+            if (start >= measureFromNanos && end <= endNanos) {
+                recorder.record(operation, end - start, status);
+            }
+            if (thinkTimeMillis > 0) {
+                LockSupport.parkNanos(thinkTimeMillis * 1_000_000);
+            }
+        }
+    }
+
+    LatencyRecorder getRecorder() {
+        return recorder;
+    }
+
+    private HttpRequest request(Operation operation) {
+        return switch (operation) {
+            case LIST_PAGE -> {
+                // Las primeras páginas se consultan mucho más que el resto
+                int page = random.nextInt(4) == 0 ? random.nextInt(Math.max(1, memberIds.length / 20)) : random.nextInt(5);
+                yield get("/api/members?page=" + page + "&size=20&sortBy="
+                        + SORT_FIELDS[random.nextInt(SORT_FIELDS.length)]);
+            }
+            case SEARCH -> {
+                String[] names = switch (random.nextInt(3)) {
+                    case 0 -> SpanishNames.FEMALE_FIRST_NAMES;
+                    case 1 -> SpanishNames.MALE_FIRST_NAMES;
+                    default -> SpanishNames.LAST_NAMES;
+                };
+                String name = SpanishNames.pick(names, random);
+                // Lo que se alcanzó a tipear: entre 3 letras y el nombre completo
+                String typed = name.substring(0, 3 + random.nextInt(name.length() - 2));
+                yield get("/api/members/search?name=" + URLEncoder.encode(typed, StandardCharsets.UTF_8));
+            }
+            case GET_BY_ID -> get("/api/members/" + randomMemberId());
+            case CHECK_IN -> get("/api/members/email/" + memberEmails[random.nextInt(memberEmails.length)]);
+            case UPDATE -> builder("/api/members/" + randomMemberId())
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"phone\":\"+569" + (10_000_000 + random.nextInt(90_000_000))
+                            + "\",\"notes\":\"Actualizado por el generador de carga\"}"))
+                    .build();
+            case STATS -> get("/api/members/stats");
+            case LOGIN -> throw new IllegalArgumentException("El login no forma parte de la mezcla");
+        };
+    }
+
+    private long randomMemberId() {
+        return memberIds[random.nextInt(memberIds.length)];
+    }
+
+    private HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", authorization);
+    }
+}
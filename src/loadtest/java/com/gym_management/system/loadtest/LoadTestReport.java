@@ -0,0 +1,117 @@
+package com.gym_management.system.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resumen de una corrida: throughput, percentiles de latencia y tasa de errores por endpoint y en total.
+ * Se guarda como JSON (para comparar corridas) y como HTML (para leer).
+ */
+public record LoadTestReport(Instant startedAt, Map<String, Object> configuration, double measuredSeconds,
+                             EndpointSummary total, List<EndpointSummary> endpoints) {
+
+    /**
+     * Métricas de un endpoint. Se cuenta como error cualquier respuesta 4xx/5xx o fallo de conexión
+     * (status 0); los 409 de ediciones concurrentes aparecen aparte en {@code statuses}.
+     */
+    public record EndpointSummary(String endpoint, long requests, long errors, double errorRate,
+                                  double throughput, double meanMillis, double p50Millis, double p95Millis,
+                                  double p99Millis, double maxMillis, Map<Integer, Long> statuses) {
+
+        static EndpointSummary of(String endpoint, LatencyRecorder.Samples samples, double seconds) {
+            long[] sorted = samples.sorted();
+            long errors = samples.getStatuses().entrySet().stream()
+                    .filter(entry -> entry.getKey() == 0 || entry.getKey() >= 400)
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            double sum = 0;
+            for (long nanos : sorted) {
+                sum += nanos;
+            }
+            int count = sorted.length;
+            return new EndpointSummary(endpoint, count, errors, count == 0 ? 0 : (double) errors / count,
+                    count / seconds, count == 0 ? 0 : sum / count / 1e6,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    count == 0 ? 0 : sorted[count - 1] / 1e6, samples.getStatuses());
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    public static LoadTestReport of(Instant startedAt, Map<String, Object> configuration, double measuredSeconds,
+                                    LatencyRecorder recorder) {
+        LatencyRecorder.Samples all = new LatencyRecorder.Samples();
+        List<EndpointSummary> endpoints = new ArrayList<>();
+        recorder.getSamples().forEach((operation, samples) -> {
+            if (operation != Operation.LOGIN) {
+                all.addAll(samples);
+            }
+            endpoints.add(EndpointSummary.of(operation.getEndpoint(), samples, measuredSeconds));
+        });
+        return new LoadTestReport(startedAt, configuration, measuredSeconds,
+                EndpointSummary.of("TOTAL (sin login)", all, measuredSeconds), endpoints);
+    }
+
+    public void writeJson(Path file) throws IOException {
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), this);
+    }
+
+    public void writeHtml(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("<!DOCTYPE html>\n<html lang=\"es\"><head><meta charset=\"utf-8\">"
+                    + "<title>Prueba de carga - Gym Management</title><style>"
+                    + "body{font-family:sans-serif;margin:2em}table{border-collapse:collapse}"
+                    + "th,td{border:1px solid #ccc;padding:4px 10px;text-align:right}"
+                    + "th:first-child,td:first-child{text-align:left}.error{color:#b00}</style></head><body>\n");
+            writer.write("<h1>Prueba de carga</h1>\n<p>Inicio: " + startedAt
+                    + String.format(" &middot; Medición: %.0f s</p>%n", measuredSeconds));
+            writer.write("<h2>Configuración</h2>\n<table>\n");
+            for (Map.Entry<String, Object> entry : new TreeMap<>(configuration).entrySet()) {
+                writer.write("<tr><td>" + escape(entry.getKey()) + "</td><td>"
+                        + escape(String.valueOf(entry.getValue())) + "</td></tr>\n");
+            }
+            writer.write("</table>\n<h2>Resultados</h2>\n<table>\n<tr><th>Endpoint</th><th>Requests</th>"
+                    + "<th>req/s</th><th>Errores</th><th>Media (ms)</th><th>p50 (ms)</th><th>p95 (ms)</th>"
+                    + "<th>p99 (ms)</th><th>Máx (ms)</th><th>Status</th></tr>\n");
+            for (EndpointSummary summary : endpoints) {
+                writeRow(writer, summary);
+            }
+            writeRow(writer, total);
+            writer.write("</table>\n</body></html>\n");
+        }
+    }
+
+    private static void writeRow(Writer writer, EndpointSummary summary) throws IOException {
+        writer.write(String.format("<tr><td>%s</td><td>%d</td><td>%.1f</td><td%s>%d (%.2f%%)</td>"
+                        + "<td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%s</td></tr>%n",
+                escape(summary.endpoint()), summary.requests(), summary.throughput(),
+                summary.errors() > 0 ? " class=\"error\"" : "", summary.errors(), summary.errorRate() * 100,
+                summary.meanMillis(), summary.p50Millis(), summary.p95Millis(), summary.p99Millis(),
+                summary.maxMillis(), escape(summary.statuses().toString())));
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
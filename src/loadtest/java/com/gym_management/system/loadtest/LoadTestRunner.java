@@ -0,0 +1,293 @@
+package com.gym_management.system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym_management.system.SystemApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generador de carga autocontenido: arranca la aplicación con el perfil {@code loadtest} (H2 en memoria),
+ * la puebla con miembros sintéticos por POST /api/members/import, inicia sesión con cada cliente por
+ * POST /api/auth/login y reproduce la mezcla de {@link Operation} durante el tiempo indicado.
+ * Deja {@code report.json} y {@code report.html} en el directorio de reporte.
+ *
+ * <p>Opciones ({@code --nombre=valor}): {@code clients} (50), {@code sessions} (logins distintos que se
+ * reparten entre los clientes, uno por cliente por defecto), {@code members} (10000), {@code warmup}
+ * segundos (15), {@code duration} segundos (60), {@code think-ms} (0), {@code seed} (42) y {@code report}
+ * (target/loadtest). Cualquier otro argumento pasa a Spring Boot, por ejemplo
+ * {@code --spring.threads.virtual.enabled=true}.</p>
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final String STAFF_USERNAME = "loadtest";
+    private static final String STAFF_PASSWORD = "loadtest-password";
+    // BCrypt de costo 12 tarda ~0,5 s por núcleo: 1000 logins con un solo núcleo llevan varios minutos
+    private static final Duration LOGIN_TIMEOUT = Duration.ofMinutes(15);
+    private static final long LOGIN_MAX_BACKOFF_MS = 2000;
+
+    private final Map<String, String> options = new LinkedHashMap<>();
+    private final List<String> springArgs = new ArrayList<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    private LoadTestRunner(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = separator > 2 ? arg.substring(2, separator) : "";
+            if (arg.startsWith("--") && separator > 2 && !name.contains(".")) {
+                options.put(name, arg.substring(separator + 1));
+            } else {
+                springArgs.add(arg);
+            }
+        }
+        springArgs.add("--spring.profiles.active=loadtest");
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner(args).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        int clients = intOption("clients", 50);
+        int sessions = Math.min(intOption("sessions", clients), clients);
+        int members = intOption("members", 10_000);
+        int warmupSeconds = intOption("warmup", 15);
+        int durationSeconds = intOption("duration", 60);
+        long thinkMillis = intOption("think-ms", 0);
+        long seed = intOption("seed", 42);
+        Path reportDirectory = Path.of(options.getOrDefault("report", "target/loadtest"));
+        Files.createDirectories(reportDirectory);
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(SystemApplication.class,
+                springArgs.toArray(String[]::new))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+            httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            log.info("Aplicación en {} - {} clientes, {} miembros, {} s de calentamiento + {} s de medición",
+                    baseUrl, clients, members, warmupSeconds, durationSeconds);
+
+            registerStaff();
+            seedMembers(reportDirectory.resolve("members.ndjson"), members, seed);
+            MemberKeys memberKeys = loadMemberKeys();
+
+            ExecutorService executor = Executors.newFixedThreadPool(clients);
+            try {
+                LatencyRecorder loginRecorder = new LatencyRecorder();
+                List<String> tokens = login(executor, sessions, loginRecorder);
+
+                Instant startedAt = Instant.now();
+                long startNanos = System.nanoTime();
+                long measureFrom = startNanos + Duration.ofSeconds(warmupSeconds).toNanos();
+                long end = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+                List<LoadClient> loadClients = new ArrayList<>();
+                List<Future<?>> running = new ArrayList<>();
+                for (int i = 0; i < clients; i++) {
+                    LoadClient client = new LoadClient(httpClient, baseUrl, tokens.get(i % sessions), memberKeys.ids(), memberKeys.emails(),
+                            measureFrom, end, thinkMillis, seed + i);
+                    loadClients.add(client);
+                    running.add(executor.submit(client));
+                }
+                for (Future<?> future : running) {
+                    future.get();
+                }
+
+                LatencyRecorder recorder = new LatencyRecorder();
+                loadClients.forEach(client -> recorder.merge(client.getRecorder()));
+                recorder.merge(loginRecorder);
+
+                Map<String, Object> configuration = new LinkedHashMap<>();
+                configuration.put("clients", clients);
+                configuration.put("sessions", sessions);
+                configuration.put("members", members);
+                configuration.put("warmupSeconds", warmupSeconds);
+                configuration.put("durationSeconds", durationSeconds);
+                configuration.put("thinkMillis", thinkMillis);
+                configuration.put("seed", seed);
+                configuration.put("springArgs", springArgs);
+                configuration.put("javaVersion", System.getProperty("java.version"));
+                configuration.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+                LoadTestReport report = LoadTestReport.of(startedAt, configuration, durationSeconds, recorder);
+                report.writeJson(reportDirectory.resolve("report.json"));
+                report.writeHtml(reportDirectory.resolve("report.html"));
+                logSummary(report);
+                log.info("Reporte en {}", reportDirectory.toAbsolutePath());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void registerStaff() throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "username", STAFF_USERNAME,
+                "email", "loadtest@gym.com",
+                "password", STAFF_PASSWORD,
+                "firstName", "Carga",
+                "lastName", "Sintética",
+                "role", "MANAGER"));
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        expectOk("Registro del usuario de carga", response);
+    }
+
+    private void seedMembers(Path file, int members, long seed) throws IOException, InterruptedException {
+        SyntheticMembers.writeNdjson(file, members, seed);
+        String token = loginOnce().token();
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/members/import?format=ndjson"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofFile(file))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        expectOk("Importación de miembros", response);
+        JsonNode result = objectMapper.readTree(response.body());
+        log.info("Miembros importados: {} de {} en {} ms", result.path("importedRows").asLong(),
+                result.path("totalRows").asLong(), result.path("durationMillis").asLong());
+        if (result.path("failedRows").asLong() > 0) {
+            throw new IllegalStateException("Filas rechazadas en la importación: " + result.path("errors"));
+        }
+    }
+
+    /**
+     * Ids y emails reales de los miembros importados, leídos del stream de activos
+     */
+    private MemberKeys loadMemberKeys() throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/members/active/stream"))
+                .header("Authorization", "Bearer " + loginOnce().token())
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofInputStream());
+        List<Long> ids = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode member = objectMapper.readTree(line);
+                ids.add(member.path("id").asLong());
+                emails.add(member.path("email").asText());
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No hay miembros activos para la prueba");
+        }
+        return new MemberKeys(ids.stream().mapToLong(Long::longValue).toArray(), emails.toArray(String[]::new));
+    }
+
+    private record MemberKeys(long[] ids, String[] emails) {
+    }
+
+    /**
+     * Iniciar sesión con cada cliente en paralelo. BCrypt corre en un pool acotado que responde 503
+     * cuando su cola se llena, así que los intentos rechazados se reintentan con espera creciente
+     * (hasta {@link #LOGIN_MAX_BACKOFF_MS}) mientras no venza {@link #LOGIN_TIMEOUT}.
+     */
+    private List<String> login(ExecutorService executor, int clients, LatencyRecorder recorder) throws Exception {
+        List<Future<LoginResult>> results = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            results.add(executor.submit(this::loginWithRetry));
+        }
+        List<String> tokens = new ArrayList<>();
+        for (Future<LoginResult> future : results) {
+            LoginResult result = future.get();
+            result.attempts().forEach(attempt -> recorder.record(Operation.LOGIN, attempt[0], (int) attempt[1]));
+            tokens.add(result.token());
+        }
+        log.info("{} clientes autenticados", clients);
+        return tokens;
+    }
+
+    private LoginResult loginWithRetry() throws IOException, InterruptedException {
+        List<long[]> attempts = new ArrayList<>();
+        long deadline = System.nanoTime() + LOGIN_TIMEOUT.toNanos();
+        for (int attempt = 1; System.nanoTime() < deadline; attempt++) {
+            LoginResult result = loginOnce();
+            attempts.addAll(result.attempts());
+            if (result.token() != null) {
+                return new LoginResult(result.token(), attempts);
+            }
+            Thread.sleep(Math.min(100L * attempt, LOGIN_MAX_BACKOFF_MS));
+        }
+        throw new IllegalStateException("No se pudo iniciar sesión en " + LOGIN_TIMEOUT.toMinutes()
+                + " min (" + attempts.size() + " intentos)");
+    }
+
+    private LoginResult loginOnce() throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("username", STAFF_USERNAME, "password", STAFF_PASSWORD));
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        List<long[]> attempts = List.of(new long[]{System.nanoTime() - start, response.statusCode()});
+        if (response.statusCode() == 503) {
+            return new LoginResult(null, attempts);
+        }
+        expectOk("Login", response);
+        return new LoginResult(objectMapper.readTree(response.body()).path("token").asText(), attempts);
+    }
+
+    private record LoginResult(String token, List<long[]> attempts) {
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        return httpClient.send(request, handler);
+    }
+
+    private static void expectOk(String step, HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(step + " respondió " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    private void logSummary(LoadTestReport report) {
+        log.info(String.format("%-36s %9s %9s %8s %9s %9s %9s %9s",
+                "Endpoint", "Requests", "req/s", "Errores", "p50 ms", "p95 ms", "p99 ms", "máx ms"));
+        List<LoadTestReport.EndpointSummary> rows = new ArrayList<>(report.endpoints());
+        rows.add(report.total());
+        for (LoadTestReport.EndpointSummary row : rows) {
+            log.info(String.format("%-36s %9d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f",
+                    row.endpoint(), row.requests(), row.throughput(), row.errorRate() * 100,
+                    row.p50Millis(), row.p95Millis(), row.p99Millis(), row.maxMillis()));
+        }
+    }
+
+    private int intOption(String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+}
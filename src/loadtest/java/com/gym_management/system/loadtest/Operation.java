@@ -0,0 +1,57 @@
+package com.gym_management.system.loadtest;
+
+/**
+ * Operaciones que repite cada cliente simulado, con su peso en la mezcla.
+ * La mezcla imita un día de recepción: muchas consultas de listados y fichas, búsquedas por
+ * nombre, el control de acceso por email y pocas ediciones.
+ */
+public enum Operation {
+
+    LIST_PAGE("GET /api/members", 30),
+    SEARCH("GET /api/members/search", 15),
+    GET_BY_ID("GET /api/members/{id}", 25),
+    // No hay un endpoint de asistencia: el control de acceso en recepción busca al miembro por email
+    CHECK_IN("GET /api/members/email/{email}", 20),
+    UPDATE("PUT /api/members/{id}", 7),
+    STATS("GET /api/members/stats", 3),
+    // Solo al iniciar cada cliente; no participa de la mezcla
+    LOGIN("POST /api/auth/login", 0);
+
+    private final String endpoint;
+    private final int weight;
+
+    Operation(String endpoint, int weight) {
+        this.endpoint = endpoint;
+        this.weight = weight;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * Elegir una operación de la mezcla según los pesos, a partir de un valor uniforme en [0, totalWeight())
+     */
+    public static Operation pick(int value) {
+        int accumulated = 0;
+        for (Operation operation : values()) {
+            accumulated += operation.weight;
+            if (value < accumulated) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Valor fuera de la mezcla: " + value);
+    }
+
+    public static int totalWeight() {
+        int total = 0;
+        for (Operation operation : values()) {
+            total += operation.weight;
+        }
+        return total;
+    }
+}
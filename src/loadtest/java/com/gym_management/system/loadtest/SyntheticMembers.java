@@ -0,0 +1,63 @@
+package com.gym_management.system.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gym_management.system.datagen.MemberTable;
+import com.gym_management.system.model.Member;
+import com.gym_management.system.model.dto.CreateMemberRequest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Miembros sintéticos para poblar la base del generador de carga, con los mismos datos que
+ * {@link MemberTable} y deterministas a partir de una semilla.
+ */
+public final class SyntheticMembers {
+
+    private SyntheticMembers() {
+    }
+
+    /**
+     * Escribir {@code count} miembros en NDJSON, el formato que acepta POST /api/members/import
+     */
+    public static void writeNdjson(Path file, int count, long seed) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        MemberTable table = new MemberTable(count, LocalDate.now());
+        SplittableRandom random = new SplittableRandom(seed);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(objectMapper.writeValueAsString(toRequest(table.member(i, random))));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static CreateMemberRequest toRequest(Member member) {
+        CreateMemberRequest request = new CreateMemberRequest();
+        request.setFirstName(member.getFirstName());
+        request.setLastName(member.getLastName());
+        request.setEmail(member.getEmail());
+        request.setPhone(member.getPhone());
+        request.setDateOfBirth(member.getDateOfBirth());
+        request.setGender(member.getGender());
+        request.setAddress(member.getAddress());
+        request.setEmergencyContact(member.getEmergencyContact());
+        request.setEmergencyPhone(member.getEmergencyPhone());
+        request.setMembershipType(member.getMembershipType());
+        request.setStartDate(member.getStartDate());
+        request.setEndDate(member.getEndDate());
+        request.setNotes(member.getNotes());
+        request.setHeight(member.getHeight());
+        request.setWeight(member.getWeight());
+        return request;
+    }
+}
@@ -0,0 +1,130 @@
+package com.gym_management.system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Primario y réplica de lectura con enrutamiento por transacción ({@code datasource.replica.enabled=true}).
+ *
+ * <p>El primario se configura con las propiedades habituales {@code spring.datasource.*} y la
+ * réplica con {@code datasource.replica.*}; cada uno tiene su pool Hikari ({@code primary} y
+ * {@code replica}), publicado en actuator como {@code hikaricp.*} con la etiqueta {@code pool}.
+ * El DataSource principal de la aplicación (JPA, JdbcTemplate, inicialización SQL) es el
+ * {@link ReadWriteRoutingDataSource}. Sin el flag, Spring Boot configura un único DataSource
+ * como siempre.</p>
+ *
+ * <p>Las sesiones de Hibernate enrutadas a la réplica pasan a {@link CacheMode#GET}: siguen leyendo
+ * la caché de segundo nivel pero no la llenan. Después de un UPDATE masivo (que vacía la región de
+ * miembros) una réplica atrasada devolvería filas viejas, y guardarlas en la caché compartida las
+ * serviría a todos, también desde el primario, hasta que expiren.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password,
+            @Value("${datasource.replica.driver-class-name:}") String driverClassName) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .driverClassName(driverClassName.isBlank() ? null : driverClassName)
+                .build();
+        dataSource.setPoolName("replica");
+        // Protección adicional: una escritura enrutada por error a la réplica falla en lugar de divergir
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.replica.lag-query:}") String lagQuery,
+            @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLagSeconds, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            @Value("${datasource.replica.read-your-writes-window:10000}") long readYourWritesWindowMillis,
+            MeterRegistry meterRegistry,
+            ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaLagMonitor, readYourWritesWindowMillis, meterRegistry);
+        // La fábrica de EntityManager depende de este DataSource: se busca en cada lectura, no al crearlo
+        routing.setReplicaReadListener(() -> skipCachePutsInTransaction(entityManagerFactory.getIfAvailable()));
+        routing.afterPropertiesSet();
+        log.info("Enrutamiento primario/réplica activo: las transacciones readOnly usan la réplica " +
+                "(lecturas propias en el primario durante {} ms después de escribir)", readYourWritesWindowMillis);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Dejar de poblar la caché de segundo nivel desde la sesión de la transacción actual, hasta que termine
+     */
+    private static void skipCachePutsInTransaction(EntityManagerFactory entityManagerFactory) {
+        EntityManager entityManager = entityManagerFactory == null ? null
+                : EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager == null) {
+            return;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        if (!previous.isPutEnabled()) {
+            return;
+        }
+        session.setCacheMode(CacheMode.GET);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    // La sesión puede seguir abierta después de la transacción (open-in-view)
+                    if (session.isOpen()) {
+                        session.setCacheMode(previous);
+                    }
+                }
+            });
+        }
+    }
+}
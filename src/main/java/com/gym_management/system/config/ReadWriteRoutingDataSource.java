@@ -0,0 +1,136 @@
+package com.gym_management.system.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enruta cada conexión al primario o a la réplica de lectura según la transacción en curso.
+ *
+ * <p>Solo van a la réplica las transacciones {@code readOnly}, y únicamente si la réplica está al
+ * día ({@link ReplicaLagMonitor}) y el usuario actual no escribió en los últimos
+ * {@code readYourWritesWindowMillis} (así ve sus propios cambios aunque la réplica no los tenga
+ * todavía). Todo lo demás, incluido el acceso fuera de una transacción, va al primario.</p>
+ *
+ * <p>La decisión se toma al pedir la conexión, por eso este DataSource debe envolverse en un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: el administrador de
+ * transacciones pide la conexión antes de publicar el flag {@code readOnly}, y el proxy la difiere
+ * hasta la primera sentencia.</p>
+ *
+ * <p>Lo leído en la réplica puede estar atrasado y no debe terminar en cachés compartidas: antes
+ * de entregar una conexión de la réplica se ejecuta el callback de
+ * {@link #setReplicaReadListener(Runnable)}, en el mismo hilo y dentro de la transacción.</p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long readYourWritesWindowMillis;
+
+    // Usuario -> instante (epoch ms) hasta el que sus lecturas siguen en el primario
+    private final Map<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    private final Counter writeRoutes;
+    private final Counter readRoutes;
+    private final Counter stickyRoutes;
+    private final Counter laggingRoutes;
+
+    private Runnable replicaReadListener = () -> { };
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      long readYourWritesWindowMillis, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesWindowMillis = readYourWritesWindowMillis;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.writeRoutes = routeCounter(meterRegistry, Route.PRIMARY, "write");
+        this.stickyRoutes = routeCounter(meterRegistry, Route.PRIMARY, "read-your-writes");
+        this.laggingRoutes = routeCounter(meterRegistry, Route.PRIMARY, "replica-lag");
+        this.readRoutes = routeCounter(meterRegistry, Route.REPLICA, "read");
+    }
+
+    /**
+     * Acción a ejecutar cada vez que una transacción se enruta a la réplica
+     */
+    public void setReplicaReadListener(Runnable replicaReadListener) {
+        this.replicaReadListener = replicaReadListener;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Sin transacción (inicialización, volcados por lotes con JdbcTemplate): siempre al primario
+            return Route.PRIMARY;
+        }
+
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeRoutes.increment();
+            rememberWriterOnCommit(user);
+            return Route.PRIMARY;
+        }
+        if (user != null && wroteRecently(user)) {
+            stickyRoutes.increment();
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaFresh()) {
+            laggingRoutes.increment();
+            return Route.PRIMARY;
+        }
+        readRoutes.increment();
+        replicaReadListener.run();
+        return Route.REPLICA;
+    }
+
+    private void rememberWriterOnCommit(String user) {
+        if (user == null || readYourWritesWindowMillis <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, System.currentTimeMillis() + readYourWritesWindowMillis);
+            }
+        });
+    }
+
+    private boolean wroteRecently(String user) {
+        Long until = recentWriters.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (until > System.currentTimeMillis()) {
+            return true;
+        }
+        recentWriters.remove(user, until);
+        return false;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, Route route, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("Conexiones asignadas por el enrutamiento primario/réplica")
+                .tag("target", route.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
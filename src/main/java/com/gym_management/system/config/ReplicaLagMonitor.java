@@ -0,0 +1,111 @@
+package com.gym_management.system.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Mide periódicamente el retraso de la réplica de lectura.
+ *
+ * <p>{@code lagQuery} se ejecuta en la réplica: {@code SHOW REPLICA STATUS} (se lee
+ * {@code Seconds_Behind_Source}) o cualquier consulta cuya primera columna sean los segundos de
+ * retraso. Sin consulta solo se verifica que la réplica responda. Un resultado nulo (replicación
+ * detenida) o un error marcan la réplica como no disponible hasta la próxima medición correcta;
+ * hasta la primera medición también se la considera no disponible.</p>
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    // NaN mientras la réplica no está disponible o no se midió
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery == null ? "" : lagQuery.trim();
+        this.maxLagSeconds = maxLagSeconds;
+
+        Gauge.builder("datasource.replica.lag", this, ReplicaLagMonitor::getLagSeconds)
+                .description("Retraso de la réplica de lectura respecto del primario")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * true si la réplica responde y su retraso no supera el máximo configurado
+     */
+    public boolean isReplicaFresh() {
+        double lag = lagSeconds;
+        return !Double.isNaN(lag) && lag <= maxLagSeconds;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:2000}")
+    public void check() {
+        boolean wasFresh = isReplicaFresh();
+        try {
+            Double measured = measure();
+            lagSeconds = measured == null ? Double.NaN : measured;
+        } catch (RuntimeException e) {
+            lagSeconds = Double.NaN;
+            if (wasFresh) {
+                log.warn("No se pudo medir el retraso de la réplica: {}", e.getMessage());
+            } else {
+                log.debug("No se pudo medir el retraso de la réplica: {}", e.getMessage());
+            }
+        }
+
+        boolean fresh = isReplicaFresh();
+        if (fresh != wasFresh) {
+            if (fresh) {
+                log.info("Réplica de lectura disponible (retraso: {} s); las transacciones readOnly vuelven a usarla", lagSeconds);
+            } else {
+                log.warn("Réplica de lectura atrasada o sin replicar (retraso: {} s, máximo: {} s); " +
+                        "las lecturas van al primario", lagSeconds, maxLagSeconds);
+            }
+        }
+    }
+
+    private Double measure() {
+        if (lagQuery.isEmpty()) {
+            Boolean valid = replicaJdbcTemplate.execute((Connection connection) -> connection.isValid(1));
+            return Boolean.TRUE.equals(valid) ? 0.0 : null;
+        }
+        return replicaJdbcTemplate.query(lagQuery, (ResultSet rs) -> rs.next() ? readLag(rs) : null);
+    }
+
+    private Double readLag(ResultSet rs) throws SQLException {
+        Object value;
+        if (lagQuery.regionMatches(true, 0, "SHOW", 0, 4)) {
+            value = column(rs, "Seconds_Behind_Source");
+            if (value == null) {
+                // MySQL anterior a 8.0.22
+                value = column(rs, "Seconds_Behind_Master");
+            }
+        } else {
+            value = rs.getObject(1);
+        }
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+
+    private static Object column(ResultSet rs, String name) {
+        try {
+            return rs.getObject(name);
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
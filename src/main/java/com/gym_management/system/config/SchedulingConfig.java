@@ -0,0 +1,12 @@
+package com.gym_management.system.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (flush de escrituras diferidas, jobs periódicos).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
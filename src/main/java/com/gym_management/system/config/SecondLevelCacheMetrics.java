@@ -0,0 +1,56 @@
+package com.gym_management.system.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+/**
+ * Publica en actuator las estadísticas de las regiones de la caché de segundo nivel.
+ *
+ * <p>Cada región (members, members-natural-id, users, users-natural-id) queda expuesta con las
+ * métricas {@code cache.gets} (result=hit|miss), {@code cache.puts}, {@code cache.removals} y
+ * {@code cache.evictions}, etiquetadas con {@code cache=<región>} y {@code layer=hibernate}.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "cache.second-level.enabled", havingValue = "true")
+@Slf4j
+public class SecondLevelCacheMetrics {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bindCacheMetrics() {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache().getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jcacheRegionFactory)) {
+            log.warn("La caché de segundo nivel no usa JCache ({}); no se publican sus métricas",
+                    regionFactory.getClass().getSimpleName());
+            return;
+        }
+
+        CacheManager cacheManager = jcacheRegionFactory.getCacheManager();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = cacheManager.getCache(cacheName);
+            JCacheMetrics.monitor(meterRegistry, cache, Tags.of("layer", "hibernate"));
+        }
+        log.info("Métricas de la caché de segundo nivel publicadas para las regiones {}", cacheManager.getCacheNames());
+    }
+}
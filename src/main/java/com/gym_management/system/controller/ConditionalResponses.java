@@ -0,0 +1,91 @@
+package com.gym_management.system.controller;
+
+import com.gym_management.system.exception.PreconditionFailedException;
+import com.gym_management.system.model.dto.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * GET condicional ({@code If-None-Match} / {@code If-Modified-Since}) para los controladores.
+ *
+ * <p>La versión se obtiene antes que el cuerpo y con una consulta liviana; si el cliente ya la
+ * tiene se responde {@code 304} sin invocar al proveedor del cuerpo. Si los datos cambian entre
+ * ambas lecturas, el ETag enviado queda más viejo que el cuerpo y la siguiente petición recibe un
+ * 200: nunca se confirma como vigente una respuesta desactualizada.</p>
+ *
+ * <p>{@code Last-Modified} tiene resolución de segundos. Si la última modificación cae en el segundo
+ * en curso, otra modificación en ese mismo segundo no cambiaría la fecha y un {@code If-Modified-Since}
+ * respondería 304 con datos viejos; en ese caso solo se envía el ETag.</p>
+ */
+final class ConditionalResponses {
+
+    // El cliente puede guardar la respuesta, pero debe revalidarla en cada uso (datos autenticados)
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * Responder 304 si la versión coincide con la del cliente, o 200 con el cuerpo y sus validadores.
+     *
+     * @return La respuesta completa, o {@code null} si ya se respondió 304.
+     */
+    static <T> ResponseEntity<T> okIfModified(ServletWebRequest request, ResourceVersion version, Supplier<T> body) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        if (request.checkNotModified(version.getETag(), stableLastModified(version))) {
+            return null;
+        }
+        // checkNotModified ya agregó ETag y Last-Modified a la respuesta
+        return ResponseEntity.ok(body.get());
+    }
+
+    /**
+     * Respuesta 200 de una escritura con los validadores de la nueva versión, para que el cliente
+     * pueda encadenar otra edición con {@code If-Match} sin volver a consultar el recurso.
+     */
+    static <T> ResponseEntity<T> okWithVersion(ResourceVersion version, T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(version.getETag());
+        long lastModified = stableLastModified(version);
+        if (lastModified >= 0) {
+            response.lastModified(lastModified);
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Fecha de la versión si ya no puede repetirse con otro contenido, o -1 si cae en el segundo en curso
+     */
+    private static long stableLastModified(ResourceVersion version) {
+        long lastModified = version.getLastModified();
+        return lastModified / 1000 >= System.currentTimeMillis() / 1000 ? -1 : lastModified;
+    }
+
+    /**
+     * Versión exigida por un {@code If-Match} con ETags generados por {@link ResourceVersion#ofVersion}.
+     *
+     * <p>Sin encabezado, o con {@code *}, no se exige versión. If-Match usa comparación fuerte, así
+     * que los ETags débiles ({@code W/}) se ignoran. Solo se compara la versión: un ETag de un día
+     * anterior sigue siendo válido si el recurso no cambió desde entonces.</p>
+     *
+     * @return La versión esperada, o {@code null} si no hay precondición.
+     * @throws PreconditionFailedException Si ningún ETag corresponde al recurso.
+     */
+    static Long expectedVersion(String ifMatch, String resource, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        for (String eTag : ifMatch.split(",")) {
+            Long version = ResourceVersion.versionOf(eTag.trim(), resource, id);
+            if (version != null) {
+                return version;
+            }
+        }
+        throw new PreconditionFailedException("If-Match no corresponde a ninguna versión del recurso " + resource + "-" + id);
+    }
+}
@@ -1,18 +1,36 @@
 package com.gym_management.system.controller;
 
+import com.gym_management.system.model.dto.BulkMemberUpdateRequest;
+import com.gym_management.system.model.dto.BulkUpdateResponse;
 import com.gym_management.system.model.dto.CreateMemberRequest;
+import com.gym_management.system.model.dto.CursorPageResponse;
+import com.gym_management.system.model.dto.MemberImportResponse;
 import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.model.dto.MembershipExpiryResponse;
+import com.gym_management.system.model.dto.ResourceVersion;
 import com.gym_management.system.model.dto.UpdateMemberRequest;
+import com.gym_management.system.services.MemberImportService;
 import com.gym_management.system.services.MemberService;
+import com.gym_management.system.services.MembershipExpiryService;
+import com.gym_management.system.services.export.ExportFormat;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.Authentication;
 
@@ -24,6 +42,8 @@ import org.springframework.security.core.Authentication;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberImportService memberImportService;
+    private final MembershipExpiryService membershipExpiryService;
 
     /**
      * Crear un nuevo miembro
@@ -39,6 +59,25 @@ public class MemberController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Importar miembros en bloque desde un archivo CSV o NDJSON
+     * 
+     * <p><strong>Endpoint:</strong> {@code POST /api/members/import}</p>
+     * <p><strong>Parámetros de ejemplo:</strong> {@code ?format=ndjson} (por defecto {@code csv});
+     * el archivo va como cuerpo de la petición, sin multipart</p>
+     */
+    @PostMapping("/import")
+    public ResponseEntity<MemberImportResponse> importMembers(
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream body) throws IOException {
+        log.info("Received request to import members - format: {}", format);
+        
+        MemberImportResponse response = memberImportService.importMembers(ExportFormat.fromParameter(format), body);
+        
+        log.info("Member import finished - imported: {}, failed: {}", response.getImportedRows(), response.getFailedRows());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Obtener todos los miembros con paginación
      * 
@@ -51,43 +90,120 @@ public class MemberController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "firstName") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            ServletWebRequest request) {
         
         log.info("Received request to get all members - page: {}, size: {}, sortBy: {}, sortDirection: {}", 
                 page, size, sortBy, sortDirection);
         
-        Page<MemberResponse> members = memberService.getAllMembers(page, size, sortBy, sortDirection);
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                () -> memberService.getAllMembers(page, size, sortBy, sortDirection));
+    }
+
+    /**
+     * Obtener miembros paginados solo con los campos indicados
+     * 
+     * <p><strong>Parámetros de ejemplo:</strong> 
+     * {@code ?fields=id,fullName,email,membershipType&page=0&size=10}</p>
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getAllMembers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "firstName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam String fields,
+            ServletWebRequest request) {
+        
+        log.info("Received request to get all members - page: {}, size: {}, sortBy: {}, sortDirection: {}, fields: {}", 
+                page, size, sortBy, sortDirection, fields);
+        
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                () -> memberService.getAllMembers(page, size, sortBy, sortDirection, fields));
+    }
+
+    /**
+     * Obtener miembros con paginación por cursor (keyset), sin OFFSET
+     * 
+     * <p><strong>Endpoint:</strong> {@code GET /api/members/cursor}</p>
+     * <p><strong>Parámetros de ejemplo:</strong> 
+     * {@code ?size=20&sortBy=lastName&sortDirection=asc&cursor=<nextCursor>&includeTotal=false}</p>
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<MemberResponse>> getMembersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "lastName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            ServletWebRequest request) {
+        
+        log.info("Received request to get members by cursor - size: {}, sortBy: {}, sortDirection: {}, includeTotal: {}", 
+                size, sortBy, sortDirection, includeTotal);
+        
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                () -> memberService.getMembersByCursor(cursor, size, sortBy, sortDirection, includeTotal));
+    }
+
+    /**
+     * Obtener miembros por cursor solo con los campos indicados
+     * 
+     * <p><strong>Parámetros de ejemplo:</strong> {@code ?fields=id,fullName,email&size=20}</p>
+     */
+    @GetMapping(value = "/cursor", params = "fields")
+    public ResponseEntity<CursorPageResponse<Map<String, Object>>> getMembersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "lastName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam String fields,
+            ServletWebRequest request) {
+        
+        log.info("Received request to get members by cursor - size: {}, sortBy: {}, sortDirection: {}, fields: {}", 
+                size, sortBy, sortDirection, fields);
         
-        return ResponseEntity.ok(members);
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                () -> memberService.getMembersByCursor(cursor, size, sortBy, sortDirection, includeTotal, fields));
     }
 
     /**
      * Obtener miembro por ID
      * GET /api/members/{id}
+     * 
+     * <p>Responde {@code 304 Not Modified} si el {@code If-None-Match} (o {@code If-Modified-Since})
+     * del cliente coincide con la versión actual, que se lee sin cargar el miembro.</p>
      */
     @GetMapping("/{id}")
-    public ResponseEntity<MemberResponse> getMemberById(@PathVariable Long id) {
+    public ResponseEntity<MemberResponse> getMemberById(@PathVariable Long id, ServletWebRequest request) {
         log.info("Received request to get member with ID: {}", id);
         
-        MemberResponse member = memberService.getMemberById(id);
-        
-        return ResponseEntity.ok(member);
+        return ConditionalResponses.okIfModified(request, memberService.getMemberVersion(id),
+                () -> memberService.getMemberById(id));
     }
 
     /**
      * Actualizar miembro existente
      * PUT /api/members/{id}
+     * 
+     * <p>Con {@code If-Match: <ETag>} (el ETag de {@code GET /api/members/{id}}) la edición solo se
+     * aplica si nadie modificó el miembro desde esa lectura; si no, responde {@code 412}. Una
+     * modificación concurrente detectada al escribir responde {@code 409}. La respuesta trae el
+     * ETag de la nueva versión.</p>
      */
     @PutMapping("/{id}")
     public ResponseEntity<MemberResponse> updateMember(
             @PathVariable Long id,
-            @Valid @RequestBody UpdateMemberRequest request) {
+            @Valid @RequestBody UpdateMemberRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
         log.info("Received request to update member with ID: {}", id);
         
-        MemberResponse updatedMember = memberService.updateMember(id, request);
+        Long expectedVersion = ConditionalResponses.expectedVersion(ifMatch, "member", id);
+        MemberResponse updatedMember = memberService.updateMember(id, request, expectedVersion);
         
-        return ResponseEntity.ok(updatedMember);
+        return ConditionalResponses.okWithVersion(ResourceVersion.ofVersion("member", id, updatedMember.getVersion(),
+                updatedMember.getUpdatedAt()).changingDaily(LocalDate.now()), updatedMember);
     }
 
     /**
@@ -103,17 +219,70 @@ public class MemberController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Desactivar miembros en bloque (borrado lógico) por ids o por filtro
+     * 
+     * <p><strong>Endpoint:</strong> {@code POST /api/members/bulk/deactivate}</p>
+     * <p><strong>Cuerpo de ejemplo:</strong> {@code {"filter": {"isActive": true, "endDateBefore": "2025-01-01"}}}</p>
+     */
+    @PostMapping("/bulk/deactivate")
+    public ResponseEntity<BulkUpdateResponse> deactivateMembers(@Valid @RequestBody BulkMemberUpdateRequest request) {
+        log.info("Received request to deactivate members in bulk");
+        
+        return ResponseEntity.ok(new BulkUpdateResponse(memberService.deactivateMembers(request)));
+    }
+
+    /**
+     * Reactivar miembros en bloque por ids o por filtro
+     * 
+     * <p><strong>Endpoint:</strong> {@code POST /api/members/bulk/activate}</p>
+     * <p><strong>Cuerpo de ejemplo:</strong> {@code {"ids": [4, 8, 15]}}</p>
+     */
+    @PostMapping("/bulk/activate")
+    public ResponseEntity<BulkUpdateResponse> activateMembers(@Valid @RequestBody BulkMemberUpdateRequest request) {
+        log.info("Received request to activate members in bulk");
+        
+        return ResponseEntity.ok(new BulkUpdateResponse(memberService.activateMembers(request)));
+    }
+
+    /**
+     * Cambiar el tipo de membresía en bloque por ids o por filtro
+     * 
+     * <p><strong>Endpoint:</strong> {@code POST /api/members/bulk/membership-type}</p>
+     * <p><strong>Cuerpo de ejemplo:</strong> {@code {"membershipType": "PREMIUM", "filter": {"membershipType": "BASIC", "isActive": true}}}</p>
+     */
+    @PostMapping("/bulk/membership-type")
+    public ResponseEntity<BulkUpdateResponse> changeMembershipType(@Valid @RequestBody BulkMemberUpdateRequest request) {
+        log.info("Received request to change membership type in bulk to: {}", request.getMembershipType());
+        
+        return ResponseEntity.ok(new BulkUpdateResponse(memberService.changeMembershipType(request)));
+    }
+
+    /**
+     * Desactivar ahora las membresías vencidas (además del job diario)
+     * 
+     * <p><strong>Endpoint:</strong> {@code POST /api/members/expire}</p>
+     */
+    @PostMapping("/expire")
+    public ResponseEntity<MembershipExpiryResponse> expireMemberships() {
+        log.info("Received request to expire memberships");
+        
+        MembershipExpiryResponse response = membershipExpiryService.expireMemberships();
+        
+        log.info("Membership expiry finished - expired: {}", response.getExpiredMembers());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Buscar miembros por email
      * GET /api/members/email/{email}
      */
     @GetMapping("/email/{email}")
-    public ResponseEntity<MemberResponse> getMemberByEmail(@PathVariable String email) {
+    public ResponseEntity<MemberResponse> getMemberByEmail(@PathVariable String email, ServletWebRequest request) {
         log.info("Received request to get member with email: {}", email);
         
-        MemberResponse member = memberService.getMemberByEmail(email);
-        
-        return ResponseEntity.ok(member);
+        return ConditionalResponses.okIfModified(request, memberService.getMemberVersionByEmail(email),
+                () -> memberService.getMemberByEmail(email));
     }
 
     /**
@@ -121,12 +290,26 @@ public class MemberController {
      * GET /api/members/search?name=Juan
      */
     @GetMapping("/search")
-    public ResponseEntity<List<MemberResponse>> searchMembersByName(@RequestParam String name) {
+    public ResponseEntity<List<MemberResponse>> searchMembersByName(@RequestParam String name, ServletWebRequest request) {
         log.info("Received request to search members by name: {}", name);
         
-        List<MemberResponse> members = memberService.searchMembersByName(name);
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                () -> memberService.searchMembersByName(name));
+    }
+
+    /**
+     * Buscar miembros por nombre solo con los campos indicados
+     * GET /api/members/search?name=Juan&fields=id,fullName,email
+     */
+    @GetMapping(value = "/search", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> searchMembersByName(
+            @RequestParam String name,
+            @RequestParam String fields,
+            ServletWebRequest request) {
+        log.info("Received request to search members by name: {} - fields: {}", name, fields);
         
-        return ResponseEntity.ok(members);
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                () -> memberService.searchMembersByName(name, fields));
     }
 
     /**
@@ -134,12 +317,115 @@ public class MemberController {
      * GET /api/members/active
      */
     @GetMapping("/active")
-    public ResponseEntity<List<MemberResponse>> getActiveMembers() {
+    public ResponseEntity<List<MemberResponse>> getActiveMembers(ServletWebRequest request) {
         log.info("Received request to get active members");
         
-        List<MemberResponse> activeMembers = memberService.getActiveMembers();
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                memberService::getActiveMembers);
+    }
+
+    /**
+     * Obtener miembros activos solo con los campos indicados
+     * GET /api/members/active?fields=id,fullName,membershipType
+     */
+    @GetMapping(value = "/active", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getActiveMembers(@RequestParam String fields, ServletWebRequest request) {
+        log.info("Received request to get active members - fields: {}", fields);
         
-        return ResponseEntity.ok(activeMembers);
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                () -> memberService.getActiveMembers(fields));
+    }
+
+    /**
+     * Transmitir miembros activos fila por fila, sin cargar la lista completa en memoria
+     * 
+     * <p><strong>Endpoint:</strong> {@code GET /api/members/active/stream}</p>
+     * <p><strong>Parámetros de ejemplo:</strong> {@code ?format=csv} (por defecto {@code ndjson})</p>
+     */
+    @GetMapping("/active/stream")
+    public ResponseEntity<StreamingResponseBody> streamActiveMembers(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        log.info("Received request to stream active members - format: {}", format);
+        
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        StreamingResponseBody body = outputStream -> memberService.streamActiveMembers(exportFormat, outputStream);
+        
+        return streamingResponse(exportFormat, "members-active", body);
+    }
+
+    /**
+     * Transmitir resultados de búsqueda por nombre fila por fila
+     * 
+     * <p><strong>Endpoint:</strong> {@code GET /api/members/search/stream}</p>
+     * <p><strong>Parámetros de ejemplo:</strong> {@code ?name=Juan&format=ndjson}</p>
+     */
+    @GetMapping("/search/stream")
+    public ResponseEntity<StreamingResponseBody> streamMembersByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        log.info("Received request to stream members by name: {} - format: {}", name, format);
+        
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        StreamingResponseBody body = outputStream -> memberService.streamMembersByName(name, exportFormat, outputStream);
+        
+        return streamingResponse(exportFormat, "members-search", body);
+    }
+
+    /**
+     * Obtener miembros cuya membresía vence dentro de un rango de fechas (ambos extremos incluidos)
+     * 
+     * <p><strong>Endpoint:</strong> {@code GET /api/members/ending}</p>
+     * <p><strong>Parámetros de ejemplo:</strong> {@code ?from=2025-06-02&to=2025-06-08&page=0&size=50}</p>
+     */
+    @GetMapping("/ending")
+    public ResponseEntity<Page<MemberResponse>> getMembersEndingBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            ServletWebRequest request) {
+        log.info("Received request to get members ending between {} and {} - page: {}, size: {}", from, to, page, size);
+        
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                () -> memberService.getMembersEndingBetween(from, to, page, size));
+    }
+
+    /**
+     * Obtener miembros cuya membresía comienza dentro de un rango de fechas (ambos extremos incluidos)
+     * 
+     * <p><strong>Endpoint:</strong> {@code GET /api/members/starting}</p>
+     * <p><strong>Parámetros de ejemplo:</strong> {@code ?from=2025-06-01&to=2025-06-30}</p>
+     */
+    @GetMapping("/starting")
+    public ResponseEntity<Page<MemberResponse>> getMembersStartingBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            ServletWebRequest request) {
+        log.info("Received request to get members starting between {} and {} - page: {}, size: {}", from, to, page, size);
+        
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                () -> memberService.getMembersStartingBetween(from, to, page, size));
+    }
+
+    /**
+     * Obtener miembros por rango de edad (años cumplidos, ambos extremos incluidos)
+     * 
+     * <p><strong>Endpoint:</strong> {@code GET /api/members/age}</p>
+     * <p><strong>Parámetros de ejemplo:</strong> {@code ?min=18&max=25&page=0&size=50}</p>
+     */
+    @GetMapping("/age")
+    public ResponseEntity<Page<MemberResponse>> getMembersByAgeRange(
+            @RequestParam int min,
+            @RequestParam int max,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            ServletWebRequest request) {
+        log.info("Received request to get members aged {} to {} - page: {}, size: {}", min, max, page, size);
+        
+        return ConditionalResponses.okIfModified(request, memberService.getMembersVersion(),
+                () -> memberService.getMembersByAgeRange(min, max, page, size));
     }
 
     /**
@@ -155,6 +441,18 @@ public class MemberController {
         return ResponseEntity.ok(stats);
     }
 
+    private ResponseEntity<StreamingResponseBody> streamingResponse(
+            ExportFormat format, String fileName, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.inline()
+                .filename(fileName + "." + format.getExtension())
+                .build();
+        
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
     /**
      * Health check del endpoint
      * GET /api/members/health
@@ -0,0 +1,146 @@
+package com.gym_management.system.controller;
+
+import com.gym_management.system.model.dto.MemberExportResponse;
+import com.gym_management.system.services.MemberExportService;
+import com.gym_management.system.services.export.ExportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/members/export")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*") // Configurar según necesidades de CORS
+public class MemberExportController {
+
+    private static final String GZIP_CONTENT_TYPE = "application/gzip";
+
+    private final MemberExportService memberExportService;
+
+    /**
+     * Generar ahora la exportación completa de miembros (además del job nocturno)
+     *
+     * <p><strong>Endpoint:</strong> {@code POST /api/members/export}</p>
+     * <p><strong>Parámetros de ejemplo:</strong> {@code ?format=ndjson} (por defecto {@code csv})</p>
+     */
+    @PostMapping
+    public ResponseEntity<MemberExportResponse> exportMembers(@RequestParam(defaultValue = "csv") String format)
+            throws IOException {
+        log.info("Received request to export all members - format: {}", format);
+
+        MemberExportResponse response = memberExportService.exportMembers(ExportFormat.fromParameter(format));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Descargar la última exportación generada, con soporte de rangos ({@code Range: bytes=...})
+     *
+     * <p><strong>Endpoint:</strong> {@code GET /api/members/export}</p>
+     * <p><strong>Parámetros de ejemplo:</strong> {@code ?format=csv}</p>
+     *
+     * <p>El archivo se copia a la respuesta con {@link FileChannel#transferTo}, sin pasar por un
+     * buffer de la aplicación. Se admite un único rango por petición (206); un rango bien formado
+     * que empieza después del final del archivo responde 416, y un Range mal formado o con varios
+     * rangos se responde con el archivo completo (200). {@code If-Range} se compara con
+     * {@code Last-Modified}, de modo que una descarga reanudada después de una nueva exportación
+     * recibe el archivo nuevo completo.</p>
+     */
+    @GetMapping
+    public void downloadExport(
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        Path file = memberExportService.getExportFile(exportFormat);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+            response.setContentType(GZIP_CONTENT_TYPE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename("members-" + LocalDate.now() + "." + exportFormat.getExtension() + ".gz")
+                    .build().toString());
+
+            long start = 0;
+            long end = length - 1;
+            String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+            List<HttpRange> ranges = rangeHeader != null && ifRangeMatches(request, lastModified)
+                    ? parseRanges(rangeHeader)
+                    : List.of();
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+                if (start >= length) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+
+            log.info("Sending member export {} - bytes {}-{}/{}", file.getFileName(), start, end, length);
+            response.setContentLengthLong(end - start + 1);
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * Interpretar el header Range; uno mal formado (o con otra unidad) se ignora, como indica
+     * RFC 9110, y se responde el archivo completo
+     */
+    private static List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.debug("Header Range ignorado: {} ({})", rangeHeader, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static boolean ifRangeMatches(HttpServletRequest request, long lastModified) {
+        if (request.getHeader(HttpHeaders.IF_RANGE) == null) {
+            return true;
+        }
+        try {
+            // Las fechas HTTP tienen resolución de segundos
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            // If-Range con ETag: no publicamos ETag para este recurso, así que nunca coincide
+            return false;
+        }
+    }
+}
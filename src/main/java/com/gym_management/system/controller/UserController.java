@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -30,59 +31,57 @@ public class UserController {
     }
     
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
+    public ResponseEntity<List<UserResponse>> getAllUsers(ServletWebRequest request) {
         log.info("GET /api/users - Obteniendo todos los usuarios");
-        List<UserResponse> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+        return ConditionalResponses.okIfModified(request, userService.getUsersVersion(), userService::getAllUsers);
     }
     
     @GetMapping("/active")
-    public ResponseEntity<List<UserResponse>> getAllActiveUsers() {
+    public ResponseEntity<List<UserResponse>> getAllActiveUsers(ServletWebRequest request) {
         log.info("GET /api/users/active - Obteniendo usuarios activos");
-        List<UserResponse> users = userService.getAllActiveUsers();
-        return ResponseEntity.ok(users);
+        return ConditionalResponses.okIfModified(request, userService.getUsersVersion(), userService::getAllActiveUsers);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id, ServletWebRequest request) {
         log.info("GET /api/users/{} - Obteniendo usuario por ID", id);
-        UserResponse user = userService.getUserById(id);
-        return ResponseEntity.ok(user);
+        return ConditionalResponses.okIfModified(request, userService.getUserVersion(id),
+                () -> userService.getUserById(id));
     }
     
     @GetMapping("/username/{username}")
-    public ResponseEntity<UserResponse> getUserByUsername(@PathVariable String username) {
+    public ResponseEntity<UserResponse> getUserByUsername(@PathVariable String username, ServletWebRequest request) {
         log.info("GET /api/users/username/{} - Obteniendo usuario por username", username);
-        UserResponse user = userService.getUserByUsername(username);
-        return ResponseEntity.ok(user);
+        return ConditionalResponses.okIfModified(request, userService.getUserVersionByUsername(username),
+                () -> userService.getUserByUsername(username));
     }
     
     @GetMapping("/email/{email}")
-    public ResponseEntity<UserResponse> getUserByEmail(@PathVariable String email) {
+    public ResponseEntity<UserResponse> getUserByEmail(@PathVariable String email, ServletWebRequest request) {
         log.info("GET /api/users/email/{} - Obteniendo usuario por email", email);
-        UserResponse user = userService.getUserByEmail(email);
-        return ResponseEntity.ok(user);
+        return ConditionalResponses.okIfModified(request, userService.getUserVersionByEmail(email),
+                () -> userService.getUserByEmail(email));
     }
     
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<UserResponse>> getUsersByRole(@PathVariable String role) {
+    public ResponseEntity<List<UserResponse>> getUsersByRole(@PathVariable String role, ServletWebRequest request) {
         log.info("GET /api/users/role/{} - Obteniendo usuarios por rol", role);
-        List<UserResponse> users = userService.getUsersByRole(role);
-        return ResponseEntity.ok(users);
+        return ConditionalResponses.okIfModified(request, userService.getUsersVersion(),
+                () -> userService.getUsersByRole(role));
     }
     
     @GetMapping("/role/{role}/active")
-    public ResponseEntity<List<UserResponse>> getActiveUsersByRole(@PathVariable String role) {
+    public ResponseEntity<List<UserResponse>> getActiveUsersByRole(@PathVariable String role, ServletWebRequest request) {
         log.info("GET /api/users/role/{}/active - Obteniendo usuarios activos por rol", role);
-        List<UserResponse> users = userService.getActiveUsersByRole(role);
-        return ResponseEntity.ok(users);
+        return ConditionalResponses.okIfModified(request, userService.getUsersVersion(),
+                () -> userService.getActiveUsersByRole(role));
     }
     
     @GetMapping("/search")
-    public ResponseEntity<List<UserResponse>> searchUsers(@RequestParam String q) {
+    public ResponseEntity<List<UserResponse>> searchUsers(@RequestParam String q, ServletWebRequest request) {
         log.info("GET /api/users/search?q={} - Buscando usuarios", q);
-        List<UserResponse> users = userService.searchUsers(q);
-        return ResponseEntity.ok(users);
+        return ConditionalResponses.okIfModified(request, userService.getUsersVersion(),
+                () -> userService.searchUsers(q));
     }
     
     @PutMapping("/{id}")
@@ -0,0 +1,12 @@
+package com.gym_management.system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ExportNotAvailableException extends RuntimeException {
+
+    public ExportNotAvailableException(String format) {
+        super("Todavía no se generó la exportación de miembros en formato " + format);
+    }
+}
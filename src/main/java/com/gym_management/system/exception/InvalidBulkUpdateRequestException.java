@@ -0,0 +1,12 @@
+package com.gym_management.system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidBulkUpdateRequestException extends RuntimeException {
+
+    public InvalidBulkUpdateRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.gym_management.system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class VersionConflictException extends RuntimeException {
+
+    public VersionConflictException(String resource, Long id) {
+        super("El " + resource + " con ID " + id + " fue modificado por otra operación; vuelva a consultarlo antes de editarlo");
+    }
+}
@@ -0,0 +1,51 @@
+package com.gym_management.system.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Punto de avance persistente de un job por bloques.
+ *
+ * <p>Se guarda en la misma transacción que cada bloque procesado, así que después de una caída
+ * el job retoma desde el último bloque confirmado. La posición es la clave del último registro
+ * procesado en el orden del recorrido ({@code lastDate}, {@code lastId}).</p>
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    // Fecha de corte de la ejecución; una fecha distinta inicia un recorrido nuevo
+    @Column(name = "cutoff_date", nullable = false)
+    private LocalDate cutoffDate;
+
+    @Column(name = "last_date")
+    private LocalDate lastDate;
+
+    @Column(name = "last_id")
+    private Long lastId;
+
+    @Column(name = "processed_rows", nullable = false)
+    private long processedRows;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // null mientras la ejecución no terminó
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -5,21 +5,48 @@ import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "members")
+@Table(name = "members", indexes = {
+        // Soportan la paginación por keyset (campo de orden + id como desempate)
+        @Index(name = "idx_members_first_name_id", columnList = "first_name, id"),
+        @Index(name = "idx_members_last_name_id", columnList = "last_name, id"),
+        @Index(name = "idx_members_created_at_id", columnList = "created_at, id"),
+        // MAX(updated_at) para el ETag de los listados se resuelve leyendo el extremo del índice
+        @Index(name = "idx_members_updated_at", columnList = "updated_at"),
+        // Consultas por rango de fechas (vencimientos, altas, edad); el id desempata el orden de la página
+        @Index(name = "idx_members_end_date_id", columnList = "end_date, id"),
+        @Index(name = "idx_members_start_date_id", columnList = "start_date, id"),
+        @Index(name = "idx_members_date_of_birth_id", columnList = "date_of_birth, id"),
+        // Job de vencimientos: solo recorre los activos ya vencidos, en orden (end_date, id)
+        @Index(name = "idx_members_active_end_date_id", columnList = "is_active, end_date, id")
+})
+// El UPDATE solo incluye las columnas modificadas
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "members")
+@NaturalIdCache(region = "members-natural-id")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Member {
     
+    // Generador pooled: Hibernate reserva bloques de 50 ids por viaje a la base de datos,
+    // lo que permite agrupar los INSERT en lotes JDBC (IDENTITY obliga a insertar fila por fila)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_seq")
+    @SequenceGenerator(name = "members_seq", sequenceName = "members_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "El nombre es obligatorio")
@@ -34,6 +61,7 @@ public class Member {
     
     @NotBlank(message = "El email es obligatorio")
     @Email(message = "El formato del email no es válido")
+    @NaturalId(mutable = true)
     @Column(name = "email", nullable = false, unique = true, length = 100)
     private String email;
     
@@ -42,9 +70,9 @@ public class Member {
     @Column(name = "phone", nullable = false, length = 20)
     private String phone;
     
-    @NotBlank(message = "La fecha de nacimiento es obligatoria")
+    @NotNull(message = "La fecha de nacimiento es obligatoria")
     @Column(name = "date_of_birth", nullable = false)
-    private String dateOfBirth;
+    private LocalDate dateOfBirth;
     
     @NotBlank(message = "El género es obligatorio")
     @Pattern(regexp = "^(MALE|FEMALE|OTHER)$", message = "El género debe ser MALE, FEMALE u OTHER")
@@ -71,13 +99,13 @@ public class Member {
     @Column(name = "membership_type", nullable = false, length = 20)
     private String membershipType;
     
-    @NotBlank(message = "La fecha de inicio es obligatoria")
+    @NotNull(message = "La fecha de inicio es obligatoria")
     @Column(name = "start_date", nullable = false)
-    private String startDate;
+    private LocalDate startDate;
     
-    @NotBlank(message = "La fecha de fin es obligatoria")
+    @NotNull(message = "La fecha de fin es obligatoria")
     @Column(name = "end_date", nullable = false)
-    private String endDate;
+    private LocalDate endDate;
     
     @Size(max = 500, message = "Las notas no deben exceder 500 caracteres")
     @Column(name = "notes", length = 500)
@@ -105,18 +133,37 @@ public class Member {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    // Bloqueo optimista: cada UPDATE exige la versión leída, así una edición concurrente no se pierde
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     // Método helper para obtener el nombre completo
     public String getFullName() {
         return firstName + " " + lastName;
     }
     
-    // Método helper para calcular la edad (convertir string a LocalDate)
+    // Método helper para calcular la edad a la fecha de hoy
     public int getAge() {
-        try {
-            LocalDate birthDate = LocalDate.parse(dateOfBirth);
-            return LocalDate.now().getYear() - birthDate.getYear();
-        } catch (Exception e) {
-            return 0; // Si no se puede parsear, retornar 0
+        return calculateAge(dateOfBirth, LocalDate.now());
+    }
+    
+    /**
+     * Edad en años cumplidos a la fecha indicada, compartida con las proyecciones y la exportación.
+     * Equivale a {@code Period.between(dateOfBirth, today).getYears()} sin crear el Period:
+     * se resta un año si todavía no llegó el cumpleaños (un 29 de febrero se cumple el 1 de marzo).
+     * Quien mapea muchas filas calcula {@code today} una vez y lo reutiliza.
+     */
+    public static int calculateAge(LocalDate dateOfBirth, LocalDate today) {
+        if (dateOfBirth == null) {
+            return 0;
+        }
+        int age = today.getYear() - dateOfBirth.getYear();
+        if (today.getMonthValue() < dateOfBirth.getMonthValue()
+                || (today.getMonthValue() == dateOfBirth.getMonthValue() && today.getDayOfMonth() < dateOfBirth.getDayOfMonth())) {
+            age--;
         }
+        return Math.max(age, 0);
     }
 } 
\ No newline at end of file
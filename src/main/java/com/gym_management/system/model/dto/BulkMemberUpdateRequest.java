@@ -0,0 +1,28 @@
+package com.gym_management.system.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMemberUpdateRequest {
+
+    // Selección por ids; excluyente con filter
+    @Size(max = 10000, message = "No se pueden indicar más de 10000 ids por operación")
+    private List<Long> ids;
+
+    // Selección por criterios; excluyente con ids
+    @Valid
+    private MemberFilter filter;
+
+    // Nuevo tipo de membresía (solo para el cambio de membresía masivo)
+    @Pattern(regexp = "^(BASIC|PREMIUM|VIP)$", message = "El tipo de membresía debe ser BASIC, PREMIUM o VIP")
+    private String membershipType;
+}
@@ -0,0 +1,14 @@
+package com.gym_management.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateResponse {
+
+    // Filas que efectivamente cambiaron; las que ya tenían el valor pedido no se cuentan ni se tocan
+    private long updatedRows;
+}
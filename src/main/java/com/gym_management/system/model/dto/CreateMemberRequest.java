@@ -28,8 +28,9 @@ public class CreateMemberRequest {
     @Pattern(regexp = "^\\+?[1-9]\\d{1,14}$", message = "El formato del teléfono no es válido")
     private String phone;
     
-    @NotBlank(message = "La fecha de nacimiento es obligatoria")
-    private String dateOfBirth;
+    @NotNull(message = "La fecha de nacimiento es obligatoria")
+    @Past(message = "La fecha de nacimiento debe ser anterior a hoy")
+    private LocalDate dateOfBirth;
     
     @NotBlank(message = "El género es obligatorio")
     @Pattern(regexp = "^(MALE|FEMALE|OTHER)$", message = "El género debe ser MALE, FEMALE u OTHER")
@@ -51,11 +52,11 @@ public class CreateMemberRequest {
     @Pattern(regexp = "^(BASIC|PREMIUM|VIP)$", message = "El tipo de membresía debe ser BASIC, PREMIUM o VIP")
     private String membershipType;
     
-    @NotBlank(message = "La fecha de inicio es obligatoria")
-    private String startDate;
+    @NotNull(message = "La fecha de inicio es obligatoria")
+    private LocalDate startDate;
     
-    @NotBlank(message = "La fecha de fin es obligatoria")
-    private String endDate;
+    @NotNull(message = "La fecha de fin es obligatoria")
+    private LocalDate endDate;
     
     @Size(max = 500, message = "Las notas no deben exceder 500 caracteres")
     private String notes;
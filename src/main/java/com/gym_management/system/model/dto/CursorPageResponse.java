@@ -0,0 +1,27 @@
+package com.gym_management.system.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    // Token opaco para pedir la página siguiente; null si no hay más resultados
+    private String nextCursor;
+
+    // Solo se informa cuando se pide explícitamente (evita un COUNT(*) por página)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+}
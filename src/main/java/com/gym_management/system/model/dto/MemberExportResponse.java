@@ -0,0 +1,27 @@
+package com.gym_management.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberExportResponse {
+
+    private String format;
+
+    // Nombre del archivo comprimido que se descarga desde GET /api/members/export
+    private String fileName;
+
+    private long rows;
+
+    // Tamaño del archivo en disco, ya comprimido
+    private long sizeBytes;
+
+    private LocalDateTime generatedAt;
+
+    private long durationMillis;
+}
@@ -0,0 +1,32 @@
+package com.gym_management.system.model.dto;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Criterios para seleccionar miembros en las operaciones masivas; se combinan con AND
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberFilter {
+
+    @Pattern(regexp = "^(BASIC|PREMIUM|VIP)$", message = "El tipo de membresía debe ser BASIC, PREMIUM o VIP")
+    private String membershipType;
+
+    private Boolean isActive;
+
+    // Membresías que vencen antes de esta fecha (exclusiva), formato yyyy-MM-dd
+    private LocalDate endDateBefore;
+
+    // Membresías que vencen en esta fecha o después, formato yyyy-MM-dd
+    private LocalDate endDateFrom;
+
+    public boolean isEmpty() {
+        return membershipType == null && isActive == null && endDateBefore == null && endDateFrom == null;
+    }
+}
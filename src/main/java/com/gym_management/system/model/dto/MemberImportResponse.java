@@ -0,0 +1,40 @@
+package com.gym_management.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberImportResponse {
+
+    private long totalRows;
+
+    private long importedRows;
+
+    private long failedRows;
+
+    private long durationMillis;
+
+    // Detalle de las filas rechazadas, en orden de aparición en el archivo
+    private List<RowError> errors;
+
+    // true si hubo más filas rechazadas que las informadas en errors
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        // Ordinal de la fila de datos (1 = primera fila después del encabezado CSV)
+        private long row;
+
+        private String email;
+
+        private List<String> messages;
+    }
+}
@@ -1,9 +1,13 @@
 package com.gym_management.system.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -66,8 +70,9 @@ public class MemberResponse {
     /** Número de teléfono del miembro */
     private String phone;
     
-    /** Fecha de nacimiento del miembro (formato string) */
-    private String dateOfBirth;
+    /** Fecha de nacimiento del miembro (yyyy-MM-dd) */
+    @JsonSerialize(using = ToStringSerializer.class)
+    private LocalDate dateOfBirth;
     
     /** Edad calculada basada en la fecha de nacimiento */
     private Integer age;
@@ -87,11 +92,13 @@ public class MemberResponse {
     /** Tipo de membresía (BASIC, PREMIUM, VIP) */
     private String membershipType;
     
-    /** Fecha de inicio de la membresía */
-    private String startDate;
+    /** Fecha de inicio de la membresía (yyyy-MM-dd) */
+    @JsonSerialize(using = ToStringSerializer.class)
+    private LocalDate startDate;
     
-    /** Fecha de fin de la membresía */
-    private String endDate;
+    /** Fecha de fin de la membresía (yyyy-MM-dd) */
+    @JsonSerialize(using = ToStringSerializer.class)
+    private LocalDate endDate;
     
     /** Notas adicionales sobre el miembro */
     private String notes;
@@ -110,4 +117,8 @@ public class MemberResponse {
     
     /** Timestamp de última actualización del registro */
     private LocalDateTime updatedAt;
+    
+    /** Versión para bloqueo optimista; viaja en el ETag, no en el cuerpo */
+    @JsonIgnore
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.gym_management.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembershipExpiryResponse {
+
+    // Vencen las membresías con endDate anterior a esta fecha
+    private LocalDate cutoffDate;
+
+    // Miembros desactivados en esta ejecución
+    private long expiredMembers;
+
+    private long chunks;
+
+    // true si la ejecución retomó un recorrido interrumpido de la misma fecha de corte
+    private boolean resumed;
+
+    // Activos vencidos que quedaron sin procesar (renovados o modificados durante la ejecución)
+    private long remainingExpired;
+
+    private long durationMillis;
+}
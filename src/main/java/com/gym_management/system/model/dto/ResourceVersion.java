@@ -0,0 +1,99 @@
+package com.gym_management.system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validadores HTTP de un recurso: ETag fuerte y fecha de última modificación.
+ *
+ * <p>Se calculan a partir de consultas livianas (solo la marca de tiempo, la marca máxima para las
+ * colecciones, más el conteo si admiten bajas físicas), de modo que un {@code 304 Not Modified} se responde sin
+ * cargar entidades ni serializar el cuerpo.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceVersion {
+
+    // ETag fuerte, ya entre comillas
+    private String eTag;
+
+    // Epoch en milisegundos; -1 si no hay fecha (colección vacía)
+    private long lastModified;
+
+    /**
+     * Versión de un único recurso: id más la marca de la última modificación
+     */
+    public static ResourceVersion of(String resource, Long id, LocalDateTime lastModified) {
+        long millis = toEpochMillis(lastModified);
+        return new ResourceVersion("\"" + resource + "-" + id + "-" + millis + "\"", millis);
+    }
+
+    /**
+     * Versión de un único recurso con bloqueo optimista: id más su columna {@code @Version}.
+     * A diferencia de la marca de tiempo, la versión cambia en cada modificación confirmada aunque
+     * dos ocurran en el mismo milisegundo, y permite validar un {@code If-Match}.
+     */
+    public static ResourceVersion ofVersion(String resource, Long id, Long version, LocalDateTime lastModified) {
+        return new ResourceVersion("\"" + resource + "-" + id + "-v" + version + "\"", toEpochMillis(lastModified));
+    }
+
+    /**
+     * Extraer la versión de un ETag generado por {@link #ofVersion}, con o sin el sufijo de
+     * {@link #changingDaily}.
+     *
+     * @return La versión, o {@code null} si el ETag no corresponde a ese recurso e id.
+     */
+    public static Long versionOf(String eTag, String resource, Long id) {
+        String prefix = "\"" + resource + "-" + id + "-v";
+        if (eTag == null || !eTag.startsWith(prefix) || !eTag.endsWith("\"")) {
+            return null;
+        }
+        int end = prefix.length();
+        while (end < eTag.length() && Character.isDigit(eTag.charAt(end))) {
+            end++;
+        }
+        if (end == prefix.length() || end - prefix.length() > 18
+                || (eTag.charAt(end) != '-' && end != eTag.length() - 1)) {
+            return null;
+        }
+        return Long.parseLong(eTag.substring(prefix.length(), end));
+    }
+
+    /**
+     * Versión de una colección sin bajas físicas: basta la marca de la modificación más reciente,
+     * que una consulta sobre un índice resuelve sin recorrer la tabla.
+     */
+    public static ResourceVersion ofCollection(String resource, LocalDateTime lastModified) {
+        long millis = toEpochMillis(lastModified);
+        return new ResourceVersion("\"" + resource + "-" + millis + "\"", millis);
+    }
+
+    /**
+     * Versión de una colección: cantidad de filas más la marca de la modificación más reciente.
+     * El conteo detecta bajas físicas, que no dejan marca de tiempo.
+     */
+    public static ResourceVersion ofCollection(String resource, long count, LocalDateTime lastModified) {
+        long millis = toEpochMillis(lastModified);
+        return new ResourceVersion("\"" + resource + "-" + count + "-" + millis + "\"", millis);
+    }
+
+    /**
+     * Versión de una representación que además cambia con la fecha (por ejemplo, la edad calculada
+     * de los miembros): el día forma parte del ETag y Last-Modified nunca es anterior a su inicio.
+     */
+    public ResourceVersion changingDaily(LocalDate today) {
+        String dailyETag = eTag.substring(0, eTag.length() - 1) + "-" + today.toEpochDay() + "\"";
+        long startOfDay = today.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new ResourceVersion(dailyETag, Math.max(lastModified, startOfDay));
+    }
+
+    private static long toEpochMillis(LocalDateTime value) {
+        return value == null ? -1 : value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
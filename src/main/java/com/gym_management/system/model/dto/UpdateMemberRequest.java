@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +24,8 @@ public class UpdateMemberRequest {
     @Pattern(regexp = "^\\+?[1-9]\\d{1,14}$", message = "El formato del teléfono no es válido")
     private String phone;
     
-    private String dateOfBirth;
+    @Past(message = "La fecha de nacimiento debe ser anterior a hoy")
+    private LocalDate dateOfBirth;
     
     @Pattern(regexp = "^(MALE|FEMALE|OTHER)$", message = "El género debe ser MALE, FEMALE u OTHER")
     private String gender;
@@ -39,9 +42,9 @@ public class UpdateMemberRequest {
     @Pattern(regexp = "^(BASIC|PREMIUM|VIP)$", message = "El tipo de membresía debe ser BASIC, PREMIUM o VIP")
     private String membershipType;
     
-    private String startDate;
+    private LocalDate startDate;
     
-    private String endDate;
+    private LocalDate endDate;
     
     @Size(max = 500, message = "Las notas no deben exceder 500 caracteres")
     private String notes;
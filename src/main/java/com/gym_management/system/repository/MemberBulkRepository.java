@@ -0,0 +1,30 @@
+package com.gym_management.system.repository;
+
+import com.gym_management.system.model.dto.MemberFilter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Fragmento de repositorio para modificaciones masivas de miembros con una sola sentencia UPDATE.
+ *
+ * <p>La selección es una lista de ids, un {@link MemberFilter} o ambos (combinados con AND).
+ * Solo se consideran las filas cuyo valor cambia: las que ya tienen el estado o el tipo pedido
+ * no se cuentan ni se actualizan. Un parámetro de cambio null significa "no modificar".</p>
+ */
+public interface MemberBulkRepository {
+
+    /**
+     * Contar por (isActive, membershipType, gender) las filas que cambiaría {@link #updateMembers}
+     */
+    List<Object[]> countGroupedForChange(Collection<Long> ids, MemberFilter filter, Boolean active, String membershipType);
+
+    /**
+     * Cambiar estado y/o tipo de membresía de las filas seleccionadas, fijando updatedAt
+     *
+     * @return Cantidad de filas modificadas
+     */
+    int updateMembers(Collection<Long> ids, MemberFilter filter, Boolean active, String membershipType,
+                      LocalDateTime updatedAt);
+}
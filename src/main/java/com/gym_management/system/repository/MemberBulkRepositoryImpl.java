@@ -0,0 +1,111 @@
+package com.gym_management.system.repository;
+
+import com.gym_management.system.model.dto.MemberFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Implementación de las modificaciones masivas con JPQL armado a partir de la selección.
+ *
+ * <p>El UPDATE masivo no pasa por el contexto de persistencia, por eso antes de ejecutarlo se
+ * vuelcan los cambios pendientes de la transacción.</p>
+ */
+class MemberBulkRepositoryImpl implements MemberBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> countGroupedForChange(Collection<Long> ids, MemberFilter filter, Boolean active,
+                                                String membershipType) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String where = where(ids, filter, active, membershipType, parameters);
+        Query query = entityManager.createQuery(
+                "SELECT m.isActive, m.membershipType, m.gender, COUNT(m) FROM Member m WHERE " + where +
+                " GROUP BY m.isActive, m.membershipType, m.gender");
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public int updateMembers(Collection<Long> ids, MemberFilter filter, Boolean active, String membershipType,
+                             LocalDateTime updatedAt) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String where = where(ids, filter, active, membershipType, parameters);
+
+        StringJoiner set = new StringJoiner(", ");
+        set.add("m.updatedAt = :updatedAt");
+        // El UPDATE masivo no pasa por Hibernate: la versión se incrementa a mano para que las
+        // ediciones abiertas sobre estas filas detecten el cambio
+        set.add("m.version = m.version + 1");
+        parameters.put("updatedAt", updatedAt);
+        if (active != null) {
+            set.add("m.isActive = :newActive");
+            parameters.put("newActive", active);
+        }
+        if (membershipType != null) {
+            set.add("m.membershipType = :newMembershipType");
+            parameters.put("newMembershipType", membershipType);
+        }
+
+        entityManager.flush();
+        Query query = entityManager.createQuery("UPDATE Member m SET " + set + " WHERE " + where);
+        parameters.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    private static String where(Collection<Long> ids, MemberFilter filter, Boolean active, String membershipType,
+                                Map<String, Object> parameters) {
+        StringJoiner where = new StringJoiner(" AND ");
+        if (ids != null && !ids.isEmpty()) {
+            where.add("m.id IN :ids");
+            parameters.put("ids", ids);
+        }
+        if (filter != null) {
+            if (filter.getMembershipType() != null) {
+                where.add("m.membershipType = :membershipType");
+                parameters.put("membershipType", filter.getMembershipType());
+            }
+            if (filter.getIsActive() != null) {
+                where.add("m.isActive = :isActive");
+                parameters.put("isActive", filter.getIsActive());
+            }
+            if (filter.getEndDateBefore() != null) {
+                where.add("m.endDate < :endDateBefore");
+                parameters.put("endDateBefore", filter.getEndDateBefore());
+            }
+            if (filter.getEndDateFrom() != null) {
+                where.add("m.endDate >= :endDateFrom");
+                parameters.put("endDateFrom", filter.getEndDateFrom());
+            }
+        }
+        if (where.length() == 0) {
+            // Sin selección no se modifica nada; el servicio ya rechaza este caso
+            throw new IllegalArgumentException("La operación masiva requiere ids o un filtro");
+        }
+
+        // Solo las filas cuyo valor cambia
+        StringJoiner change = new StringJoiner(" OR ", "(", ")");
+        if (active != null) {
+            change.add("m.isActive <> :changeActive");
+            parameters.put("changeActive", active);
+        }
+        if (membershipType != null) {
+            change.add("m.membershipType <> :changeMembershipType");
+            parameters.put("changeMembershipType", membershipType);
+        }
+        if (active != null || membershipType != null) {
+            where.add(change.toString());
+        }
+        return where.toString();
+    }
+}
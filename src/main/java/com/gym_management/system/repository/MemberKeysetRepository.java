@@ -0,0 +1,36 @@
+package com.gym_management.system.repository;
+
+import com.gym_management.system.model.Member;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fragmento de repositorio para paginación por keyset (seek) de miembros.
+ */
+public interface MemberKeysetRepository {
+
+    /**
+     * Campos de orden permitidos: todos tienen un índice (campo, id) que soporta el seek. Los nombres
+     * se interpolan en el JPQL, por eso no se acepta ningún otro. Los listados proyectados por offset
+     * validan contra la misma lista
+     */
+    Set<String> SORTABLE_FIELDS = Set.of(
+            "id", "firstName", "lastName", "email", "createdAt", "startDate", "endDate");
+
+    /**
+     * Obtener hasta {@code limit} miembros ordenados por (sortBy, id) que vienen después de
+     * (lastValue, lastId) en la dirección indicada. Con {@code lastId} null retorna la primera página.
+     */
+    List<Member> findPageAfter(String sortBy, Sort.Direction direction, Object lastValue, Long lastId, int limit);
+
+    /**
+     * Igual que {@link #findPageAfter}, pero seleccionando solo los atributos indicados; cada
+     * elemento de la tupla lleva como alias el nombre del atributo
+     */
+    List<Tuple> findPageAfterProjected(Collection<String> attributes, String sortBy, Sort.Direction direction,
+                                       Object lastValue, Long lastId, int limit);
+}
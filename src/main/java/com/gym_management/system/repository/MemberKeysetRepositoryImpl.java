@@ -0,0 +1,73 @@
+package com.gym_management.system.repository;
+
+import com.gym_management.system.model.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Implementación del seek con comparación de tuplas {@code (campo, id) > (:valor, :id)}.
+ *
+ * <p>La comparación de tuplas permite que MySQL resuelva la página con un rango sobre el índice
+ * compuesto (campo, id); la forma expandida con OR que genera Spring Data no aprovecha el índice
+ * y degrada con la profundidad.</p>
+ */
+class MemberKeysetRepositoryImpl implements MemberKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Member> findPageAfter(String sortBy, Sort.Direction direction, Object lastValue, Long lastId, int limit) {
+        return pageQuery("m", Member.class, sortBy, direction, lastValue, lastId, limit).getResultList();
+    }
+
+    @Override
+    public List<Tuple> findPageAfterProjected(Collection<String> attributes, String sortBy, Sort.Direction direction,
+                                              Object lastValue, Long lastId, int limit) {
+        EntityType<Member> entity = entityManager.getMetamodel().entity(Member.class);
+        StringJoiner select = new StringJoiner(", ");
+        for (String attribute : attributes) {
+            // Lanza IllegalArgumentException si el atributo no existe en la entidad
+            entity.getAttribute(attribute);
+            select.add("m." + attribute + " AS " + attribute);
+        }
+        return pageQuery(select.toString(), Tuple.class, sortBy, direction, lastValue, lastId, limit).getResultList();
+    }
+
+    private <T> TypedQuery<T> pageQuery(String select, Class<T> resultType, String sortBy, Sort.Direction direction,
+                                        Object lastValue, Long lastId, int limit) {
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException("Campo de orden no soportado: " + sortBy);
+        }
+        boolean byIdOnly = "id".equals(sortBy);
+        String order = direction.isAscending() ? "ASC" : "DESC";
+        String comparator = direction.isAscending() ? ">" : "<";
+
+        StringBuilder jpql = new StringBuilder("SELECT " + select + " FROM Member m");
+        if (lastId != null) {
+            jpql.append(byIdOnly
+                    ? " WHERE m.id " + comparator + " :lastId"
+                    : " WHERE (m." + sortBy + ", m.id) " + comparator + " (:lastValue, :lastId)");
+        }
+        jpql.append(byIdOnly
+                ? " ORDER BY m.id " + order
+                : " ORDER BY m." + sortBy + " " + order + ", m.id " + order);
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), resultType);
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+            if (!byIdOnly) {
+                query.setParameter("lastValue", lastValue);
+            }
+        }
+        return query.setMaxResults(limit);
+    }
+}
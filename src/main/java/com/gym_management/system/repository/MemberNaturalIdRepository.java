@@ -0,0 +1,17 @@
+package com.gym_management.system.repository;
+
+import com.gym_management.system.model.Member;
+
+import java.util.Optional;
+
+/**
+ * Fragmento de repositorio para buscar miembros por su identificador natural (email).
+ */
+public interface MemberNaturalIdRepository {
+
+    /**
+     * Buscar por email resolviendo el id con la caché de identificadores naturales y cargando la
+     * entidad desde la caché de segundo nivel; sin caché equivale a {@code findByEmail}
+     */
+    Optional<Member> findByEmailNaturalId(String email);
+}
@@ -0,0 +1,19 @@
+package com.gym_management.system.repository;
+
+import com.gym_management.system.model.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+class MemberNaturalIdRepositoryImpl implements MemberNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Member> findByEmailNaturalId(String email) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Member.class).loadOptional(email);
+    }
+}
@@ -0,0 +1,26 @@
+package com.gym_management.system.repository;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Fragmento de repositorio para consultas de miembros que seleccionan solo algunos atributos.
+ *
+ * <p>Cada elemento de la tupla lleva como alias el nombre del atributo de la entidad. Los
+ * atributos se validan contra el metamodelo JPA; uno desconocido produce
+ * {@link IllegalArgumentException}.</p>
+ */
+public interface MemberProjectionRepository {
+
+    Page<Tuple> findAllProjected(Collection<String> attributes, Pageable pageable);
+
+    List<Tuple> findActiveProjected(Collection<String> attributes);
+
+    List<Tuple> findProjectedByIdIn(Collection<String> attributes, Collection<Long> ids);
+
+    List<Tuple> findProjectedByNameContaining(Collection<String> attributes, String searchTerm);
+}
@@ -0,0 +1,92 @@
+package com.gym_management.system.repository;
+
+import com.gym_management.system.model.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Implementación con Criteria API: el SELECT contiene solo las columnas pedidas, sin cargar
+ * entidades en el contexto de persistencia.
+ */
+class MemberProjectionRepositoryImpl implements MemberProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Tuple> findAllProjected(Collection<String> attributes, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Member> root = query.from(Member.class);
+        query.multiselect(selections(root, attributes));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Tuple> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        countQuery.select(cb.count(countQuery.from(Member.class)));
+        long total = entityManager.createQuery(countQuery).getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public List<Tuple> findActiveProjected(Collection<String> attributes) {
+        return findWhere(attributes, (cb, root) -> cb.isTrue(root.get("isActive")));
+    }
+
+    @Override
+    public List<Tuple> findProjectedByIdIn(Collection<String> attributes, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return findWhere(attributes, (cb, root) -> root.get("id").in(ids));
+    }
+
+    @Override
+    public List<Tuple> findProjectedByNameContaining(Collection<String> attributes, String searchTerm) {
+        return findWhere(attributes, (cb, root) -> {
+            String pattern = "%" + (searchTerm == null ? "" : searchTerm.toLowerCase()) + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("firstName")), pattern),
+                    cb.like(cb.lower(root.get("lastName")), pattern));
+        });
+    }
+
+    private List<Tuple> findWhere(Collection<String> attributes,
+                                  BiFunction<CriteriaBuilder, Root<Member>, Predicate> restriction) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Member> root = query.from(Member.class);
+        query.multiselect(selections(root, attributes))
+                .where(restriction.apply(cb, root))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private static List<Selection<?>> selections(Root<Member> root, Collection<String> attributes) {
+        List<Selection<?>> selections = new ArrayList<>(attributes.size());
+        for (String attribute : attributes) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        return selections;
+    }
+}
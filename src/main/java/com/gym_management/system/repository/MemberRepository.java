@@ -1,18 +1,29 @@
 package com.gym_management.system.repository;
 
 import com.gym_management.system.model.Member;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberKeysetRepository, MemberProjectionRepository,
+        MemberBulkRepository, MemberNaturalIdRepository {
     
     // Buscar por email (debe ser único)
     Optional<Member> findByEmail(String email);
@@ -20,6 +31,10 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // Verificar si existe un email (útil para validaciones)
     boolean existsByEmail(String email);
     
+    // Emails de la lista que ya están registrados (una consulta por lote en la importación masiva)
+    @Query("SELECT m.email FROM Member m WHERE m.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
     // Verificar si existe un email excluyendo un ID específico (para actualizaciones)
     boolean existsByEmailAndIdNot(String email, Long id);
     
@@ -44,9 +59,69 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
            "LOWER(m.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<Member> findByNameContaining(@Param("searchTerm") String searchTerm, Pageable pageable);
     
+    // Streaming de miembros activos: se lee por bloques del cursor JDBC, sin cargar la lista completa
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT m FROM Member m WHERE m.isActive = true ORDER BY m.id")
+    Stream<Member> streamActiveMembers();
+    
+    // Streaming de la búsqueda por nombre o apellido
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT m FROM Member m WHERE " +
+           "LOWER(m.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(m.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "ORDER BY m.id")
+    Stream<Member> streamByNameContaining(@Param("searchTerm") String searchTerm);
+    
+    // Rangos de fechas: cada uno se resuelve con el índice (fecha, id) correspondiente
+    Page<Member> findByEndDateBetween(LocalDate from, LocalDate to, Pageable pageable);
+    
+    Page<Member> findByStartDateBetween(LocalDate from, LocalDate to, Pageable pageable);
+    
+    Page<Member> findByDateOfBirthBetween(LocalDate from, LocalDate to, Pageable pageable);
+    
+    // Vencimientos pendientes en orden (endDate, id), por bloques; el índice (is_active, end_date, id) los cubre
+    @Query("SELECT m.id, m.endDate FROM Member m WHERE m.isActive = true AND m.endDate < :today " +
+           "ORDER BY m.endDate, m.id")
+    List<Object[]> findExpiredChunk(@Param("today") LocalDate today, Pageable pageable);
+    
+    // Siguiente bloque de vencimientos a partir del último (endDate, id) procesado
+    @Query("SELECT m.id, m.endDate FROM Member m WHERE m.isActive = true AND m.endDate < :today " +
+           "AND (m.endDate > :lastEndDate OR (m.endDate = :lastEndDate AND m.id > :lastId)) " +
+           "ORDER BY m.endDate, m.id")
+    List<Object[]> findExpiredChunkAfter(@Param("today") LocalDate today, @Param("lastEndDate") LocalDate lastEndDate,
+                                        @Param("lastId") Long lastId, Pageable pageable);
+    
+    // Conteo y vencimiento más antiguo de los activos vencidos (backlog y demora del job de vencimientos)
+    @Query("SELECT COUNT(m), MIN(m.endDate) FROM Member m WHERE m.isActive = true AND m.endDate < :today")
+    List<Object[]> countAndOldestExpired(@Param("today") LocalDate today);
+    
     // Buscar por teléfono
     Optional<Member> findByPhone(String phone);
     
+    // Conteo agregado por estado, tipo de membresía y género: una sola consulta para todas las estadísticas
+    @Query("SELECT m.isActive, m.membershipType, m.gender, COUNT(m) FROM Member m " +
+           "GROUP BY m.isActive, m.membershipType, m.gender")
+    List<Object[]> countGroupedByStatusAndTypeAndGender();
+    
+    // Versión y marca de la última modificación, sin cargar la entidad (ETag / Last-Modified / If-Match)
+    @Query("SELECT m.version, m.updatedAt FROM Member m WHERE m.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+    
+    @Query("SELECT m.id, m.version, m.updatedAt FROM Member m WHERE m.email = :email")
+    List<Object[]> findVersionByEmail(@Param("email") String email);
+    
+    // Modificación más reciente de toda la tabla: versión de los listados (resuelta con idx_members_updated_at)
+    @Query("SELECT MAX(m.updatedAt) FROM Member m")
+    LocalDateTime findMaxUpdatedAt();
+    
     // Contar miembros activos
     long countByIsActiveTrue();
     
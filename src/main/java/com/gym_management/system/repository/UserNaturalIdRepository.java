@@ -0,0 +1,17 @@
+package com.gym_management.system.repository;
+
+import com.gym_management.system.model.User;
+
+import java.util.Optional;
+
+/**
+ * Fragmento de repositorio para buscar usuarios por su identificador natural (username).
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * Buscar por username resolviendo el id con la caché de identificadores naturales y cargando
+     * la entidad desde la caché de segundo nivel; sin caché equivale a {@code findByUsername}
+     */
+    Optional<User> findByUsernameNaturalId(String username);
+}
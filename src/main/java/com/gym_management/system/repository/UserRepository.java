@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
     
     Optional<User> findByUsername(String username);
     
@@ -24,6 +24,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     List<User> findByIsActive(Boolean isActive);
     
+    // Id, marca de modificación y último login, sin cargar la entidad (validación de ETag / Last-Modified)
+    @Query("SELECT u.id, u.updatedAt, u.lastLogin FROM User u WHERE u.id = :id")
+    List<Object[]> findTimestampsById(@Param("id") Long id);
+    
+    @Query("SELECT u.id, u.updatedAt, u.lastLogin FROM User u WHERE u.username = :username")
+    List<Object[]> findTimestampsByUsername(@Param("username") String username);
+    
+    @Query("SELECT u.id, u.updatedAt, u.lastLogin FROM User u WHERE u.email = :email")
+    List<Object[]> findTimestampsByEmail(@Param("email") String email);
+    
+    @Query("SELECT COUNT(u), MAX(u.updatedAt), MAX(u.lastLogin) FROM User u")
+    List<Object[]> countAndMaxTimestamps();
+    
     @Query("SELECT u FROM User u WHERE u.isActive = true")
     List<User> findAllActiveUsers();
     
@@ -0,0 +1,223 @@
+package com.gym_management.system.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * Base de los índices de búsqueda por entidad: construcción al arrancar, reconstrucción periódica,
+ * actualización tras el commit y métricas.
+ *
+ * <p>El índice se construye leyendo la tabla por JDBC al recibir {@link ApplicationReadyEvent};
+ * hasta entonces {@link #isReady()} es false y los servicios usan la consulta LIKE original. Los
+ * servicios notifican altas, cambios y bajas con {@link #index(long, String...)} y
+ * {@link #remove(long)}; dentro de una transacción el cambio se aplica después del commit, así
+ * un rollback no deja el índice desalineado.</p>
+ *
+ * <p>Durante una reconstrucción los cambios se aplican también al índice nuevo y sus ids se
+ * registran, para que una fila leída antes del cambio no pise el valor más reciente.</p>
+ *
+ * <p><strong>Nota:</strong> el índice es local a cada instancia; los cambios hechos por otras
+ * réplicas o directamente en la base de datos se incorporan en la siguiente reconstrucción.</p>
+ */
+@Slf4j
+public abstract class EntitySearchIndex {
+
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxResults;
+    private final Timer searchTimer;
+
+    private volatile TrigramIndex current;
+    private TrigramIndex building;
+    private final Set<Long> touchedWhileBuilding = new HashSet<>();
+    // Lock explícito en lugar de synchronized: no abarca ninguna consulta (se toma por fila dentro del
+    // callback), pero apply() espera con él tomado el write lock de TrigramIndex mientras hay búsquedas
+    // leyendo, y dentro de un synchronized esa espera fija el hilo portador de un hilo virtual (Java 21)
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    protected EntitySearchIndex(String name, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, int maxResults) {
+        this.name = name;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxResults = maxResults;
+
+        Gauge.builder("search.index.documents", this, index -> index.stat(TrigramIndex::documentCount))
+                .description("Documentos en el índice de búsqueda")
+                .tag("index", name)
+                .register(meterRegistry);
+        Gauge.builder("search.index.trigrams", this, index -> index.stat(TrigramIndex::trigramCount))
+                .description("Trigramas distintos en el índice de búsqueda")
+                .tag("index", name)
+                .register(meterRegistry);
+        Gauge.builder("search.index.memory", this, index -> index.stat(TrigramIndex::estimatedBytes))
+                .description("Memoria estimada del índice de búsqueda")
+                .baseUnit("bytes")
+                .tag("index", name)
+                .register(meterRegistry);
+        this.searchTimer = Timer.builder("search.index.query")
+                .description("Duración de las búsquedas en el índice")
+                .tag("index", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consulta SQL que devuelve el id en la primera columna y los campos indexados a continuación,
+     * ordenada por id
+     */
+    protected abstract String loadSql();
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /**
+     * Buscar ids por calidad de coincidencia, hasta el máximo de resultados configurado
+     */
+    public List<Long> search(String query) {
+        TrigramIndex index = current;
+        if (index == null) {
+            return List.of();
+        }
+        return searchTimer.record(() -> index.search(query, maxResults));
+    }
+
+    /**
+     * Agregar o reemplazar un documento, después del commit si hay una transacción activa
+     */
+    public void index(long id, String... fields) {
+        afterCommit(() -> apply(id, fields));
+    }
+
+    public void remove(long id) {
+        afterCommit(() -> apply(id, null));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reconstruir el índice completo desde la base de datos y reemplazar el actual
+     */
+    @Scheduled(initialDelayString = "${search.index.rebuild-interval:600000}",
+            fixedDelayString = "${search.index.rebuild-interval:600000}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.debug("Reconstrucción del índice '{}' ya en curso", name);
+            return;
+        }
+        try {
+            doRebuild();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void doRebuild() {
+        long start = System.currentTimeMillis();
+        TrigramIndex fresh = new TrigramIndex();
+        buildLock.lock();
+        try {
+            building = fresh;
+            touchedWhileBuilding.clear();
+        } finally {
+            buildLock.unlock();
+        }
+        try {
+            jdbcTemplate.query(loadSql(), resultSet -> {
+                long id = resultSet.getLong(1);
+                int columns = resultSet.getMetaData().getColumnCount();
+                String[] fields = new String[columns - 1];
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = resultSet.getString(i + 2);
+                }
+                buildLock.lock();
+                try {
+                    if (!touchedWhileBuilding.contains(id)) {
+                        fresh.put(id, fields);
+                    }
+                } finally {
+                    buildLock.unlock();
+                }
+            });
+            buildLock.lock();
+            try {
+                current = fresh;
+                building = null;
+                touchedWhileBuilding.clear();
+            } finally {
+                buildLock.unlock();
+            }
+            log.info("Índice de búsqueda '{}' construido: {} documentos, {} trigramas, ~{} KB en {} ms",
+                    name, fresh.documentCount(), fresh.trigramCount(), fresh.estimatedBytes() / 1024,
+                    System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            buildLock.lock();
+            try {
+                building = null;
+                touchedWhileBuilding.clear();
+            } finally {
+                buildLock.unlock();
+            }
+            log.error("Error construyendo el índice de búsqueda '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private void apply(long id, String[] fields) {
+        buildLock.lock();
+        try {
+            TrigramIndex index = current;
+            if (index != null) {
+                putOrRemove(index, id, fields);
+            }
+            if (building != null) {
+                putOrRemove(building, id, fields);
+                touchedWhileBuilding.add(id);
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private static void putOrRemove(TrigramIndex index, long id, String[] fields) {
+        if (fields == null) {
+            index.remove(id);
+        } else {
+            index.put(id, fields);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private double stat(ToLongFunction<TrigramIndex> metric) {
+        TrigramIndex index = current;
+        return index == null ? 0 : metric.applyAsLong(index);
+    }
+}
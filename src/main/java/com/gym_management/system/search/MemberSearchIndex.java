@@ -0,0 +1,30 @@
+package com.gym_management.system.search;
+
+import com.gym_management.system.model.Member;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice de búsqueda de miembros por nombre, apellido, email y teléfono.
+ */
+@Component
+public class MemberSearchIndex extends EntitySearchIndex {
+
+    public MemberSearchIndex(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${search.index.max-results:200}") int maxResults) {
+        super("members", jdbcTemplate, meterRegistry, maxResults);
+    }
+
+    @Override
+    protected String loadSql() {
+        return "SELECT id, first_name, last_name, email, phone FROM members ORDER BY id";
+    }
+
+    public void index(Member member) {
+        index(member.getId(), member.getFirstName(), member.getLastName(), member.getEmail(), member.getPhone());
+    }
+}
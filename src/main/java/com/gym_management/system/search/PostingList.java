@@ -0,0 +1,76 @@
+package com.gym_management.system.search;
+
+import java.util.Arrays;
+
+/**
+ * Lista ordenada de ids sin duplicados, sobre un arreglo de enteros primitivos.
+ *
+ * <p>Los ids se cargan en orden creciente al construir el índice, por lo que las inserciones
+ * iniciales son agregados al final; solo las altas posteriores desplazan elementos.</p>
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void add(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * Primera posición desde {@code from} cuyo id es mayor o igual a {@code id}, avanzando con
+     * saltos exponenciales; las intersecciones recorren los ids en orden creciente
+     */
+    int advance(int from, int id) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < size && ids[high] < id) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        int position = Arrays.binarySearch(ids, low, Math.min(high, size - 1) + 1, id);
+        return position >= 0 ? position : Math.min(-position - 1, size);
+    }
+
+    int get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Bytes aproximados ocupados en el heap (encabezados más el arreglo reservado)
+     */
+    long estimatedBytes() {
+        return 24L + 16L + 4L * ids.length;
+    }
+}
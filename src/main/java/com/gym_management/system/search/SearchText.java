@@ -0,0 +1,46 @@
+package com.gym_management.system.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización de texto para búsqueda: minúsculas, sin acentos y con espacios colapsados.
+ *
+ * <p>"José Peña" y "jose pena" producen la misma forma normalizada, de modo que la búsqueda no
+ * depende de cómo el usuario escriba tildes o eñes.</p>
+ */
+public final class SearchText {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SearchText() {
+    }
+
+    /**
+     * Normalizar un texto; null se trata como texto vacío
+     */
+    public static String fold(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String withoutMarks = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(withoutMarks.toLowerCase()).replaceAll(" ").trim();
+    }
+
+    /**
+     * Separar un texto ya normalizado en palabras
+     */
+    public static List<String> tokens(String folded) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : folded.split(" ")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
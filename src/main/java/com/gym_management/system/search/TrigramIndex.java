@@ -0,0 +1,276 @@
+package com.gym_management.system.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido de trigramas en memoria para búsqueda por palabra y por subcadena.
+ *
+ * <p>Cada documento es un id con varios campos de texto, que se normalizan con
+ * {@link SearchText#fold(String)}. Cada palabra se indexa rodeada de espacios
+ * ({@code "  palabra "}), por lo que existen trigramas de inicio y de fin de palabra. Una
+ * consulta se divide en palabras y todas deben aparecer en el documento.</p>
+ *
+ * <p>Los resultados se ordenan por calidad de coincidencia, tomando la peor de las palabras de
+ * la consulta:</p>
+ * <ol>
+ *   <li>palabra completa ("jose" en "María José")</li>
+ *   <li>inicio de palabra ("jose" en "Josefina")</li>
+ *   <li>subcadena ("osef" en "Josefina"); solo para palabras de 3 o más caracteres</li>
+ * </ol>
+ * <p>A igual calidad, por id. Cada nivel tiene su propio conjunto de trigramas y el conjunto de un
+ * nivel incluye al del siguiente, así que los niveles se recorren en orden intersectando listas de
+ * ids y la búsqueda termina apenas se reúne el límite, sin evaluar el resto de coincidencias.</p>
+ *
+ * <p>Es seguro para uso concurrente: las búsquedas comparten un lock de lectura y las
+ * modificaciones toman el de escritura.</p>
+ */
+public class TrigramIndex {
+
+    private static final int RANK_WORD = 0;
+    private static final int RANK_WORD_PREFIX = 1;
+    private static final int RANK_SUBSTRING = 2;
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    // Texto normalizado de cada documento: los campos unidos por espacios, con un espacio al inicio y al final
+    private final Map<Integer, String> documents = new HashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Agregar o reemplazar un documento
+     *
+     * @throws IllegalArgumentException si el id no entra en un int
+     */
+    public void put(long id, String... fields) {
+        int key = toKey(id);
+        StringBuilder text = new StringBuilder(" ");
+        for (String field : fields) {
+            String folded = SearchText.fold(field);
+            if (!folded.isEmpty()) {
+                text.append(folded).append(' ');
+            }
+        }
+        String document = text.toString();
+        Set<String> trigrams = documentTrigrams(document);
+
+        lock.writeLock().lock();
+        try {
+            String previous = documents.put(key, document);
+            if (previous != null) {
+                removePostings(key, documentTrigrams(previous));
+            }
+            for (String trigram : trigrams) {
+                postings.computeIfAbsent(trigram, ignored -> new PostingList()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        int key = toKey(id);
+        lock.writeLock().lock();
+        try {
+            String previous = documents.remove(key);
+            if (previous != null) {
+                removePostings(key, documentTrigrams(previous));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Buscar documentos que contengan todas las palabras de la consulta
+     *
+     * @return ids ordenados por calidad de coincidencia, como máximo {@code limit}
+     */
+    public List<Long> search(String query, int limit) {
+        List<Term> terms = SearchText.tokens(SearchText.fold(query)).stream().map(Term::new).toList();
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Long> results = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int rank = RANK_WORD; rank <= RANK_SUBSTRING && results.size() < limit; rank++) {
+                collect(terms, rank, limit, results);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimación del heap ocupado por el índice, contando entradas de mapas, claves, listas de ids
+     * y el texto normalizado de cada documento
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                bytes += 32L + stringBytes(entry.getKey()) + entry.getValue().estimatedBytes();
+            }
+            for (String document : documents.values()) {
+                bytes += 32L + 16L + stringBytes(document);
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Agregar, en orden de id, los documentos cuya peor palabra coincide exactamente con el nivel
+     * indicado; los de un nivel mejor ya fueron agregados en una pasada anterior
+     */
+    private void collect(List<Term> terms, int rank, int limit, List<Long> results) {
+        List<PostingList> lists = new ArrayList<>();
+        for (Term term : terms) {
+            Set<String> trigrams = queryTrigrams(term.text(), rank);
+            if (trigrams.isEmpty()) {
+                return;
+            }
+            for (String trigram : trigrams) {
+                PostingList list = postings.get(trigram);
+                if (list == null) {
+                    return;
+                }
+                lists.add(list);
+            }
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList smallest = lists.get(0);
+        int[] cursors = new int[lists.size()];
+        for (int i = 0; i < smallest.size() && results.size() < limit; i++) {
+            int id = smallest.get(i);
+            if (containedInAll(id, lists, cursors) && rank(documents.get(id), terms) == rank) {
+                results.add((long) id);
+            }
+        }
+    }
+
+    private static boolean containedInAll(int id, List<PostingList> lists, int[] cursors) {
+        for (int i = 1; i < lists.size(); i++) {
+            PostingList list = lists.get(i);
+            cursors[i] = list.advance(cursors[i], id);
+            if (cursors[i] >= list.size() || list.get(cursors[i]) != id) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Peor calidad de coincidencia entre las palabras de la consulta, o {@link #NO_MATCH} si alguna
+     * no aparece (falso positivo de los trigramas)
+     */
+    private static int rank(String document, List<Term> terms) {
+        int worst = RANK_WORD;
+        for (Term term : terms) {
+            if (!document.contains(term.wordPrefix())) {
+                if (term.text().length() < 3 || !document.contains(term.text())) {
+                    return NO_MATCH;
+                }
+                worst = RANK_SUBSTRING;
+            } else if (!document.contains(term.word())) {
+                worst = Math.max(worst, RANK_WORD_PREFIX);
+            }
+        }
+        return worst;
+    }
+
+    private void removePostings(int id, Set<String> trigrams) {
+        for (String trigram : trigrams) {
+            PostingList list = postings.get(trigram);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> documentTrigrams(String document) {
+        Set<String> trigrams = new HashSet<>();
+        for (String token : SearchText.tokens(document.trim())) {
+            addTrigrams("  " + token + " ", trigrams);
+        }
+        return trigrams;
+    }
+
+    /**
+     * Trigramas que debe tener un documento para que el término coincida con la calidad indicada
+     */
+    private static Set<String> queryTrigrams(String term, int rank) {
+        Set<String> trigrams = new HashSet<>();
+        switch (rank) {
+            case RANK_WORD -> addTrigrams("  " + term + " ", trigrams);
+            case RANK_WORD_PREFIX -> addTrigrams("  " + term, trigrams);
+            default -> {
+                if (term.length() >= 3) {
+                    addTrigrams(term, trigrams);
+                }
+            }
+        }
+        return trigrams;
+    }
+
+    private static void addTrigrams(String text, Set<String> trigrams) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + 3));
+        }
+    }
+
+    private static int toKey(long id) {
+        if (id < 0 || id > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Id fuera de rango para el índice de búsqueda: " + id);
+        }
+        return (int) id;
+    }
+
+    /**
+     * Palabra de la consulta con los patrones de verificación precalculados
+     */
+    private record Term(String text, String wordPrefix, String word) {
+
+        Term(String text) {
+            this(text, " " + text, " " + text + " ");
+        }
+    }
+
+    private static long stringBytes(String value) {
+        return 24L + 16L + value.length();
+    }
+}
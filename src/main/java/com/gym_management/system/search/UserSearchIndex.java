@@ -0,0 +1,30 @@
+package com.gym_management.system.search;
+
+import com.gym_management.system.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice de búsqueda del personal por nombre, apellido, usuario, email y teléfono.
+ */
+@Component
+public class UserSearchIndex extends EntitySearchIndex {
+
+    public UserSearchIndex(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${search.index.max-results:200}") int maxResults) {
+        super("users", jdbcTemplate, meterRegistry, maxResults);
+    }
+
+    @Override
+    protected String loadSql() {
+        return "SELECT id, first_name, last_name, username, email, phone FROM users ORDER BY id";
+    }
+
+    public void index(User user) {
+        index(user.getId(), user.getFirstName(), user.getLastName(), user.getUsername(), user.getEmail(), user.getPhone());
+    }
+}
@@ -0,0 +1,93 @@
+package com.gym_management.system.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.SecurityFilterChain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Seguridad de los endpoints de actuator, separada de la cadena JWT de la API.
+ *
+ * <p>{@code health} e {@code info} son públicos (health checks de Railway y de los scripts). El resto,
+ * incluido {@code /actuator/prometheus}, exige HTTP Basic con la cuenta de scraping
+ * {@code metrics.scrape.username}/{@code metrics.scrape.password}: Prometheus no puede renovar un JWT.
+ * Sin contraseña configurada no se crea la cuenta y esos endpoints responden 401.</p>
+ */
+@Configuration
+@Slf4j
+public class ActuatorSecurityConfig {
+
+    static final String METRICS_ROLE = "METRICS";
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(
+            HttpSecurity http,
+            @Value("${metrics.scrape.username:prometheus}") String username,
+            @Value("${metrics.scrape.password:}") String password) throws Exception {
+
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .csrf(AbstractHttpConfigurer::disable)
+            .authorizeHttpRequests(authz -> authz
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class, InfoEndpoint.class)).permitAll()
+                .anyRequest().hasRole(METRICS_ROLE)
+            )
+            .httpBasic(Customizer.withDefaults())
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .authenticationManager(new ProviderManager(scrapeAuthenticationProvider(username, password)));
+
+        return http.build();
+    }
+
+    private static DaoAuthenticationProvider scrapeAuthenticationProvider(String username, String password) {
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager();
+        if (password.isBlank()) {
+            log.warn("metrics.scrape.password no está configurada: los endpoints de actuator salvo health e info quedan cerrados");
+        } else {
+            users.createUser(User.withUsername(username).password(password).roles(METRICS_ROLE).build());
+        }
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(users);
+        provider.setPasswordEncoder(new ConstantTimePasswordEncoder());
+        return provider;
+    }
+
+    /**
+     * Compara la contraseña de scraping en tiempo constante. No usa BCrypt: Prometheus se autentica en
+     * cada scrape y ocuparía el pool de hashing que comparten los logins.
+     */
+    private static final class ConstantTimePasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return MessageDigest.isEqual(rawPassword.toString().getBytes(StandardCharsets.UTF_8),
+                    encodedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.gym_management.system.security;
+
+import com.gym_management.system.model.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Principal autenticado que conserva la entidad {@link User} cargada durante la autenticación.
+ *
+ * <p>Lo produce {@link CustomUserDetailsService}, de modo que login, refresh y validación de tokens
+ * obtienen el usuario completo de la misma lectura que usó el proveedor de autenticación, sin
+ * volver a consultar la base de datos.</p>
+ */
+public class AuthenticatedUser implements UserDetails {
+
+    private final User user;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public AuthenticatedUser(User user) {
+        this.user = user;
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority(user.getRole()));
+    }
+
+    /**
+     * Obtener la entidad cargada durante la autenticación
+     */
+    public User getUser() {
+        return user;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return user.getPassword();
+    }
+
+    @Override
+    public String getUsername() {
+        return user.getUsername();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(user.getIsActive());
+    }
+}
@@ -4,14 +4,11 @@ import com.gym_management.system.model.User;
 import com.gym_management.system.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -36,14 +33,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         log.debug("Usuario cargado exitosamente: {} con rol: {}", username, user.getRole());
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities(Collections.singletonList(new SimpleGrantedAuthority(user.getRole())))
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(!user.getIsActive())
-                .build();
+        // El principal conserva la entidad para que quien autentica no tenga que releerla
+        return new AuthenticatedUser(user);
     }
 } 
\ No newline at end of file
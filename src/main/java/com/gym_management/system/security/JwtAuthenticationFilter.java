@@ -1,15 +1,19 @@
 package com.gym_management.system.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -17,6 +21,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 
 @Component
 @RequiredArgsConstructor
@@ -25,6 +30,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+
+    /**
+     * Construir el principal desde el claim "role" del token en lugar de consultar la tabla users
+     */
+    @Value("${jwt.stateless-principal.enabled:false}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(
@@ -48,17 +60,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
         
         try {
-            // Extraer username del token
-            username = jwtService.extractUsername(jwt);
+            // Verificar el token una sola vez y reutilizar sus claims
+            Claims claims = jwtService.parseToken(jwt);
+            username = claims.getSubject();
 
             // Si tenemos username y no hay autenticación en el contexto
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 
-                // Cargar detalles del usuario
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                // Cargar detalles del usuario (desde el token si el modo stateless está activo)
+                UserDetails userDetails = resolveUserDetails(claims);
 
                 // Validar token
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (userDetails == null) {
+                    log.warn("Token JWT revocado o usuario inactivo: {}", username);
+                } else if (jwtService.isTokenValid(claims, userDetails)) {
                     
                     // Crear token de autenticación
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -94,6 +109,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Resolver el principal del request. En modo stateless se arma desde los claims y se valida
+     * contra {@link UserStatusCache}; los tokens sin claim de rol usan la carga desde base de datos.
+     * Retorna null si el token fue revocado o el usuario ya no está habilitado.
+     */
+    private UserDetails resolveUserDetails(Claims claims) {
+        String role = claims.get("role", String.class);
+        if (!statelessPrincipal || role == null) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        if (!userStatusCache.isTokenAccepted(claims)) {
+            return null;
+        }
+        return User.withUsername(claims.getSubject())
+                .password("")
+                .authorities(Collections.singletonList(new SimpleGrantedAuthority(role)))
+                .build();
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
@@ -1,9 +1,14 @@
 package com.gym_management.system.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +18,7 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
@@ -28,6 +34,87 @@ public class JwtService {
     @Value("${jwt.refresh-expiration:604800000}") // 7 días en millisegundos  
     private long refreshExpiration;
 
+    @Value("${jwt.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    @Value("${jwt.cache.ttl:300000}") // 5 minutos en millisegundos
+    private long cacheTtl;
+
+    private SecretKey signInKey;
+
+    private JwtParser jwtParser;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this.cachedTimer = verificationTimer(meterRegistry, "hit", "valid");
+        this.verifiedTimer = verificationTimer(meterRegistry, "miss", "valid");
+        this.expiredTimer = verificationTimer(meterRegistry, "miss", "expired");
+        this.invalidTimer = verificationTimer(meterRegistry, "miss", "invalid");
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String cache, String result) {
+        return Timer.builder("jwt.verification")
+                .description("Duración de la verificación de tokens JWT")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Decodificar la clave y construir el parser una sola vez; ambos son inmutables y thread-safe
+     */
+    @PostConstruct
+    void init() {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parser().verifyWith(signInKey).build();
+        this.verifiedTokenCache = cacheEnabled ? new VerifiedTokenCache(cacheMaxSize, cacheTtl) : null;
+    }
+
+    /**
+     * Verificar el token y devolver sus claims.
+     *
+     * <p>Es el único punto donde se valida la firma: los tokens verificados recientemente
+     * se sirven desde caché sin repetir el HMAC. Lanza excepción si el token es inválido
+     * o ya expiró.</p>
+     *
+     * <p>Cada verificación queda en el timer {@code jwt.verification}, etiquetado con {@code cache}
+     * (hit/miss) y {@code result} (valid/expired/invalid).</p>
+     */
+    public Claims parseToken(String token) {
+        long start = System.nanoTime();
+        if (verifiedTokenCache != null) {
+            Claims cached = verifiedTokenCache.get(token);
+            if (cached != null) {
+                cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return cached;
+            }
+        }
+        Claims claims;
+        try {
+            claims = extractAllClaims(token);
+        } catch (ExpiredJwtException e) {
+            expiredTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } catch (RuntimeException e) {
+            invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        if (verifiedTokenCache != null) {
+            verifiedTokenCache.put(token, claims);
+        }
+        verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return claims;
+    }
+
     /**
      * Extraer username del token JWT
      */
@@ -53,7 +140,7 @@ public class JwtService {
      * Extraer cualquier claim del token
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseToken(token);
         return claimsResolver.apply(claims);
     }
 
@@ -107,7 +194,7 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
@@ -116,8 +203,20 @@ public class JwtService {
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            boolean isValid = (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+            return isTokenValid(parseToken(token), userDetails);
+        } catch (Exception e) {
+            log.error("Error validando token JWT: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Validar claims ya verificados contra el usuario, sin volver a parsear el token
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        try {
+            final String username = claims.getSubject();
+            boolean isValid = (username.equals(userDetails.getUsername())) && !isTokenExpired(claims);
             
             if (isValid) {
                 log.debug("Token JWT válido para usuario: {}", username);
@@ -137,23 +236,24 @@ public class JwtService {
      */
     public boolean isTokenExpired(String token) {
         try {
-            Date expiration = extractExpiration(token);
-            return expiration.before(new Date());
+            return isTokenExpired(parseToken(token));
         } catch (Exception e) {
             log.error("Error verificando expiración del token: {}", e.getMessage());
             return true;
         }
     }
 
+    private boolean isTokenExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration == null || expiration.before(new Date());
+    }
+
     /**
      * Extraer todos los claims del token
      */
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts
-                    .parser()
-                    .verifyWith(getSignInKey())
-                    .build()
+            return jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (Exception e) {
@@ -162,14 +262,6 @@ public class JwtService {
         }
     }
 
-    /**
-     * Obtener clave de firma
-     */
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     /**
      * Obtener tiempo de expiración configurado
      */
@@ -0,0 +1,110 @@
+package com.gym_management.system.security;
+
+import com.gym_management.system.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool acotado y dedicado para el trabajo de BCrypt.
+ *
+ * <p>El hashing corre en un número fijo de hilos con una cola de capacidad limitada. Cuando la
+ * cola está llena la tarea se rechaza de inmediato con {@link PasswordHashingUnavailableException}
+ * en vez de acumular requests esperando, de modo que un pico de logins no arrastra al resto de la
+ * aplicación. Expone métricas de profundidad de cola, hilos activos, rechazos y duración.</p>
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejections;
+    private final Timer hashingTimer;
+
+    public PasswordHashingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${auth.hashing.threads:0}") int threads,
+            @Value("${auth.hashing.queue-capacity:100}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("Tareas de hashing esperando en la cola")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hilos de hashing ocupados")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.hashing.rejected")
+                .description("Tareas de hashing rechazadas por saturación")
+                .register(meterRegistry);
+        this.hashingTimer = Timer.builder("auth.hashing.duration")
+                .description("Tiempo de ejecución de BCrypt")
+                .register(meterRegistry);
+
+        log.info("Pool de hashing de contraseñas: {} hilos, cola de {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Ejecutar la tarea en el pool de hashing y esperar su resultado
+     */
+    public <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashingTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            log.warn("Pool de hashing saturado, cola: {}", executor.getQueue().size());
+            throw new PasswordHashingUnavailableException();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error en el hashing de contraseña", cause);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
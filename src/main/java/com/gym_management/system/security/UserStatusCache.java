@@ -0,0 +1,166 @@
+package com.gym_management.system.security;
+
+import com.gym_management.system.model.User;
+import com.gym_management.system.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché en memoria del estado de seguridad de cada usuario (activo, rol y revocación de tokens).
+ *
+ * <p>Permite que {@link JwtAuthenticationFilter} construya el principal desde los claims del
+ * token sin consultar la tabla {@code users} en cada request. Solo se consulta la base de datos
+ * cuando el usuario no está en caché o su entrada superó el TTL configurado.</p>
+ *
+ * <p>Cada entrada lleva una versión monotónica: una carga desde base de datos que empezó antes
+ * de una invalidación nunca sobrescribe el estado más reciente. {@code UserServiceImpl} invalida
+ * la entrada al activar, desactivar, actualizar o eliminar usuarios; dentro de una transacción el
+ * cambio se aplica recién al confirmarse, así un rollback no deja en caché un estado que nunca existió.</p>
+ *
+ * <p><strong>Nota:</strong> la revocación de tokens es local a cada instancia; en despliegues con
+ * varias réplicas los cambios de estado y rol se propagan al vencer el TTL.</p>
+ */
+@Component
+@Slf4j
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final long tokenLifetimeMillis;
+
+    private final Map<String, UserStatus> entries = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public UserStatusCache(
+            UserRepository userRepository,
+            @Value("${jwt.user-status-cache.ttl:60000}") long ttlMillis,
+            @Value("${jwt.user-status-cache.max-size:10000}") int maxSize,
+            @Value("${jwt.refresh-expiration:604800000}") long tokenLifetimeMillis) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+    }
+
+    /**
+     * Indicar si los claims verificados de un token siguen siendo aceptables para su usuario:
+     * el usuario existe, está activo, el rol del token coincide con el actual y el token no
+     * fue emitido antes de una revocación
+     */
+    public boolean isTokenAccepted(Claims claims) {
+        UserStatus status = getStatus(claims.getSubject());
+        if (!status.exists() || !status.active()) {
+            return false;
+        }
+        String tokenRole = claims.get("role", String.class);
+        if (tokenRole == null || !tokenRole.equals(status.role())) {
+            return false;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt != null && issuedAt.getTime() / 1000 >= status.tokensValidAfter() / 1000;
+    }
+
+    /**
+     * Obtener el estado del usuario, cargándolo desde base de datos si no está en caché o venció
+     */
+    public UserStatus getStatus(String username) {
+        long now = System.currentTimeMillis();
+        UserStatus current = entries.get(username);
+        if (current != null && current.loadedAt() + ttlMillis > now) {
+            return current;
+        }
+
+        long observedVersion = versions.get();
+        log.debug("Cargando estado de seguridad para usuario: {}", username);
+        UserStatus loaded = userRepository.findByUsername(username)
+                .map(user -> UserStatus.of(user, observedVersion, now, 0L))
+                .orElseGet(() -> UserStatus.missing(observedVersion, now));
+
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        return entries.merge(username, loaded, (existing, fresh) ->
+                existing.version() > observedVersion ? existing : fresh.withRevocation(existing.tokensValidAfter()));
+    }
+
+    /**
+     * Refrescar el estado tras modificar un usuario. Si {@code revokeTokens} es true, los tokens
+     * emitidos hasta este momento dejan de ser aceptados
+     */
+    public void update(User user, boolean revokeTokens) {
+        String username = user.getUsername();
+        UserStatus changed = UserStatus.of(user, 0L, 0L, 0L);
+        afterCommit(() -> {
+            long now = System.currentTimeMillis();
+            long revokedAt = revokeTokens ? now : 0L;
+            UserStatus fresh = new UserStatus(true, changed.active(), changed.role(),
+                    versions.incrementAndGet(), now, revokedAt);
+            entries.merge(username, fresh, (existing, updated) -> updated.withRevocation(existing.tokensValidAfter()));
+            log.debug("Estado de seguridad actualizado para usuario: {} (revocar tokens: {})", username, revokeTokens);
+        });
+    }
+
+    /**
+     * Marcar un usuario como eliminado o renombrado: sus tokens dejan de ser aceptados
+     */
+    public void remove(String username) {
+        afterCommit(() -> {
+            long now = System.currentTimeMillis();
+            entries.put(username, UserStatus.missing(versions.incrementAndGet(), now).withRevocation(now));
+            log.debug("Usuario eliminado de la caché de estado: {}", username);
+        });
+    }
+
+    /**
+     * Descartar entradas sin revocaciones vigentes cuando la caché alcanza su capacidad
+     */
+    private void evict(long now) {
+        entries.values().removeIf(status -> status.tokensValidAfter() + tokenLifetimeMillis < now);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Estado de seguridad de un usuario en un momento dado
+     */
+    public record UserStatus(boolean exists, boolean active, String role,
+                             long version, long loadedAt, long tokensValidAfter) {
+
+        static UserStatus of(User user, long version, long loadedAt, long tokensValidAfter) {
+            return new UserStatus(true, Boolean.TRUE.equals(user.getIsActive()), user.getRole(),
+                    version, loadedAt, tokensValidAfter);
+        }
+
+        static UserStatus missing(long version, long loadedAt) {
+            return new UserStatus(false, false, null, version, loadedAt, 0L);
+        }
+
+        UserStatus withRevocation(long revokedAt) {
+            if (revokedAt <= tokensValidAfter) {
+                return this;
+            }
+            return new UserStatus(exists, active, role, version, loadedAt, revokedAt);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.gym_management.system.services;
+
+import com.gym_management.system.model.dto.MemberExportResponse;
+import com.gym_management.system.services.export.ExportFormat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Interfaz de servicio para la exportación completa del padrón de miembros a disco.
+ *
+ * <p>Pensada para procesos fuera de línea (por ejemplo, el export nocturno para contabilidad):
+ * en lugar de recorrer {@code /api/members} página por página, se genera un único archivo
+ * comprimido con todos los miembros, activos e inactivos, que luego se descarga con soporte
+ * de rangos HTTP.</p>
+ *
+ * @since 1.1
+ */
+public interface MemberExportService {
+
+    /**
+     * Genera el archivo de exportación en el formato indicado y reemplaza el anterior.
+     *
+     * <p>Las filas se leen con un cursor JDBC de solo avance y se escriben directamente en un
+     * archivo gzip, sin crear entidades JPA ni cargar el listado en memoria: el consumo de memoria
+     * es constante sin importar la cantidad de miembros. El archivo se escribe en un temporal y
+     * se mueve al terminar, así que las descargas en curso nunca ven un archivo a medias.</p>
+     *
+     * @param format Formato del contenido (NDJSON o CSV, el mismo que producen los endpoints de streaming).
+     * @return Datos del archivo generado.
+     * @throws IOException Si falla la escritura en disco.
+     */
+    MemberExportResponse exportMembers(ExportFormat format) throws IOException;
+
+    /**
+     * Obtiene la ruta de la última exportación generada en el formato indicado.
+     *
+     * @param format Formato del contenido.
+     * @return Ruta del archivo comprimido.
+     * @throws com.gym_management.system.exception.ExportNotAvailableException Si todavía no se generó.
+     */
+    Path getExportFile(ExportFormat format);
+}
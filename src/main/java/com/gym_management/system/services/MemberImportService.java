@@ -0,0 +1,49 @@
+package com.gym_management.system.services;
+
+import com.gym_management.system.model.dto.MemberImportResponse;
+import com.gym_management.system.services.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Interfaz de servicio para la carga masiva de miembros desde un archivo.
+ *
+ * <p>Pensada para dar de alta una sucursal completa en una sola petición, en lugar de miles de
+ * {@code POST /api/members}. El archivo se lee en streaming y se procesa por lotes: cada lote se
+ * valida con las mismas reglas que {@link MemberService#createMember}, se comprueban sus emails con
+ * una única consulta y se inserta en una transacción propia con sentencias JDBC agrupadas.</p>
+ *
+ * <p>La importación es parcial: las filas inválidas o duplicadas se informan en el reporte y no
+ * impiden guardar las demás.</p>
+ *
+ * @since 1.1
+ */
+public interface MemberImportService {
+
+    /**
+     * Importa los miembros contenidos en el stream.
+     *
+     * <p><strong>Formatos:</strong></p>
+     * <ul>
+     *   <li>CSV con encabezado; las columnas se asocian por nombre con las propiedades de
+     *       {@link com.gym_management.system.model.dto.CreateMemberRequest} y las demás se ignoran,
+     *       por lo que acepta la salida de {@code /api/members/active/stream?format=csv}</li>
+     *   <li>NDJSON, un objeto {@code CreateMemberRequest} por línea</li>
+     * </ul>
+     *
+     * <p><strong>Una fila se rechaza si:</strong></p>
+     * <ul>
+     *   <li>No se puede interpretar (JSON inválido, cantidad de columnas incorrecta, número inválido)</li>
+     *   <li>No cumple las validaciones de {@code CreateMemberRequest}</li>
+     *   <li>Su email aparece antes en el mismo archivo o ya está registrado</li>
+     *   <li>Falla la inserción de su lote (en ese caso se rechaza el lote completo)</li>
+     * </ul>
+     *
+     * @param format Formato del archivo (NDJSON o CSV).
+     * @param inputStream Contenido del archivo; no se cierra al terminar.
+     * @return Reporte con los totales y el detalle de las filas rechazadas.
+     * @throws IOException Si falla la lectura del stream.
+     */
+    MemberImportResponse importMembers(ExportFormat format, InputStream inputStream) throws IOException;
+}
@@ -1,11 +1,19 @@
 package com.gym_management.system.services;
 
+import com.gym_management.system.model.dto.BulkMemberUpdateRequest;
 import com.gym_management.system.model.dto.CreateMemberRequest;
+import com.gym_management.system.model.dto.CursorPageResponse;
 import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.model.dto.ResourceVersion;
 import com.gym_management.system.model.dto.UpdateMemberRequest;
+import com.gym_management.system.services.export.ExportFormat;
 import org.springframework.data.domain.Page;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interfaz de servicio para la gestión de miembros del gimnasio.
@@ -69,14 +77,14 @@ public interface MemberService {
      * request.setLastName("García");
      * request.setEmail("ana.garcia@email.com");
      * request.setPhone("+56987654321");
-     * request.setDateOfBirth("1990-05-15");
+     * request.setDateOfBirth(LocalDate.of(1990, 5, 15));
      * request.setGender("FEMALE");
      * request.setAddress("Av. Providencia 1234");
      * request.setEmergencyContact("Carlos García");
      * request.setEmergencyPhone("+56912345678");
      * request.setMembershipType("BASIC");
-     * request.setStartDate("2024-01-01");
-     * request.setEndDate("2024-12-31");
+     * request.setStartDate(LocalDate.of(2024, 1, 1));
+     * request.setEndDate(LocalDate.of(2024, 12, 31));
      * 
      * MemberResponse newMember = memberService.createMember(request);
      * System.out.println("Miembro creado con ID: " + newMember.getId());
@@ -137,6 +145,66 @@ public interface MemberService {
      */
     Page<MemberResponse> getAllMembers(int page, int size, String sortBy, String sortDirection);
 
+    /**
+     * Variante de {@link #getAllMembers(int, int, String, String)} que retorna solo los campos pedidos.
+     * 
+     * <p>La consulta selecciona únicamente las columnas necesarias para esos campos (sin cargar
+     * entidades) y cada elemento es un mapa campo → valor en el orden solicitado. Los nombres
+     * válidos son los de {@link MemberResponse}; {@code fullName} y {@code age} se calculan a
+     * partir de sus columnas de origen.</p>
+     * 
+     * <p><strong>Ejemplo:</strong> {@code fields = "id,fullName,email,membershipType"}</p>
+     *
+     * @param fields Nombres de campos separados por coma.
+     * @throws com.gym_management.system.exception.InvalidFieldSelectionException
+     *         Si {@code fields} está vacío o contiene un campo desconocido.
+     * @throws com.gym_management.system.exception.InvalidPaginationRequestException
+     *         Si {@code sortBy} no es uno de los campos de orden de {@link #getMembersByCursor}.
+     * @since 1.1
+     */
+    Page<Map<String, Object>> getAllMembers(int page, int size, String sortBy, String sortDirection, String fields);
+
+    /**
+     * Obtiene miembros con paginación por keyset (seek) usando un cursor opaco.
+     * 
+     * <p>A diferencia de {@link #getAllMembers(int, int, String, String)}, no usa OFFSET: cada
+     * página continúa desde los valores (campo de orden, id) de la última fila entregada, por lo
+     * que el costo es el mismo para la primera página que para la página 5000. El total de
+     * elementos solo se calcula si se solicita, evitando un {@code COUNT(*)} por página.</p>
+     * 
+     * <p><strong>Campos de ordenamiento soportados</strong> (todos con índice de apoyo):
+     * {@code id}, {@code firstName}, {@code lastName}, {@code email}, {@code createdAt},
+     * {@code startDate}, {@code endDate}.</p>
+     * 
+     * <p><strong>Ejemplo de uso:</strong></p>
+     * <pre>{@code
+     * CursorPageResponse<MemberResponse> first = memberService.getMembersByCursor(null, 20, "lastName", "asc", false);
+     * CursorPageResponse<MemberResponse> next = memberService.getMembersByCursor(first.getNextCursor(), 20, "lastName", "asc", false);
+     * }</pre>
+     *
+     * @param cursor Token devuelto por la página anterior, o null para la primera página.
+     * @param size Cantidad de elementos por página (1 a 100).
+     * @param sortBy Campo de ordenamiento; debe ser uno de los campos soportados.
+     * @param sortDirection Dirección del ordenamiento: "asc" o "desc".
+     * @param includeTotal Si es true, incluye el total de miembros (ejecuta un COUNT).
+     * @return {@link CursorPageResponse} con los miembros de la página y el cursor siguiente.
+     * @throws com.gym_management.system.exception.InvalidPaginationRequestException
+     *         Si el campo de orden no está soportado o el cursor es inválido.
+     * @since 1.1
+     */
+    CursorPageResponse<MemberResponse> getMembersByCursor(String cursor, int size, String sortBy,
+                                                          String sortDirection, boolean includeTotal);
+
+    /**
+     * Variante de {@link #getMembersByCursor(String, int, String, String, boolean)} que retorna
+     * solo los campos pedidos, con las mismas reglas que
+     * {@link #getAllMembers(int, int, String, String, String)}.
+     *
+     * @since 1.1
+     */
+    CursorPageResponse<Map<String, Object>> getMembersByCursor(String cursor, int size, String sortBy,
+                                                               String sortDirection, boolean includeTotal, String fields);
+
     /**
      * Obtiene un miembro específico por su identificador único.
      * 
@@ -206,6 +274,47 @@ public interface MemberService {
      */
     MemberResponse getMemberByEmail(String email);
 
+    /**
+     * Obtiene los validadores HTTP (ETag y Last-Modified) de un miembro sin cargar la entidad.
+     * 
+     * <p>Solo lee las columnas {@code version} y {@code updated_at} por clave primaria, de modo que
+     * el controlador puede responder {@code 304 Not Modified} sin mapear ni serializar el miembro.
+     * El ETag incluye la versión, así que también sirve como {@code If-Match} de una edición.</p>
+     *
+     * @param id Identificador único del miembro.
+     * @return {@link ResourceVersion} del miembro.
+     * @throws com.gym_management.system.exception.MemberNotFoundException 
+     *         Si no existe un miembro con el ID especificado.
+     * @since 1.1
+     */
+    ResourceVersion getMemberVersion(Long id);
+
+    /**
+     * Variante de {@link #getMemberVersion(Long)} para la búsqueda por email.
+     *
+     * @param email Dirección de email del miembro.
+     * @return {@link ResourceVersion} del miembro.
+     * @throws com.gym_management.system.exception.MemberNotFoundException 
+     *         Si no existe un miembro registrado con el email especificado.
+     * @since 1.1
+     */
+    ResourceVersion getMemberVersionByEmail(String email);
+
+    /**
+     * Obtiene los validadores HTTP de los listados de miembros.
+     * 
+     * <p>La versión se deriva de la cantidad de miembros y de la modificación más reciente de
+     * toda la tabla, con una única consulta agregada. Es conservadora: cualquier cambio en un
+     * miembro invalida todos los listados, aunque no aparezca en la página pedida.</p>
+     * 
+     * <p>Como las respuestas incluyen la edad calculada, la versión de los miembros (individual y de
+     * colección) también cambia al comenzar cada día.</p>
+     *
+     * @return {@link ResourceVersion} de la colección de miembros.
+     * @since 1.1
+     */
+    ResourceVersion getMembersVersion();
+
     /**
      * Actualiza la información de un miembro existente en el sistema.
      * 
@@ -248,12 +357,35 @@ public interface MemberService {
      *         Si no existe un miembro con el ID especificado.
      * @throws com.gym_management.system.exception.DuplicateEmailException 
      *         Si el nuevo email ya está registrado por otro miembro.
+     * @throws com.gym_management.system.exception.VersionConflictException 
+     *         Si otra operación modificó el miembro entre la lectura y la escritura.
      * @see UpdateMemberRequest
      * @see MemberResponse
      * @since 1.0
      */
     MemberResponse updateMember(Long id, UpdateMemberRequest request);
 
+    /**
+     * Actualiza un miembro solo si sigue en la versión que el cliente editó.
+     * 
+     * <p>La versión esperada se compara con la actual antes de aplicar los cambios y vuelve a
+     * exigirse en el UPDATE ({@code WHERE version = ?}), de modo que una edición concurrente
+     * confirmada entre ambos pasos también se detecta. No se reintenta: el cliente debe volver a
+     * consultar el miembro y decidir sobre los datos nuevos. Sin bloqueos pesimistas, dos
+     * ediciones del mismo miembro nunca se esperan entre sí.</p>
+     *
+     * @param id Identificador único del miembro a actualizar.
+     * @param request Campos a actualizar; solo se procesan los no nulos.
+     * @param expectedVersion Versión leída por el cliente (del ETag); {@code null} para no exigirla.
+     * @return Información del miembro después de la actualización, con su nueva versión.
+     * @throws com.gym_management.system.exception.PreconditionFailedException 
+     *         Si la versión actual no es la esperada.
+     * @throws com.gym_management.system.exception.VersionConflictException 
+     *         Si otra operación modificó el miembro durante la actualización.
+     * @since 1.1
+     */
+    MemberResponse updateMember(Long id, UpdateMemberRequest request, Long expectedVersion);
+
     /**
      * Elimina un miembro del sistema utilizando borrado lógico (soft delete).
      * 
@@ -302,6 +434,66 @@ public interface MemberService {
      */
     void deleteMember(Long id);
 
+    /**
+     * Desactiva (borrado lógico) todos los miembros seleccionados con una sola sentencia UPDATE.
+     * 
+     * <p>La selección es una lista de ids o un filtro ({@code request.ids} o {@code request.filter},
+     * exactamente uno de los dos). Solo se modifican los miembros que estaban activos; a todos ellos
+     * se les actualiza {@code updatedAt}. Las estadísticas en memoria se ajustan con el conteo de
+     * filas afectadas, sin cargar entidades.</p>
+     *
+     * @param request Selección de miembros.
+     * @return Cantidad de miembros desactivados.
+     * @throws com.gym_management.system.exception.InvalidBulkUpdateRequestException 
+     *         Si no hay selección, si se indican ids y filtro a la vez o si el filtro está vacío.
+     * @see #deleteMember(Long)
+     * @since 1.1
+     */
+    long deactivateMembers(BulkMemberUpdateRequest request);
+
+    /**
+     * Reactiva todos los miembros seleccionados con una sola sentencia UPDATE.
+     * 
+     * <p>Misma selección que {@link #deactivateMembers(BulkMemberUpdateRequest)}; solo se
+     * modifican los miembros que estaban inactivos.</p>
+     *
+     * @param request Selección de miembros.
+     * @return Cantidad de miembros reactivados.
+     * @throws com.gym_management.system.exception.InvalidBulkUpdateRequestException 
+     *         Si la selección no es válida.
+     * @since 1.1
+     */
+    long activateMembers(BulkMemberUpdateRequest request);
+
+    /**
+     * Cambia el tipo de membresía de todos los miembros seleccionados con una sola sentencia UPDATE.
+     * 
+     * <p>Misma selección que {@link #deactivateMembers(BulkMemberUpdateRequest)}; el nuevo tipo
+     * se indica en {@code request.membershipType} y solo se modifican los miembros que tenían
+     * otro tipo.</p>
+     *
+     * @param request Selección de miembros y nuevo tipo de membresía.
+     * @return Cantidad de miembros modificados.
+     * @throws com.gym_management.system.exception.InvalidBulkUpdateRequestException 
+     *         Si la selección no es válida o falta el nuevo tipo de membresía.
+     * @since 1.1
+     */
+    long changeMembershipType(BulkMemberUpdateRequest request);
+
+    /**
+     * Desactiva, entre los miembros indicados, los que siguen activos y cuya membresía venció.
+     * 
+     * <p>Usado por el job de vencimientos: la condición de vencimiento se vuelve a evaluar en el
+     * mismo UPDATE, de modo que un miembro renovado después de haber sido seleccionado no se
+     * desactiva. Las estadísticas se ajustan igual que en {@link #deactivateMembers(BulkMemberUpdateRequest)}.</p>
+     *
+     * @param ids Ids de los miembros candidatos.
+     * @param today Fecha de corte: vencen las membresías con {@code endDate} anterior a ella.
+     * @return Cantidad de miembros desactivados.
+     * @since 1.1
+     */
+    long expireMembers(List<Long> ids, LocalDate today);
+
     /**
      * Busca miembros por nombre o apellido utilizando coincidencias parciales.
      * 
@@ -312,11 +504,17 @@ public interface MemberService {
      * <p><strong>Características de la búsqueda:</strong></p>
      * <ul>
      *   <li>Case-insensitive (no distingue mayúsculas/minúsculas)</li>
-     *   <li>Búsqueda parcial (coincidencias que contengan el término)</li>
-     *   <li>Busca en firstName Y lastName</li>
-     *   <li>Retorna todos los miembros que coincidan</li>
+     *   <li>Insensible a acentos: "Jose" encuentra "José"</li>
+     *   <li>Búsqueda parcial (coincidencias que contengan el término); términos de 1 o 2
+     *       caracteres coinciden con inicios de palabra</li>
+     *   <li>Busca en firstName, lastName, email y phone; con varias palabras, todas deben aparecer</li>
+     *   <li>Ordena por relevancia: coincidencia exacta, prefijo, inicio de palabra y subcadena</li>
+     *   <li>Retorna como máximo {@code search.index.max-results} miembros (200 por defecto)</li>
      * </ul>
      * 
+     * <p>Se resuelve con un índice de trigramas en memoria; mientras el índice se construye
+     * al arrancar, se usa la consulta LIKE sobre nombre y apellido.</p>
+     * 
      * <p><strong>Ejemplos de búsqueda:</strong></p>
      * <pre>{@code
      * // Buscar todos los "Juan" (nombre) o "Juanita" (apellido)
@@ -347,6 +545,14 @@ public interface MemberService {
      */
     List<MemberResponse> searchMembersByName(String searchTerm);
 
+    /**
+     * Variante de {@link #searchMembersByName(String)} que retorna solo los campos pedidos, con las
+     * mismas reglas que {@link #getAllMembers(int, int, String, String, String)}.
+     *
+     * @since 1.1
+     */
+    List<Map<String, Object>> searchMembersByName(String searchTerm, String fields);
+
     /**
      * Obtiene todos los miembros que están actualmente activos en el sistema.
      * 
@@ -388,6 +594,46 @@ public interface MemberService {
      */
     List<MemberResponse> getActiveMembers();
 
+    /**
+     * Variante de {@link #getActiveMembers()} que retorna solo los campos pedidos, con las mismas
+     * reglas que {@link #getAllMembers(int, int, String, String, String)}.
+     *
+     * @since 1.1
+     */
+    List<Map<String, Object>> getActiveMembers(String fields);
+
+    /**
+     * Escribe todos los miembros activos en el stream indicado, una fila a la vez.
+     * 
+     * <p>Variante de {@link #getActiveMembers()} para listados grandes: las filas se leen del
+     * cursor JDBC por bloques, se escriben y se descartan del contexto de persistencia, de modo que
+     * la memoria usada no depende de la cantidad de miembros. Los miembros se emiten ordenados por id.</p>
+     *
+     * @param format Formato de salida (NDJSON o CSV).
+     * @param outputStream Stream de destino; no se cierra al terminar.
+     * @return Cantidad de filas escritas.
+     * @throws IOException Si falla la escritura (por ejemplo, el cliente cerró la conexión).
+     * @see #getActiveMembers()
+     * @since 1.1
+     */
+    long streamActiveMembers(ExportFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * Escribe los miembros cuyo nombre o apellido contiene el término, una fila a la vez.
+     * 
+     * <p>Mismo criterio de búsqueda que {@link #searchMembersByName(String)}, con la salida
+     * transmitida como en {@link #streamActiveMembers(ExportFormat, OutputStream)}.</p>
+     *
+     * @param searchTerm Término de búsqueda a buscar en nombres y apellidos.
+     * @param format Formato de salida (NDJSON o CSV).
+     * @param outputStream Stream de destino; no se cierra al terminar.
+     * @return Cantidad de filas escritas.
+     * @throws IOException Si falla la escritura (por ejemplo, el cliente cerró la conexión).
+     * @see #searchMembersByName(String)
+     * @since 1.1
+     */
+    long streamMembersByName(String searchTerm, ExportFormat format, OutputStream outputStream) throws IOException;
+
     /**
      * Obtiene estadísticas generales sobre los miembros del sistema.
      * 
@@ -400,8 +646,13 @@ public interface MemberService {
      *   <li><strong>Total de miembros:</strong> Todos los registros en el sistema</li>
      *   <li><strong>Miembros activos:</strong> Miembros con isActive = true</li>
      *   <li><strong>Miembros inactivos:</strong> Miembros con isActive = false</li>
+     *   <li><strong>Por tipo de membresía y por género:</strong> desglose de los miembros activos</li>
      * </ul>
      * 
+     * <p>Los conteos se mantienen en memoria: se cargan con una única consulta agregada al
+     * arrancar, se ajustan en cada alta, modificación y baja, y una tarea periódica los
+     * reconcilia con la base de datos. Consultar las estadísticas no ejecuta SQL.</p>
+     * 
      * <p><strong>Ejemplo de uso:</strong></p>
      * <pre>{@code
      * MemberStats stats = memberService.getMemberStats();
@@ -429,6 +680,58 @@ public interface MemberService {
      */
     MemberStats getMemberStats();
 
+    /**
+     * Obtiene los miembros cuya membresía vence dentro del rango indicado (ambos extremos incluidos).
+     * 
+     * <p>Responde preguntas como "membresías que vencen esta semana" con un recorrido por rango
+     * sobre el índice {@code (end_date, id)}; los resultados se ordenan por fecha de fin y id.</p>
+     * 
+     * <p><strong>Ejemplo de uso:</strong></p>
+     * <pre>{@code
+     * LocalDate today = LocalDate.now();
+     * Page<MemberResponse> expiring = memberService.getMembersEndingBetween(today, today.plusDays(7), 0, 50);
+     * }</pre>
+     *
+     * @param from Primer día del rango.
+     * @param to Último día del rango.
+     * @param page Número de página (base 0).
+     * @param size Cantidad de elementos por página.
+     * @return {@link Page} de miembros ordenados por fecha de fin.
+     * @throws com.gym_management.system.exception.InvalidDateRangeException Si {@code from} es posterior a {@code to}.
+     * @since 1.1
+     */
+    Page<MemberResponse> getMembersEndingBetween(LocalDate from, LocalDate to, int page, int size);
+
+    /**
+     * Obtiene los miembros cuya membresía comienza dentro del rango indicado (ambos extremos incluidos),
+     * ordenados por fecha de inicio y id (índice {@code (start_date, id)}).
+     *
+     * @param from Primer día del rango.
+     * @param to Último día del rango.
+     * @param page Número de página (base 0).
+     * @param size Cantidad de elementos por página.
+     * @return {@link Page} de miembros ordenados por fecha de inicio.
+     * @throws com.gym_management.system.exception.InvalidDateRangeException Si {@code from} es posterior a {@code to}.
+     * @since 1.1
+     */
+    Page<MemberResponse> getMembersStartingBetween(LocalDate from, LocalDate to, int page, int size);
+
+    /**
+     * Obtiene los miembros cuya edad actual está entre {@code minAge} y {@code maxAge} años (ambos incluidos).
+     * 
+     * <p>El rango de edades se traduce a un rango de fechas de nacimiento, de modo que la consulta
+     * usa el índice {@code (date_of_birth, id)} en lugar de calcular la edad fila por fila.</p>
+     *
+     * @param minAge Edad mínima en años cumplidos.
+     * @param maxAge Edad máxima en años cumplidos.
+     * @param page Número de página (base 0).
+     * @param size Cantidad de elementos por página.
+     * @return {@link Page} de miembros ordenados por fecha de nacimiento.
+     * @throws com.gym_management.system.exception.InvalidDateRangeException Si el rango de edades es inválido.
+     * @since 1.1
+     */
+    Page<MemberResponse> getMembersByAgeRange(int minAge, int maxAge, int page, int size);
+
     /**
      * Clase para encapsular las estadísticas de miembros del gimnasio.
      * 
@@ -440,6 +743,8 @@ public interface MemberService {
      *   <li>{@code totalMembers} - Total de miembros registrados</li>
      *   <li>{@code activeMembers} - Miembros actualmente activos</li>
      *   <li>{@code inactiveMembers} - Miembros marcados como inactivos</li>
+     *   <li>{@code byMembershipType} - Miembros activos por tipo de membresía (BASIC, PREMIUM, VIP)</li>
+     *   <li>{@code byGender} - Miembros activos por género (MALE, FEMALE, OTHER)</li>
      * </ul>
      * 
      * <p><strong>Invariante:</strong> {@code totalMembers = activeMembers + inactiveMembers}</p>
@@ -451,6 +756,8 @@ public interface MemberService {
         private final long totalMembers;
         private final long activeMembers;
         private final long inactiveMembers;
+        private final Map<String, Long> byMembershipType;
+        private final Map<String, Long> byGender;
 
         /**
          * Constructor para crear una instancia de estadísticas de miembros.
@@ -460,9 +767,26 @@ public interface MemberService {
          * @param inactiveMembers Número de miembros inactivos (isActive = false)
          */
         public MemberStats(long totalMembers, long activeMembers, long inactiveMembers) {
+            this(totalMembers, activeMembers, inactiveMembers, Map.of(), Map.of());
+        }
+
+        /**
+         * Constructor con el desglose de miembros activos.
+         * 
+         * @param totalMembers Número total de miembros registrados (activos + inactivos)
+         * @param activeMembers Número de miembros activos (isActive = true)
+         * @param inactiveMembers Número de miembros inactivos (isActive = false)
+         * @param byMembershipType Miembros activos por tipo de membresía
+         * @param byGender Miembros activos por género
+         * @since 1.1
+         */
+        public MemberStats(long totalMembers, long activeMembers, long inactiveMembers,
+                           Map<String, Long> byMembershipType, Map<String, Long> byGender) {
             this.totalMembers = totalMembers;
             this.activeMembers = activeMembers;
             this.inactiveMembers = inactiveMembers;
+            this.byMembershipType = Map.copyOf(byMembershipType);
+            this.byGender = Map.copyOf(byGender);
         }
 
         /**
@@ -482,5 +806,17 @@ public interface MemberService {
          * @return Número de miembros inactivos
          */
         public long getInactiveMembers() { return inactiveMembers; }
+
+        /**
+         * Obtiene la cantidad de miembros activos por tipo de membresía.
+         * @return Mapa inmutable tipo de membresía → cantidad
+         */
+        public Map<String, Long> getByMembershipType() { return byMembershipType; }
+
+        /**
+         * Obtiene la cantidad de miembros activos por género.
+         * @return Mapa inmutable género → cantidad
+         */
+        public Map<String, Long> getByGender() { return byGender; }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.gym_management.system.services;
+
+import com.gym_management.system.model.dto.MembershipExpiryResponse;
+
+/**
+ * Interfaz de servicio para el vencimiento de membresías.
+ *
+ * <p>Desactiva los miembros activos cuyo {@code endDate} ya pasó, para que los listados de
+ * activos y las estadísticas dejen de contarlos. Se ejecuta todos los días desde un job
+ * programado y también puede dispararse a mano.</p>
+ *
+ * @since 1.1
+ */
+public interface MembershipExpiryService {
+
+    /**
+     * Desactiva las membresías vencidas antes de hoy.
+     *
+     * <p>Los vencidos se recorren por bloques de {@code member.expiry.chunk-size} en orden
+     * ({@code endDate}, {@code id}) usando el índice {@code (is_active, end_date, id)}. Cada bloque
+     * se desactiva con un único UPDATE en su propia transacción, junto con el punto de avance, de
+     * modo que los bloqueos sobre {@code members} duran lo que un bloque y una ejecución
+     * interrumpida retoma desde el último bloque confirmado.</p>
+     *
+     * @return Resumen de la ejecución.
+     */
+    MembershipExpiryResponse expireMemberships();
+}
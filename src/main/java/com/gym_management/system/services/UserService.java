@@ -1,6 +1,7 @@
 package com.gym_management.system.services;
 
 import com.gym_management.system.model.dto.CreateUserRequest;
+import com.gym_management.system.model.dto.ResourceVersion;
 import com.gym_management.system.model.dto.UpdateUserRequest;
 import com.gym_management.system.model.dto.UserResponse;
 
@@ -16,6 +17,14 @@ public interface UserService {
     
     UserResponse getUserByEmail(String email);
     
+    ResourceVersion getUserVersion(Long id);
+    
+    ResourceVersion getUserVersionByUsername(String username);
+    
+    ResourceVersion getUserVersionByEmail(String email);
+    
+    ResourceVersion getUsersVersion();
+    
     List<UserResponse> getAllUsers();
     
     List<UserResponse> getAllActiveUsers();
@@ -0,0 +1,44 @@
+package com.gym_management.system.services.export;
+
+import com.gym_management.system.exception.UnsupportedExportFormatException;
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos de salida para los listados de miembros transmitidos fila por fila.
+ */
+public enum ExportFormat {
+
+    /** Un objeto JSON por línea (newline-delimited JSON) */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+
+    /** Valores separados por coma con encabezado, según RFC 4180 */
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resolver el formato a partir del parámetro de la petición, sin distinguir mayúsculas
+     */
+    public static ExportFormat fromParameter(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new UnsupportedExportFormatException(value);
+    }
+}
@@ -0,0 +1,203 @@
+package com.gym_management.system.services.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.gym_management.system.model.dto.CreateMemberRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lee miembros de a una fila desde NDJSON o CSV, en el mismo formato que produce {@link MemberRowWriter}.
+ *
+ * <p>No acumula filas: cada llamada a {@link #next()} consume del stream solo lo necesario para la
+ * fila siguiente. En CSV la primera línea es el encabezado y las columnas se asocian por nombre, de
+ * modo que un archivo exportado se puede volver a importar; las columnas que no forman parte de
+ * {@link CreateMemberRequest} (id, age, isActive, createdAt...) se ignoran. Las líneas vacías se
+ * saltan. El stream subyacente no se cierra; pertenece al contenedor.</p>
+ */
+public class MemberRowReader {
+
+    /**
+     * Fila leída: el número es el ordinal de la fila de datos (1 = primera fila después del
+     * encabezado) y, si la fila no se pudo interpretar, {@code request} es null y {@code error} explica por qué
+     */
+    public record Row(long number, CreateMemberRequest request, String error) {
+    }
+
+    private final ExportFormat format;
+    private final ObjectReader jsonReader;
+    private final BufferedReader reader;
+    private String[] header;
+    private long rowNumber;
+
+    public MemberRowReader(ExportFormat format, InputStream inputStream, ObjectMapper objectMapper) {
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(CreateMemberRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Leer la fila siguiente; devuelve null al llegar al final del stream
+     */
+    public Row next() throws IOException {
+        return format == ExportFormat.NDJSON ? nextJson() : nextCsv();
+    }
+
+    private Row nextJson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        long number = ++rowNumber;
+        try {
+            return new Row(number, jsonReader.readValue(stripBom(line)), null);
+        } catch (JsonProcessingException e) {
+            return new Row(number, null, "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    private Row nextCsv() throws IOException {
+        if (header == null) {
+            List<String> headerFields = readCsvRecord(reader);
+            if (headerFields == null) {
+                return null;
+            }
+            headerFields.set(0, stripBom(headerFields.get(0)));
+            header = headerFields.stream().map(String::trim).toArray(String[]::new);
+        }
+
+        List<String> fields;
+        do {
+            fields = readCsvRecord(reader);
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        long number = ++rowNumber;
+        if (fields.size() != header.length) {
+            return new Row(number, null, "Se esperaban " + header.length + " columnas y la fila tiene " + fields.size());
+        }
+
+        CreateMemberRequest request = new CreateMemberRequest();
+        for (int i = 0; i < header.length; i++) {
+            String value = fields.get(i).isEmpty() ? null : fields.get(i);
+            String error = assign(request, header[i], value);
+            if (error != null) {
+                return new Row(number, null, error);
+            }
+        }
+        return new Row(number, request, null);
+    }
+
+    /**
+     * Asignar una columna del CSV a la propiedad homónima; devuelve un mensaje si el valor no es convertible
+     */
+    private static String assign(CreateMemberRequest request, String column, String value) {
+        switch (column) {
+            case "firstName" -> request.setFirstName(value);
+            case "lastName" -> request.setLastName(value);
+            case "email" -> request.setEmail(value);
+            case "phone" -> request.setPhone(value);
+            case "gender" -> request.setGender(value);
+            case "address" -> request.setAddress(value);
+            case "emergencyContact" -> request.setEmergencyContact(value);
+            case "emergencyPhone" -> request.setEmergencyPhone(value);
+            case "membershipType" -> request.setMembershipType(value);
+            case "notes" -> request.setNotes(value);
+            case "dateOfBirth", "startDate", "endDate" -> {
+                LocalDate date;
+                try {
+                    date = value == null ? null : LocalDate.parse(value.trim());
+                } catch (DateTimeParseException e) {
+                    return column + ": fecha inválida '" + value + "', se espera yyyy-MM-dd";
+                }
+                switch (column) {
+                    case "dateOfBirth" -> request.setDateOfBirth(date);
+                    case "startDate" -> request.setStartDate(date);
+                    default -> request.setEndDate(date);
+                }
+            }
+            case "height", "weight" -> {
+                Double number;
+                try {
+                    number = value == null ? null : Double.valueOf(value.trim());
+                } catch (NumberFormatException e) {
+                    return column + ": valor numérico inválido '" + value + "'";
+                }
+                if ("height".equals(column)) {
+                    request.setHeight(number);
+                } else {
+                    request.setWeight(number);
+                }
+            }
+            default -> {
+                // Columna de solo lectura o desconocida: se ignora
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Leer un registro CSV según RFC 4180; los campos entre comillas pueden contener comas,
+     * saltos de línea y comillas duplicadas. Devuelve null si el stream terminó antes del registro.
+     */
+    static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        if (!any) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String stripBom(String value) {
+        return !value.isEmpty() && value.charAt(0) == '\uFEFF' ? value.substring(1) : value;
+    }
+}
@@ -0,0 +1,95 @@
+package com.gym_management.system.services.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym_management.system.model.dto.MemberResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escribe miembros de a una fila en NDJSON o CSV sobre un {@link OutputStream}.
+ *
+ * <p>No acumula filas: cada llamada a {@link #write(MemberResponse)} serializa la fila en el buffer
+ * de salida, que se vacía hacia el cliente cada {@code flushEvery} filas. El stream subyacente no
+ * se cierra; pertenece al contenedor.</p>
+ */
+public class MemberRowWriter {
+
+    static final String[] CSV_HEADER = {
+            "id", "firstName", "lastName", "email", "phone", "dateOfBirth", "age", "gender", "address",
+            "emergencyContact", "emergencyPhone", "membershipType", "startDate", "endDate", "notes",
+            "height", "weight", "isActive", "createdAt", "updatedAt"
+    };
+
+    private final ExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+    private final int flushEvery;
+    private long rowsWritten;
+
+    public MemberRowWriter(ExportFormat format, OutputStream outputStream, ObjectMapper objectMapper, int flushEvery) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.flushEvery = Math.max(1, flushEvery);
+    }
+
+    /**
+     * Escribir el encabezado del formato (solo CSV lo tiene)
+     */
+    public void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvLine((Object[]) CSV_HEADER);
+        }
+    }
+
+    public void write(MemberResponse member) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(member));
+            writer.write('\n');
+        } else {
+            writeCsvLine(member.getId(), member.getFirstName(), member.getLastName(), member.getEmail(),
+                    member.getPhone(), member.getDateOfBirth(), member.getAge(), member.getGender(),
+                    member.getAddress(), member.getEmergencyContact(), member.getEmergencyPhone(),
+                    member.getMembershipType(), member.getStartDate(), member.getEndDate(), member.getNotes(),
+                    member.getHeight(), member.getWeight(), member.getIsActive(), member.getCreatedAt(),
+                    member.getUpdatedAt());
+        }
+        if (++rowsWritten % flushEvery == 0) {
+            writer.flush();
+        }
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    private void writeCsvLine(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    static String escapeCsv(String value) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -2,12 +2,16 @@ package com.gym_management.system.services.impl;
 
 import com.gym_management.system.exception.DuplicateEmailException;
 import com.gym_management.system.exception.DuplicateUsernameException;
-import com.gym_management.system.exception.UserNotFoundException;
 import com.gym_management.system.model.User;
 import com.gym_management.system.model.dto.*;
 import com.gym_management.system.repository.UserRepository;
+import com.gym_management.system.search.UserSearchIndex;
+import com.gym_management.system.security.AuthenticatedUser;
 import com.gym_management.system.security.JwtService;
+import com.gym_management.system.security.UserStatusCache;
 import com.gym_management.system.services.AuthService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,15 +21,24 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+
+/**
+ * Servicio de autenticación.
+ *
+ * <p>No es transaccional a nivel de clase a propósito: BCrypt tarda cientos de milisegundos y no
+ * debe ejecutarse con una conexión JDBC tomada. Cada lectura o escritura corre en la transacción
+ * corta del repositorio y el hashing ocurre entre ellas, en el pool de {@code PasswordHashingExecutor}.</p>
+ */
 @Service
+@Timed(value = "service.invocations", description = "Duración de los métodos de servicio")
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
@@ -33,12 +46,16 @@ public class AuthServiceImpl implements AuthService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
+    private final UserSearchIndex userSearchIndex;
+    private final TransactionOperations transactionOperations;
 
     @Override
     public AuthResponse login(LoginRequest request) {
         log.info("Intentando autenticar usuario: {}", request.getUsername());
 
-        // Autenticar usuario
+        // Autenticar usuario: única lectura de la tabla users en todo el login
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getUsername(),
@@ -46,25 +63,17 @@ public class AuthServiceImpl implements AuthService {
                 )
         );
 
-        // Obtener usuario de la base de datos
-        User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new UserNotFoundException("username", request.getUsername()));
-
-        // Verificar que el usuario esté activo
-        if (!user.getIsActive()) {
-            throw new RuntimeException("Usuario inactivo");
-        }
-
-        // Crear UserDetails para JWT
-        UserDetails userDetails = userDetailsService.loadUserByUsername(request.getUsername());
+        // El principal trae la entidad ya cargada (y validada como activa) por el proveedor
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        User user = principal.getUser();
 
         // Generar tokens
-        String accessToken = jwtService.generateTokenWithRole(userDetails, user.getRole());
-        String refreshToken = jwtService.generateRefreshToken(userDetails);
+        String accessToken = jwtService.generateTokenWithRole(principal, user.getRole());
+        String refreshToken = jwtService.generateRefreshToken(principal);
 
-        // Actualizar último login
+        // Registrar último login; se escribe en lote de forma diferida, fuera del request
         user.setLastLogin(LocalDateTime.now());
-        userRepository.save(user);
+        lastLoginWriteBehind.record(user.getId(), user.getLastLogin());
 
         log.info("Usuario autenticado exitosamente: {}", request.getUsername());
 
@@ -98,9 +107,11 @@ public class AuthServiceImpl implements AuthService {
         user.setIsActive(true);
 
         User savedUser = userRepository.save(user);
+        userStatusCache.update(savedUser, false);
+        userSearchIndex.index(savedUser);
 
-        // Crear UserDetails para JWT
-        UserDetails userDetails = userDetailsService.loadUserByUsername(savedUser.getUsername());
+        // Crear UserDetails para JWT a partir de la entidad recién guardada
+        UserDetails userDetails = new AuthenticatedUser(savedUser);
 
         // Generar tokens
         String accessToken = jwtService.generateTokenWithRole(userDetails, savedUser.getRole());
@@ -115,18 +126,18 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public AuthResponse refreshToken(String refreshToken) {
         try {
-            // Extraer username del refresh token
-            String username = jwtService.extractUsername(refreshToken);
+            // Verificar el refresh token una sola vez
+            Claims claims = jwtService.parseToken(refreshToken);
+            String username = claims.getSubject();
             
             if (username != null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                AuthenticatedUser principal = (AuthenticatedUser) userDetailsService.loadUserByUsername(username);
                 
-                if (jwtService.isTokenValid(refreshToken, userDetails)) {
-                    User user = userRepository.findByUsername(username)
-                            .orElseThrow(() -> new UserNotFoundException("username", username));
+                if (jwtService.isTokenValid(claims, principal)) {
+                    User user = principal.getUser();
                     
                     // Generar nuevo access token
-                    String accessToken = jwtService.generateTokenWithRole(userDetails, user.getRole());
+                    String accessToken = jwtService.generateTokenWithRole(principal, user.getRole());
                     
                     log.info("Token renovado para usuario: {}", username);
                     
@@ -143,10 +154,11 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public boolean validateToken(String token) {
         try {
-            String username = jwtService.extractUsername(token);
+            Claims claims = jwtService.parseToken(token);
+            String username = claims.getSubject();
             if (username != null) {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                return jwtService.isTokenValid(token, userDetails);
+                return jwtService.isTokenValid(claims, userDetails);
             }
         } catch (Exception e) {
             log.error("Error validando token: {}", e.getMessage());
@@ -159,21 +171,28 @@ public class AuthServiceImpl implements AuthService {
         log.info("Encriptando contraseñas existentes...");
         
         List<User> users = userRepository.findAll();
+        Map<Long, String> encryptedById = new HashMap<>();
         
+        // Hashing sin transacción abierta; solo la escritura final toma una conexión
         for (User user : users) {
             String currentPassword = user.getPassword();
             
             // Solo encriptar si la contraseña no está ya encriptada (no comienza con $2a$)
             if (!currentPassword.startsWith("$2a$")) {
-                String encryptedPassword = passwordEncoder.encode(currentPassword);
-                user.setPassword(encryptedPassword);
-                userRepository.save(user);
+                encryptedById.put(user.getId(), passwordEncoder.encode(currentPassword));
                 log.info("Contraseña encriptada para usuario: {}", user.getUsername());
             } else {
                 log.info("Contraseña ya encriptada para usuario: {}", user.getUsername());
             }
         }
         
+        if (!encryptedById.isEmpty()) {
+            // Las entidades se releen en una sola consulta dentro de la transacción de escritura: así los
+            // UPDATE no van precedidos de un merge (SELECT) por cada usuario desvinculado
+            transactionOperations.executeWithoutResult(status -> userRepository.findAllById(encryptedById.keySet())
+                    .forEach(user -> user.setPassword(encryptedById.get(user.getId()))));
+        }
+        
         log.info("Proceso de encriptación completado");
     }
 
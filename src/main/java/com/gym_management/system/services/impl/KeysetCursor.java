@@ -0,0 +1,112 @@
+package com.gym_management.system.services.impl;
+
+import com.gym_management.system.exception.InvalidPaginationRequestException;
+import com.gym_management.system.model.Member;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Token de continuación para la paginación por keyset de miembros.
+ *
+ * <p>Codifica el campo de orden, la dirección y los valores (campo, id) de la última fila
+ * entregada. Para el cliente es un string opaco en Base64 URL-safe.</p>
+ */
+final class KeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final String lastValue;
+    private final long lastId;
+
+    private KeysetCursor(String sortBy, Sort.Direction direction, String lastValue, long lastId) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    /**
+     * Construir el cursor que apunta a continuación de la fila indicada
+     */
+    static KeysetCursor after(Member member, String sortBy, Sort.Direction direction) {
+        return after(sortValue(member, sortBy), member.getId(), sortBy, direction);
+    }
+
+    /**
+     * Construir el cursor a partir de los valores (campo de orden, id) de la última fila
+     */
+    static KeysetCursor after(Object sortValue, long lastId, String sortBy, Sort.Direction direction) {
+        return new KeysetCursor(sortBy, direction, String.valueOf(sortValue), lastId);
+    }
+
+    /**
+     * Decodificar un token recibido y verificar que corresponde al mismo orden solicitado
+     */
+    static KeysetCursor decode(String token, String sortBy, Sort.Direction direction) {
+        String[] parts;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = decoded.split("\\" + SEPARATOR, 5);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPaginationRequestException("Cursor de paginación inválido");
+        }
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new InvalidPaginationRequestException("Cursor de paginación inválido");
+        }
+        if (!parts[1].equals(sortBy) || !parts[2].equals(direction.name())) {
+            throw new InvalidPaginationRequestException(
+                    "El cursor fue generado con otro orden; reinicie la paginación sin cursor");
+        }
+        try {
+            return new KeysetCursor(parts[1], direction, parts[4], Long.parseLong(parts[3]));
+        } catch (NumberFormatException e) {
+            throw new InvalidPaginationRequestException("Cursor de paginación inválido");
+        }
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sortBy, direction.name(), String.valueOf(lastId), lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    long lastId() {
+        return lastId;
+    }
+
+    /**
+     * Valor del campo de orden de la última fila, con el tipo de la propiedad de la entidad
+     */
+    Object lastValue() {
+        if ("id".equals(sortBy)) {
+            return lastId;
+        }
+        try {
+            return switch (sortBy) {
+                case "createdAt" -> LocalDateTime.parse(lastValue);
+                case "startDate", "endDate" -> LocalDate.parse(lastValue);
+                default -> lastValue;
+            };
+        } catch (RuntimeException e) {
+            throw new InvalidPaginationRequestException("Cursor de paginación inválido");
+        }
+    }
+
+    private static Object sortValue(Member member, String sortBy) {
+        return switch (sortBy) {
+            case "firstName" -> member.getFirstName();
+            case "lastName" -> member.getLastName();
+            case "email" -> member.getEmail();
+            case "createdAt" -> member.getCreatedAt();
+            case "startDate" -> member.getStartDate();
+            case "endDate" -> member.getEndDate();
+            default -> member.getId();
+        };
+    }
+}
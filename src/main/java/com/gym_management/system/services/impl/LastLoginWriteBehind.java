@@ -0,0 +1,141 @@
+package com.gym_management.system.services.impl;
+
+import com.gym_management.system.model.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Escritura diferida (write-behind) del último login de los usuarios.
+ *
+ * <p>El login solo registra el instante en un mapa concurrente; una tarea periódica vuelca todos
+ * los pendientes en un único UPDATE por lotes, y lo mismo ocurre al apagar la aplicación. Si el
+ * volcado falla, los valores vuelven al mapa y se reintentan en el siguiente ciclo conservando el
+ * instante en que se encolaron, así el lag refleja cuánto lleva esperando el login más antiguo.</p>
+ *
+ * <p>Como el UPDATE no pasa por Hibernate, después de cada volcado se descartan de la caché de
+ * segundo nivel los usuarios actualizados, para que la próxima lectura traiga el último login.</p>
+ */
+@Component
+@Slf4j
+public class LastLoginWriteBehind {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<Long, PendingLogin> pending = new ConcurrentHashMap<>();
+    private final DistributionSummary batchSize;
+    private final Timer flushTimer;
+
+    public LastLoginWriteBehind(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+
+        Gauge.builder("auth.last-login.pending", pending, Map::size)
+                .description("Últimos logins pendientes de escribir")
+                .register(meterRegistry);
+        Gauge.builder("auth.last-login.flush.lag", this, LastLoginWriteBehind::currentLagSeconds)
+                .description("Antigüedad del último login pendiente más antiguo")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("auth.last-login.batch.size")
+                .description("Filas por volcado de últimos logins")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("auth.last-login.flush")
+                .description("Duración del volcado de últimos logins")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registrar un login; si ya hay uno pendiente para el usuario se conserva el más reciente
+     */
+    public void record(Long userId, LocalDateTime loginTime) {
+        enqueue(userId, new PendingLogin(loginTime, System.currentTimeMillis()));
+    }
+
+    private void enqueue(Long userId, PendingLogin login) {
+        pending.merge(userId, login, PendingLogin::merge);
+    }
+
+    /**
+     * Volcar los logins pendientes en un único UPDATE por lotes
+     */
+    @Scheduled(fixedDelayString = "${auth.last-login.flush-interval:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PendingLogin> drained = new HashMap<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (Long userId : pending.keySet()) {
+            PendingLogin login = pending.remove(userId);
+            if (login != null) {
+                Timestamp timestamp = Timestamp.valueOf(login.loginTime());
+                drained.put(userId, login);
+                batch.add(new Object[]{timestamp, userId, timestamp});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(UPDATE_SQL, batch));
+            batchSize.record(batch.size());
+            Cache cache = entityManagerFactory.getCache();
+            for (Long userId : drained.keySet()) {
+                cache.evict(User.class, userId);
+            }
+            log.debug("Volcados {} últimos logins", batch.size());
+        } catch (RuntimeException e) {
+            log.error("Error volcando últimos logins, se reintentará: {}", e.getMessage());
+            drained.forEach(this::enqueue);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        log.info("Volcando últimos logins pendientes antes de apagar");
+        flush();
+    }
+
+    private double currentLagSeconds() {
+        long oldest = Long.MAX_VALUE;
+        for (PendingLogin login : pending.values()) {
+            oldest = Math.min(oldest, login.enqueuedAt());
+        }
+        return oldest == Long.MAX_VALUE ? 0.0 : (System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    /**
+     * Login pendiente: el instante más reciente y cuándo se encoló el primero sin volcar
+     */
+    private record PendingLogin(LocalDateTime loginTime, long enqueuedAt) {
+
+        PendingLogin merge(PendingLogin other) {
+            return new PendingLogin(
+                    other.loginTime().isAfter(loginTime) ? other.loginTime() : loginTime,
+                    Math.min(enqueuedAt, other.enqueuedAt()));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.gym_management.system.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym_management.system.exception.ExportNotAvailableException;
+import com.gym_management.system.model.Member;
+import com.gym_management.system.model.dto.MemberExportResponse;
+import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.services.MemberExportService;
+import com.gym_management.system.services.export.ExportFormat;
+import com.gym_management.system.services.export.MemberRowWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Implementación de la exportación completa de miembros a archivos gzip en disco.
+ *
+ * <p>La consulta se ejecuta con un {@code PreparedStatement} de solo avance y lectura con
+ * {@code member.export.fetch-size}; con {@code useCursorFetch=true} MySQL entrega las filas desde
+ * un cursor del servidor por bloques de ese tamaño. Cada fila se copia en un único
+ * {@link MemberResponse} reutilizado y se serializa con {@link MemberRowWriter}, por lo que el
+ * archivo es idéntico al de {@code /api/members/active/stream} (e importable con
+ * {@code /api/members/import}).</p>
+ */
+@Service
+@Slf4j
+public class MemberExportServiceImpl implements MemberExportService {
+
+    private static final String EXPORT_SQL =
+            "SELECT id, first_name, last_name, email, phone, date_of_birth, gender, address, emergency_contact, " +
+            "emergency_phone, membership_type, start_date, end_date, notes, height, weight, is_active, " +
+            "created_at, updated_at FROM members ORDER BY id";
+
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int fetchSize;
+    private final String[] scheduledFormats;
+    private final ReentrantLock exportLock = new ReentrantLock();
+
+    public MemberExportServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${member.export.directory:${java.io.tmpdir}/gym-exports}") String directory,
+            @Value("${member.export.fetch-size:1000}") int fetchSize,
+            @Value("${member.export.scheduled-formats:csv}") String[] scheduledFormats) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(directory);
+        this.fetchSize = fetchSize;
+        this.scheduledFormats = scheduledFormats;
+    }
+
+    @Override
+    public MemberExportResponse exportMembers(ExportFormat format) throws IOException {
+        // Una exportación a la vez: el job nocturno y una ejecución manual no compiten por el cursor
+        exportLock.lock();
+        try {
+            return doExport(format);
+        } finally {
+            exportLock.unlock();
+        }
+    }
+
+    @Override
+    public Path getExportFile(ExportFormat format) {
+        Path file = directory.resolve(fileName(format));
+        if (!Files.isRegularFile(file)) {
+            throw new ExportNotAvailableException(format.getExtension());
+        }
+        return file;
+    }
+
+    /**
+     * Exportación nocturna de los formatos configurados en {@code member.export.scheduled-formats}
+     */
+    @Scheduled(cron = "${member.export.cron:0 0 2 * * *}")
+    public void exportScheduled() {
+        for (String value : scheduledFormats) {
+            try {
+                exportMembers(ExportFormat.fromParameter(value.trim()));
+            } catch (IOException | RuntimeException e) {
+                log.error("Error en la exportación programada de miembros en formato {}: {}", value, e.getMessage());
+            }
+        }
+    }
+
+    private MemberExportResponse doExport(ExportFormat format) throws IOException {
+        log.info("Iniciando exportación completa de miembros en formato {}", format);
+        long start = System.nanoTime();
+
+        Files.createDirectories(directory);
+        Path target = directory.resolve(fileName(format));
+        Path temp = Files.createTempFile(directory, fileName(format), ".tmp");
+
+        long rows;
+        try {
+            try (OutputStream out = new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), WRITE_BUFFER_BYTES), WRITE_BUFFER_BYTES)) {
+                // El buffer del writer se vacía al gzip cada bloque de filas; el archivo no necesita flush por fila
+                MemberRowWriter writer = new MemberRowWriter(format, out, objectMapper, fetchSize);
+                writer.writeHeader();
+                writeRows(writer);
+                writer.flush();
+                rows = writer.getRowsWritten();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        long size = Files.size(target);
+        log.info("Exportación de miembros terminada: {} filas, {} bytes comprimidos en {} ms", rows, size, durationMillis);
+        return new MemberExportResponse(format.getExtension(), target.getFileName().toString(), rows, size,
+                LocalDateTime.now(), durationMillis);
+    }
+
+    private void writeRows(MemberRowWriter writer) throws IOException {
+        MemberResponse row = new MemberResponse();
+        LocalDate today = LocalDate.now();
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, resultSet -> {
+                copyRow(resultSet, row, today);
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Copiar la fila actual del cursor sobre el DTO reutilizado
+     */
+    private static void copyRow(ResultSet resultSet, MemberResponse row, LocalDate today) throws SQLException {
+        row.setId(resultSet.getLong("id"));
+        row.setFirstName(resultSet.getString("first_name"));
+        row.setLastName(resultSet.getString("last_name"));
+        row.setFullName(row.getFirstName() + " " + row.getLastName());
+        row.setEmail(resultSet.getString("email"));
+        row.setPhone(resultSet.getString("phone"));
+        row.setDateOfBirth(resultSet.getObject("date_of_birth", LocalDate.class));
+        row.setAge(Member.calculateAge(row.getDateOfBirth(), today));
+        row.setGender(resultSet.getString("gender"));
+        row.setAddress(resultSet.getString("address"));
+        row.setEmergencyContact(resultSet.getString("emergency_contact"));
+        row.setEmergencyPhone(resultSet.getString("emergency_phone"));
+        row.setMembershipType(resultSet.getString("membership_type"));
+        row.setStartDate(resultSet.getObject("start_date", LocalDate.class));
+        row.setEndDate(resultSet.getObject("end_date", LocalDate.class));
+        row.setNotes(resultSet.getString("notes"));
+        row.setHeight(resultSet.getObject("height", Double.class));
+        row.setWeight(resultSet.getObject("weight", Double.class));
+        row.setIsActive(resultSet.getBoolean("is_active"));
+        row.setCreatedAt(resultSet.getObject("created_at", LocalDateTime.class));
+        row.setUpdatedAt(resultSet.getObject("updated_at", LocalDateTime.class));
+    }
+
+    private static String fileName(ExportFormat format) {
+        return "members." + format.getExtension() + ".gz";
+    }
+}
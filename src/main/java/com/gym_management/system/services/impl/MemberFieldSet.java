@@ -0,0 +1,97 @@
+package com.gym_management.system.services.impl;
+
+import com.gym_management.system.exception.InvalidFieldSelectionException;
+import com.gym_management.system.model.Member;
+import jakarta.persistence.Tuple;
+
+import java.time.LocalDate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Selección de campos ({@code fields=}) para las respuestas de miembros.
+ *
+ * <p>Traduce los nombres de {@code MemberResponse} pedidos por el cliente a los atributos de la
+ * entidad que hay que seleccionar, y arma cada fila como un mapa con solo esos campos, en el
+ * orden pedido. Los campos calculados seleccionan las columnas de las que dependen:
+ * {@code fullName} usa nombre y apellido, {@code age} usa la fecha de nacimiento.</p>
+ */
+final class MemberFieldSet {
+
+    private record FieldSpec(List<String> attributes, Function<Tuple, Object> extractor) {
+    }
+
+    private static final Map<String, FieldSpec> FIELDS = new LinkedHashMap<>();
+
+    static {
+        for (String attribute : List.of("id", "firstName", "lastName", "email", "phone", "dateOfBirth",
+                "gender", "address", "emergencyContact", "emergencyPhone", "membershipType", "startDate",
+                "endDate", "notes", "height", "weight", "isActive", "createdAt", "updatedAt")) {
+            FIELDS.put(attribute, new FieldSpec(List.of(attribute), tuple -> tuple.get(attribute)));
+        }
+        FIELDS.put("fullName", new FieldSpec(List.of("firstName", "lastName"),
+                tuple -> tuple.get("firstName") + " " + tuple.get("lastName")));
+        FIELDS.put("age", new FieldSpec(List.of("dateOfBirth"),
+                tuple -> Member.calculateAge((LocalDate) tuple.get("dateOfBirth"), LocalDate.now())));
+    }
+
+    private final List<String> fields;
+    private final Set<String> attributes;
+
+    private MemberFieldSet(List<String> fields, Set<String> attributes) {
+        this.fields = fields;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Interpretar el parámetro {@code fields}: nombres separados por coma, sin repetir
+     */
+    static MemberFieldSet parse(String fieldsParameter) {
+        List<String> fields = new ArrayList<>();
+        Set<String> attributes = new LinkedHashSet<>();
+        if (fieldsParameter != null) {
+            for (String raw : fieldsParameter.split(",")) {
+                String field = raw.trim();
+                if (field.isEmpty() || fields.contains(field)) {
+                    continue;
+                }
+                FieldSpec spec = FIELDS.get(field);
+                if (spec == null) {
+                    throw new InvalidFieldSelectionException(
+                            "Campo no soportado: " + field + ". Valores permitidos: " + FIELDS.keySet());
+                }
+                fields.add(field);
+                attributes.addAll(spec.attributes());
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new InvalidFieldSelectionException("Debe indicar al menos un campo en 'fields'");
+        }
+        return new MemberFieldSet(fields, attributes);
+    }
+
+    /**
+     * Atributos de la entidad a seleccionar, más los adicionales indicados (por ejemplo, las
+     * columnas que necesita el cursor de paginación aunque el cliente no las pida)
+     */
+    Collection<String> attributes(String... additional) {
+        Set<String> all = new LinkedHashSet<>(attributes);
+        all.addAll(List.of(additional));
+        return all;
+    }
+
+    Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+        for (String field : fields) {
+            row.put(field, FIELDS.get(field).extractor().apply(tuple));
+        }
+        return row;
+    }
+}
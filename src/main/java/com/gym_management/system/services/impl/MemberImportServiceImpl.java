@@ -0,0 +1,231 @@
+package com.gym_management.system.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gym_management.system.model.Member;
+import com.gym_management.system.model.dto.CreateMemberRequest;
+import com.gym_management.system.model.dto.MemberImportResponse;
+import com.gym_management.system.repository.MemberRepository;
+import com.gym_management.system.search.MemberSearchIndex;
+import com.gym_management.system.services.MemberImportService;
+import com.gym_management.system.services.export.ExportFormat;
+import com.gym_management.system.services.export.MemberRowReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación de la importación masiva de miembros.
+ *
+ * <p>Lee el archivo de a una fila y acumula lotes de {@code member.import.chunk-size} filas. Cada
+ * lote se valida en memoria, consulta sus emails con un único {@code IN (...)} y se inserta en su
+ * propia transacción; si el INSERT falla, el lote se reintenta por mitades para rechazar solo las
+ * filas culpables. Al terminar se vacía el contexto de persistencia, así que la memoria usada no
+ * depende del tamaño del archivo (salvo el conjunto de emails ya vistos, necesario para detectar
+ * duplicados dentro del archivo).</p>
+ *
+ * <p>Los INSERT se agrupan en lotes JDBC ({@code hibernate.jdbc.batch_size}) gracias a que los ids
+ * de {@link Member} salen de un generador pooled y no de una columna IDENTITY.</p>
+ */
+@Service
+@Slf4j
+public class MemberImportServiceImpl implements MemberImportService {
+
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberSearchIndex memberSearchIndex;
+    private final MemberStatsTracker memberStatsTracker;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public MemberImportServiceImpl(
+            MemberRepository memberRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            MemberSearchIndex memberSearchIndex,
+            MemberStatsTracker memberStatsTracker,
+            @Value("${member.import.chunk-size:500}") int chunkSize,
+            @Value("${member.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.memberRepository = memberRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.memberSearchIndex = memberSearchIndex;
+        this.memberStatsTracker = memberStatsTracker;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = Math.max(0, maxReportedErrors);
+    }
+
+    @Override
+    public MemberImportResponse importMembers(ExportFormat format, InputStream inputStream) throws IOException {
+        log.info("Iniciando importación masiva de miembros en formato {}", format);
+        long start = System.nanoTime();
+
+        ImportReport report = new ImportReport();
+        Set<String> seenEmails = new HashSet<>();
+        MemberRowReader reader = new MemberRowReader(format, inputStream, objectMapper);
+        List<CandidateRow> chunk = new ArrayList<>(chunkSize);
+
+        MemberRowReader.Row row;
+        while ((row = reader.next()) != null) {
+            report.totalRows++;
+            CandidateRow candidate = validate(row, seenEmails, report);
+            if (candidate != null) {
+                chunk.add(candidate);
+            }
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        report.errors.sort(Comparator.comparingLong(MemberImportResponse.RowError::getRow));
+        log.info("Importación masiva terminada: {} filas, {} importadas, {} rechazadas en {} ms",
+                report.totalRows, report.importedRows, report.failedRows, durationMillis);
+
+        return new MemberImportResponse(report.totalRows, report.importedRows, report.failedRows,
+                durationMillis, report.errors, report.failedRows > report.errors.size());
+    }
+
+    /**
+     * Validar una fila en memoria; devuelve null (y la registra como rechazada) si no es importable
+     */
+    private CandidateRow validate(MemberRowReader.Row row, Set<String> seenEmails, ImportReport report) {
+        if (row.request() == null) {
+            report.reject(row.number(), null, List.of(row.error()));
+            return null;
+        }
+
+        CreateMemberRequest request = row.request();
+        Set<ConstraintViolation<CreateMemberRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            List<String> messages = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.toList());
+            report.reject(row.number(), request.getEmail(), messages);
+            return null;
+        }
+
+        String emailKey = request.getEmail().toLowerCase(Locale.ROOT);
+        if (!seenEmails.add(emailKey)) {
+            report.reject(row.number(), request.getEmail(), List.of("email: repetido en el archivo"));
+            return null;
+        }
+        return new CandidateRow(row.number(), emailKey, request);
+    }
+
+    /**
+     * Descartar los emails ya registrados con una sola consulta e insertar el resto del lote
+     */
+    private void importChunk(List<CandidateRow> chunk, ImportReport report) {
+        Set<String> existing = memberRepository.findExistingEmails(
+                        chunk.stream().map(candidate -> candidate.request().getEmail()).toList())
+                .stream()
+                .map(email -> email.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+
+        List<CandidateRow> toInsert = new ArrayList<>(chunk.size());
+        for (CandidateRow candidate : chunk) {
+            if (existing.contains(candidate.emailKey())) {
+                report.reject(candidate.number(), candidate.request().getEmail(), List.of("email: ya está registrado"));
+            } else {
+                toInsert.add(candidate);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        insert(toInsert, report);
+    }
+
+    /**
+     * Insertar las filas en una transacción. Si el lote falla (una restricción que no se detectó
+     * al validar, por ejemplo un email insertado por otra importación en paralelo) se divide en
+     * mitades y se reintenta, hasta rechazar solo las filas que fallan por sí solas
+     */
+    private void insert(List<CandidateRow> rows, ImportReport report) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Member> members = rows.stream()
+                        .map(candidate -> MemberMapper.toEntity(candidate.request()))
+                        .toList();
+                memberRepository.saveAllAndFlush(members);
+                entityManager.clear();
+                for (Member member : members) {
+                    memberSearchIndex.index(member);
+                    memberStatsTracker.memberCreated(member);
+                }
+            });
+            report.importedRows += rows.size();
+        } catch (DataAccessException | TransactionException e) {
+            if (rows.size() == 1) {
+                CandidateRow candidate = rows.get(0);
+                log.warn("Error insertando el miembro de la fila {}: {}", candidate.number(), rootMessage(e));
+                report.reject(candidate.number(), candidate.request().getEmail(),
+                        List.of("No se pudo guardar la fila: " + rootMessage(e)));
+                return;
+            }
+            log.debug("Error insertando un lote de {} miembros desde la fila {}, se reintenta por mitades: {}",
+                    rows.size(), rows.get(0).number(), rootMessage(e));
+            int middle = rows.size() / 2;
+            insert(rows.subList(0, middle), report);
+            insert(rows.subList(middle, rows.size()), report);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private record CandidateRow(long number, String emailKey, CreateMemberRequest request) {
+    }
+
+    /**
+     * Totales acumulados de una importación; solo conserva el detalle de los primeros rechazos
+     */
+    private final class ImportReport {
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+        private final List<MemberImportResponse.RowError> errors = new ArrayList<>();
+
+        void reject(long row, String email, List<String> messages) {
+            failedRows++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new MemberImportResponse.RowError(row, email, messages));
+            }
+        }
+    }
+}
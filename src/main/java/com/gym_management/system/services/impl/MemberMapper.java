@@ -0,0 +1,134 @@
+package com.gym_management.system.services.impl;
+
+import com.gym_management.system.model.Member;
+import com.gym_management.system.model.dto.CreateMemberRequest;
+import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.model.dto.UpdateMemberRequest;
+
+/**
+ * Conversión entre la entidad {@link Member} y sus DTOs de creación, actualización y respuesta.
+ *
+ * <p>Compartida por el servicio de miembros, la importación masiva y los benchmarks de mapeo.</p>
+ */
+public final class MemberMapper {
+
+    private MemberMapper() {
+    }
+
+    /**
+     * Mapea un DTO de creación a una entidad Member.
+     *
+     * @param request DTO con los datos del miembro a crear
+     * @return Entidad Member mapeada
+     */
+    public static Member toEntity(CreateMemberRequest request) {
+        Member member = new Member();
+        member.setFirstName(request.getFirstName());
+        member.setLastName(request.getLastName());
+        member.setEmail(request.getEmail());
+        member.setPhone(request.getPhone());
+        member.setDateOfBirth(request.getDateOfBirth());
+        member.setGender(request.getGender());
+        member.setAddress(request.getAddress());
+        member.setEmergencyContact(request.getEmergencyContact());
+        member.setEmergencyPhone(request.getEmergencyPhone());
+        member.setMembershipType(request.getMembershipType());
+        member.setStartDate(request.getStartDate());
+        member.setEndDate(request.getEndDate());
+        member.setNotes(request.getNotes());
+        member.setHeight(request.getHeight());
+        member.setWeight(request.getWeight());
+        member.setIsActive(true); // Por defecto activo
+        return member;
+    }
+
+    /**
+     * Mapea una entidad Member a un DTO de respuesta.
+     *
+     * @param member Entidad Member a mapear
+     * @return DTO de respuesta con la información del miembro
+     */
+    public static MemberResponse toResponse(Member member) {
+        MemberResponse response = new MemberResponse();
+        response.setId(member.getId());
+        response.setFirstName(member.getFirstName());
+        response.setLastName(member.getLastName());
+        response.setFullName(member.getFullName());
+        response.setEmail(member.getEmail());
+        response.setPhone(member.getPhone());
+        response.setDateOfBirth(member.getDateOfBirth());
+        response.setAge(member.getAge());
+        response.setGender(member.getGender());
+        response.setAddress(member.getAddress());
+        response.setEmergencyContact(member.getEmergencyContact());
+        response.setEmergencyPhone(member.getEmergencyPhone());
+        response.setMembershipType(member.getMembershipType());
+        response.setStartDate(member.getStartDate());
+        response.setEndDate(member.getEndDate());
+        response.setNotes(member.getNotes());
+        response.setHeight(member.getHeight());
+        response.setWeight(member.getWeight());
+        response.setIsActive(member.getIsActive());
+        response.setCreatedAt(member.getCreatedAt());
+        response.setUpdatedAt(member.getUpdatedAt());
+        response.setVersion(member.getVersion());
+        return response;
+    }
+
+    /**
+     * Actualiza los campos de un miembro con los valores no nulos del DTO de actualización.
+     *
+     * @param member Entidad Member a actualizar
+     * @param request DTO con los campos a actualizar
+     */
+    public static void updateFields(Member member, UpdateMemberRequest request) {
+        if (request.getFirstName() != null) {
+            member.setFirstName(request.getFirstName());
+        }
+        if (request.getLastName() != null) {
+            member.setLastName(request.getLastName());
+        }
+        if (request.getEmail() != null) {
+            member.setEmail(request.getEmail());
+        }
+        if (request.getPhone() != null) {
+            member.setPhone(request.getPhone());
+        }
+        if (request.getDateOfBirth() != null) {
+            member.setDateOfBirth(request.getDateOfBirth());
+        }
+        if (request.getGender() != null) {
+            member.setGender(request.getGender());
+        }
+        if (request.getAddress() != null) {
+            member.setAddress(request.getAddress());
+        }
+        if (request.getEmergencyContact() != null) {
+            member.setEmergencyContact(request.getEmergencyContact());
+        }
+        if (request.getEmergencyPhone() != null) {
+            member.setEmergencyPhone(request.getEmergencyPhone());
+        }
+        if (request.getMembershipType() != null) {
+            member.setMembershipType(request.getMembershipType());
+        }
+        if (request.getStartDate() != null) {
+            member.setStartDate(request.getStartDate());
+        }
+        if (request.getEndDate() != null) {
+            member.setEndDate(request.getEndDate());
+        }
+        if (request.getNotes() != null) {
+            member.setNotes(request.getNotes());
+        }
+        if (request.getHeight() != null) {
+            member.setHeight(request.getHeight());
+        }
+        if (request.getWeight() != null) {
+            member.setWeight(request.getWeight());
+        }
+        if (request.getIsActive() != null) {
+            member.setIsActive(request.getIsActive());
+        }
+    }
+}
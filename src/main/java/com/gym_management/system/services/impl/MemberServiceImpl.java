@@ -1,36 +1,72 @@
 package com.gym_management.system.services.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gym_management.system.exception.DuplicateEmailException;
+import com.gym_management.system.exception.InvalidBulkUpdateRequestException;
+import com.gym_management.system.exception.InvalidDateRangeException;
+import com.gym_management.system.exception.InvalidPaginationRequestException;
 import com.gym_management.system.exception.MemberNotFoundException;
+import com.gym_management.system.exception.PreconditionFailedException;
+import com.gym_management.system.exception.VersionConflictException;
 import com.gym_management.system.model.Member;
+import com.gym_management.system.model.dto.BulkMemberUpdateRequest;
 import com.gym_management.system.model.dto.CreateMemberRequest;
+import com.gym_management.system.model.dto.CursorPageResponse;
+import com.gym_management.system.model.dto.MemberFilter;
 import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.model.dto.ResourceVersion;
 import com.gym_management.system.model.dto.UpdateMemberRequest;
+import com.gym_management.system.repository.MemberKeysetRepository;
 import com.gym_management.system.repository.MemberRepository;
+import com.gym_management.system.search.MemberSearchIndex;
 import com.gym_management.system.services.MemberService;
+import com.gym_management.system.services.export.ExportFormat;
+import com.gym_management.system.services.export.MemberRowWriter;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementación del servicio de gestión de miembros.
  * Contiene toda la lógica de negocio para las operaciones CRUD y consultas de miembros.
  */
 @Service
+@Timed(value = "service.invocations", description = "Duración de los métodos de servicio")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class MemberServiceImpl implements MemberService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int STREAM_FLUSH_ROWS = 500;
+
     private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final MemberSearchIndex memberSearchIndex;
+    private final MemberStatsTracker memberStatsTracker;
 
     @Override
     public MemberResponse createMember(CreateMemberRequest request) {
@@ -42,13 +78,15 @@ public class MemberServiceImpl implements MemberService {
         }
 
         // Mapear DTO a entidad
-        Member member = mapToEntity(request);
+        Member member = MemberMapper.toEntity(request);
         
         // Guardar en base de datos
         Member savedMember = memberRepository.save(member);
+        memberSearchIndex.index(savedMember);
+        memberStatsTracker.memberCreated(savedMember);
         
         log.info("Miembro creado exitosamente con ID: {}", savedMember.getId());
-        return mapToResponse(savedMember);
+        return MemberMapper.toResponse(savedMember);
     }
 
     @Override
@@ -60,7 +98,85 @@ public class MemberServiceImpl implements MemberService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
         
         Page<Member> members = memberRepository.findAll(pageable);
-        return members.map(this::mapToResponse);
+        return members.map(MemberMapper::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllMembers(int page, int size, String sortBy, String sortDirection, String fields) {
+        log.info("Obteniendo miembros con campos {} - página: {}, tamaño: {}, orden: {} {}", fields, page, size, sortBy, sortDirection);
+        
+        MemberFieldSet fieldSet = MemberFieldSet.parse(fields);
+        // La consulta Criteria no valida el campo: uno desconocido terminaría en un 500
+        validateSortField(sortBy);
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        
+        return memberRepository.findAllProjected(fieldSet.attributes(), pageable).map(fieldSet::toMap);
+    }
+
+    /**
+     * Paginación por keyset: la consulta filtra por (campo, id) &gt; (último valor, último id)
+     * y ordena por ese mismo par, de modo que el índice compuesto resuelve el seek.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MemberResponse> getMembersByCursor(String cursor, int size, String sortBy,
+                                                                 String sortDirection, boolean includeTotal) {
+        log.info("Obteniendo miembros por cursor - tamaño: {}, orden: {} {}, total: {}", size, sortBy, sortDirection, includeTotal);
+
+        validateCursorRequest(sortBy, size);
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor, sortBy, direction);
+
+        // Se pide una fila extra solo para saber si existe una página siguiente
+        List<Member> rows = after == null
+                ? memberRepository.findPageAfter(sortBy, direction, null, null, size + 1)
+                : memberRepository.findPageAfter(sortBy, direction, after.lastValue(), after.lastId(), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<Member> page = hasNext ? rows.subList(0, size) : rows;
+
+        List<MemberResponse> content = page.stream()
+                .map(MemberMapper::toResponse)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext
+                ? KeysetCursor.after(page.get(page.size() - 1), sortBy, direction).encode()
+                : null;
+        Long totalElements = includeTotal ? memberRepository.count() : null;
+
+        return new CursorPageResponse<>(content, content.size(), hasNext, nextCursor, totalElements);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Map<String, Object>> getMembersByCursor(String cursor, int size, String sortBy,
+                                                                      String sortDirection, boolean includeTotal,
+                                                                      String fields) {
+        log.info("Obteniendo miembros por cursor con campos {} - tamaño: {}, orden: {} {}", fields, size, sortBy, sortDirection);
+
+        validateCursorRequest(sortBy, size);
+        MemberFieldSet fieldSet = MemberFieldSet.parse(fields);
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor, sortBy, direction);
+
+        // El cursor necesita el campo de orden y el id aunque el cliente no los haya pedido
+        List<Tuple> rows = memberRepository.findPageAfterProjected(fieldSet.attributes(sortBy, "id"), sortBy, direction,
+                after == null ? null : after.lastValue(), after == null ? null : after.lastId(), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<Tuple> page = hasNext ? rows.subList(0, size) : rows;
+
+        List<Map<String, Object>> content = page.stream()
+                .map(fieldSet::toMap)
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.after(last.get(sortBy), (Long) last.get("id"), sortBy, direction).encode();
+        }
+        Long totalElements = includeTotal ? memberRepository.count() : null;
+
+        return new CursorPageResponse<>(content, content.size(), hasNext, nextCursor, totalElements);
     }
 
     @Override
@@ -71,7 +187,7 @@ public class MemberServiceImpl implements MemberService {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new MemberNotFoundException(id));
         
-        return mapToResponse(member);
+        return MemberMapper.toResponse(member);
     }
 
     @Override
@@ -79,18 +195,55 @@ public class MemberServiceImpl implements MemberService {
     public MemberResponse getMemberByEmail(String email) {
         log.info("Buscando miembro con email: {}", email);
         
-        Member member = memberRepository.findByEmail(email)
+        Member member = memberRepository.findByEmailNaturalId(email)
                 .orElseThrow(() -> new MemberNotFoundException("email", email));
         
-        return mapToResponse(member);
+        return MemberMapper.toResponse(member);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getMemberVersion(Long id) {
+        Object[] row = memberRepository.findVersionById(id).stream()
+                .findFirst()
+                .orElseThrow(() -> new MemberNotFoundException(id));
+        return memberVersion(id, (Long) row[0], (LocalDateTime) row[1]);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getMemberVersionByEmail(String email) {
+        // El id (y no el email) forma parte del ETag: así el valor siempre es ASCII válido
+        Object[] row = memberRepository.findVersionByEmail(email).stream()
+                .findFirst()
+                .orElseThrow(() -> new MemberNotFoundException("email", email));
+        return memberVersion((Long) row[0], (Long) row[1], (LocalDateTime) row[2]);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getMembersVersion() {
+        // Sin COUNT: las bajas de miembros son lógicas y también mueven updatedAt (ver bulkUpdate).
+        // La edad y el filtro por edad dependen del día, no solo de los datos
+        return ResourceVersion.ofCollection("members", memberRepository.findMaxUpdatedAt())
+                .changingDaily(LocalDate.now());
     }
 
     @Override
     public MemberResponse updateMember(Long id, UpdateMemberRequest request) {
+        return updateMember(id, request, null);
+    }
+
+    @Override
+    public MemberResponse updateMember(Long id, UpdateMemberRequest request, Long expectedVersion) {
         log.info("Actualizando miembro con ID: {}", id);
         
         Member existingMember = memberRepository.findById(id)
                 .orElseThrow(() -> new MemberNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(existingMember.getVersion())) {
+            throw new PreconditionFailedException("El miembro con ID " + id + " cambió desde la versión "
+                    + expectedVersion + " (versión actual: " + existingMember.getVersion() + ")");
+        }
 
         // Verificar email duplicado (si se está cambiando)
         if (request.getEmail() != null && !request.getEmail().equals(existingMember.getEmail())) {
@@ -100,35 +253,102 @@ public class MemberServiceImpl implements MemberService {
         }
 
         // Actualizar campos no nulos
-        updateMemberFields(existingMember, request);
+        MemberStatsTracker.StatsKey statsBefore = MemberStatsTracker.StatsKey.of(existingMember);
+        MemberMapper.updateFields(existingMember, request);
         
         Member updatedMember = memberRepository.save(existingMember);
+        // El flush inmediato ejecuta el UPDATE ... WHERE version = ? antes de indexar y ajustar estadísticas
+        try {
+            memberRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Conflicto de versión al actualizar el miembro con ID: {}", id);
+            throw new VersionConflictException("miembro", id);
+        }
+        memberSearchIndex.index(updatedMember);
+        memberStatsTracker.memberChanged(statsBefore, updatedMember);
         
         log.info("Miembro actualizado exitosamente con ID: {}", id);
-        return mapToResponse(updatedMember);
+        return MemberMapper.toResponse(updatedMember);
     }
 
     @Override
     public void deleteMember(Long id) {
         log.info("Eliminando miembro con ID: {}", id);
         
-        Member member = memberRepository.findById(id)
-                .orElseThrow(() -> new MemberNotFoundException(id));
-        
-        member.setIsActive(false);
-        memberRepository.save(member);
+        // UPDATE directo del estado, sin cargar la entidad; si no cambió nada se distingue
+        // entre "ya estaba inactivo" y "no existe"
+        if (bulkUpdate(List.of(id), null, false, null) == 0 && !memberRepository.existsById(id)) {
+            throw new MemberNotFoundException(id);
+        }
         
         log.info("Miembro eliminado (desactivado) exitosamente con ID: {}", id);
     }
 
+    @Override
+    public long deactivateMembers(BulkMemberUpdateRequest request) {
+        log.info("Desactivando miembros en bloque - ids: {}, filtro: {}", sizeOf(request.getIds()), request.getFilter());
+        
+        validateBulkSelection(request);
+        long updated = bulkUpdate(distinctIds(request), request.getFilter(), false, null);
+        
+        log.info("Miembros desactivados en bloque: {}", updated);
+        return updated;
+    }
+
+    @Override
+    public long activateMembers(BulkMemberUpdateRequest request) {
+        log.info("Reactivando miembros en bloque - ids: {}, filtro: {}", sizeOf(request.getIds()), request.getFilter());
+        
+        validateBulkSelection(request);
+        long updated = bulkUpdate(distinctIds(request), request.getFilter(), true, null);
+        
+        log.info("Miembros reactivados en bloque: {}", updated);
+        return updated;
+    }
+
+    @Override
+    public long changeMembershipType(BulkMemberUpdateRequest request) {
+        log.info("Cambiando tipo de membresía en bloque a {} - ids: {}, filtro: {}",
+                request.getMembershipType(), sizeOf(request.getIds()), request.getFilter());
+        
+        validateBulkSelection(request);
+        if (request.getMembershipType() == null) {
+            throw new InvalidBulkUpdateRequestException("Debe indicar el nuevo tipo de membresía (membershipType)");
+        }
+        long updated = bulkUpdate(distinctIds(request), request.getFilter(), null, request.getMembershipType());
+        
+        log.info("Tipo de membresía cambiado en bloque: {}", updated);
+        return updated;
+    }
+
+    @Override
+    public long expireMembers(List<Long> ids, LocalDate today) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        MemberFilter expired = new MemberFilter(null, true, today, null);
+        return bulkUpdate(ids, expired, false, null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<MemberResponse> searchMembersByName(String searchTerm) {
         log.info("Buscando miembros por nombre: {}", searchTerm);
         
-        List<Member> members = memberRepository.findByNameContaining(searchTerm);
-        return members.stream()
-                .map(this::mapToResponse)
+        if (!memberSearchIndex.isReady() || searchTerm == null || searchTerm.isBlank()) {
+            return memberRepository.findByNameContaining(searchTerm).stream()
+                    .map(MemberMapper::toResponse)
+                    .collect(Collectors.toList());
+        }
+        
+        // El índice devuelve los ids ya ordenados por relevancia; se cargan en una sola consulta
+        List<Long> ids = memberSearchIndex.search(searchTerm);
+        Map<Long, Member> membersById = memberRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        return ids.stream()
+                .map(membersById::get)
+                .filter(Objects::nonNull)
+                .map(MemberMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -139,137 +359,202 @@ public class MemberServiceImpl implements MemberService {
         
         List<Member> activeMembers = memberRepository.findByIsActiveTrue();
         return activeMembers.stream()
-                .map(this::mapToResponse)
+                .map(MemberMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchMembersByName(String searchTerm, String fields) {
+        log.info("Buscando miembros por nombre: {} con campos {}", searchTerm, fields);
+        
+        MemberFieldSet fieldSet = MemberFieldSet.parse(fields);
+        if (!memberSearchIndex.isReady() || searchTerm == null || searchTerm.isBlank()) {
+            return memberRepository.findProjectedByNameContaining(fieldSet.attributes(), searchTerm).stream()
+                    .map(fieldSet::toMap)
+                    .collect(Collectors.toList());
+        }
+        
+        // Se respeta el orden de relevancia del índice
+        List<Long> ids = memberSearchIndex.search(searchTerm);
+        Map<Long, Tuple> rowsById = memberRepository.findProjectedByIdIn(fieldSet.attributes("id"), ids).stream()
+                .collect(Collectors.toMap(tuple -> (Long) tuple.get("id"), Function.identity()));
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(fieldSet::toMap)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
+    public List<Map<String, Object>> getActiveMembers(String fields) {
+        log.info("Obteniendo miembros activos con campos {}", fields);
+        
+        MemberFieldSet fieldSet = MemberFieldSet.parse(fields);
+        return memberRepository.findActiveProjected(fieldSet.attributes()).stream()
+                .map(fieldSet::toMap)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamActiveMembers(ExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Transmitiendo miembros activos en formato {}", format);
+        
+        try (Stream<Member> members = memberRepository.streamActiveMembers()) {
+            return writeRows(members, format, outputStream);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamMembersByName(String searchTerm, ExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Transmitiendo miembros por nombre: {} en formato {}", searchTerm, format);
+        
+        try (Stream<Member> members = memberRepository.streamByNameContaining(searchTerm)) {
+            return writeRows(members, format, outputStream);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MemberStats getMemberStats() {
         log.info("Obteniendo estadísticas de miembros");
         
-        long totalMembers = memberRepository.count();
-        long activeMembers = memberRepository.countByIsActiveTrue();
-        long inactiveMembers = memberRepository.countByIsActiveFalse();
+        // Contadores en memoria: no abre transacción ni consulta la base de datos
+        return memberStatsTracker.snapshot();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MemberResponse> getMembersEndingBetween(LocalDate from, LocalDate to, int page, int size) {
+        log.info("Obteniendo miembros con vencimiento entre {} y {} - página: {}, tamaño: {}", from, to, page, size);
+        
+        validateDateRange(from, to);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("endDate", "id"));
+        return memberRepository.findByEndDateBetween(from, to, pageable).map(MemberMapper::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MemberResponse> getMembersStartingBetween(LocalDate from, LocalDate to, int page, int size) {
+        log.info("Obteniendo miembros con inicio entre {} y {} - página: {}, tamaño: {}", from, to, page, size);
+        
+        validateDateRange(from, to);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("startDate", "id"));
+        return memberRepository.findByStartDateBetween(from, to, pageable).map(MemberMapper::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MemberResponse> getMembersByAgeRange(int minAge, int maxAge, int page, int size) {
+        log.info("Obteniendo miembros con edad entre {} y {} - página: {}, tamaño: {}", minAge, maxAge, page, size);
         
-        return new MemberStats(totalMembers, activeMembers, inactiveMembers);
+        if (minAge < 0 || minAge > maxAge) {
+            throw new InvalidDateRangeException("Rango de edades inválido: " + minAge + " a " + maxAge);
+        }
+        // Tiene al menos minAge años quien nació hasta hoy - minAge, y como mucho maxAge quien nació
+        // después de hoy - (maxAge + 1) años
+        LocalDate today = LocalDate.now();
+        LocalDate bornFrom = today.minusYears(maxAge + 1L).plusDays(1);
+        LocalDate bornTo = today.minusYears(minAge);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("dateOfBirth", "id"));
+        return memberRepository.findByDateOfBirthBetween(bornFrom, bornTo, pageable).map(MemberMapper::toResponse);
     }
 
     // Métodos privados de mapeo y utilidades
 
-    /**
-     * Mapea un DTO de creación a una entidad Member.
-     *
-     * @param request DTO con los datos del miembro a crear
-     * @return Entidad Member mapeada
-     */
-    private Member mapToEntity(CreateMemberRequest request) {
-        Member member = new Member();
-        member.setFirstName(request.getFirstName());
-        member.setLastName(request.getLastName());
-        member.setEmail(request.getEmail());
-        member.setPhone(request.getPhone());
-        member.setDateOfBirth(request.getDateOfBirth());
-        member.setGender(request.getGender());
-        member.setAddress(request.getAddress());
-        member.setEmergencyContact(request.getEmergencyContact());
-        member.setEmergencyPhone(request.getEmergencyPhone());
-        member.setMembershipType(request.getMembershipType());
-        member.setStartDate(request.getStartDate());
-        member.setEndDate(request.getEndDate());
-        member.setNotes(request.getNotes());
-        member.setHeight(request.getHeight());
-        member.setWeight(request.getWeight());
-        member.setIsActive(true); // Por defecto activo
-        return member;
+    private static void validateDateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException("La fecha inicial (" + from + ") es posterior a la final (" + to + ")");
+        }
+    }
+
+    private void validateCursorRequest(String sortBy, int size) {
+        validateSortField(sortBy);
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidPaginationRequestException("El tamaño de página debe estar entre 1 y " + MAX_CURSOR_PAGE_SIZE);
+        }
+    }
+
+    private static void validateSortField(String sortBy) {
+        if (!MemberKeysetRepository.SORTABLE_FIELDS.contains(sortBy)) {
+            throw new InvalidPaginationRequestException(
+                    "Campo de orden no soportado: " + sortBy + ". Valores permitidos: " + MemberKeysetRepository.SORTABLE_FIELDS);
+        }
     }
 
     /**
-     * Mapea una entidad Member a un DTO de respuesta.
-     *
-     * @param member Entidad Member a mapear
-     * @return DTO de respuesta con la información del miembro
+     * Escribe cada miembro del stream y lo desvincula del contexto de persistencia, para que
+     * las entidades ya enviadas puedan ser recolectadas.
      */
-    private MemberResponse mapToResponse(Member member) {
-        MemberResponse response = new MemberResponse();
-        response.setId(member.getId());
-        response.setFirstName(member.getFirstName());
-        response.setLastName(member.getLastName());
-        response.setFullName(member.getFullName());
-        response.setEmail(member.getEmail());
-        response.setPhone(member.getPhone());
-        response.setDateOfBirth(member.getDateOfBirth());
-        response.setAge(member.getAge());
-        response.setGender(member.getGender());
-        response.setAddress(member.getAddress());
-        response.setEmergencyContact(member.getEmergencyContact());
-        response.setEmergencyPhone(member.getEmergencyPhone());
-        response.setMembershipType(member.getMembershipType());
-        response.setStartDate(member.getStartDate());
-        response.setEndDate(member.getEndDate());
-        response.setNotes(member.getNotes());
-        response.setHeight(member.getHeight());
-        response.setWeight(member.getWeight());
-        response.setIsActive(member.getIsActive());
-        response.setCreatedAt(member.getCreatedAt());
-        response.setUpdatedAt(member.getUpdatedAt());
-        return response;
+    private long writeRows(Stream<Member> members, ExportFormat format, OutputStream outputStream) throws IOException {
+        MemberRowWriter writer = new MemberRowWriter(format, outputStream, objectMapper, STREAM_FLUSH_ROWS);
+        writer.writeHeader();
+        
+        Iterator<Member> iterator = members.iterator();
+        while (iterator.hasNext()) {
+            Member member = iterator.next();
+            writer.write(MemberMapper.toResponse(member));
+            entityManager.detach(member);
+        }
+        writer.flush();
+        
+        log.info("Transmisión finalizada: {} miembros escritos", writer.getRowsWritten());
+        return writer.getRowsWritten();
     }
 
     /**
-     * Actualiza los campos de un miembro con los valores no nulos del DTO de actualización.
+     * Ejecuta un UPDATE masivo y ajusta las estadísticas en memoria.
+     * 
+     * <p>Primero cuenta por grupo de estadísticas las filas que van a cambiar y luego ejecuta el
+     * UPDATE con la misma condición, ambos en la transacción actual. Si otra transacción modifica
+     * las mismas filas entre ambas sentencias, la reconciliación periódica corrige la diferencia.</p>
      *
-     * @param member Entidad Member a actualizar
-     * @param request DTO con los campos a actualizar
+     * @return Cantidad de filas modificadas
      */
-    private void updateMemberFields(Member member, UpdateMemberRequest request) {
-        if (request.getFirstName() != null) {
-            member.setFirstName(request.getFirstName());
-        }
-        if (request.getLastName() != null) {
-            member.setLastName(request.getLastName());
-        }
-        if (request.getEmail() != null) {
-            member.setEmail(request.getEmail());
+    private long bulkUpdate(List<Long> ids, MemberFilter filter, Boolean active, String membershipType) {
+        List<Object[]> groups = memberRepository.countGroupedForChange(ids, filter, active, membershipType);
+        if (groups.isEmpty()) {
+            return 0;
         }
-        if (request.getPhone() != null) {
-            member.setPhone(request.getPhone());
-        }
-        if (request.getDateOfBirth() != null) {
-            member.setDateOfBirth(request.getDateOfBirth());
-        }
-        if (request.getGender() != null) {
-            member.setGender(request.getGender());
-        }
-        if (request.getAddress() != null) {
-            member.setAddress(request.getAddress());
-        }
-        if (request.getEmergencyContact() != null) {
-            member.setEmergencyContact(request.getEmergencyContact());
-        }
-        if (request.getEmergencyPhone() != null) {
-            member.setEmergencyPhone(request.getEmergencyPhone());
-        }
-        if (request.getMembershipType() != null) {
-            member.setMembershipType(request.getMembershipType());
-        }
-        if (request.getStartDate() != null) {
-            member.setStartDate(request.getStartDate());
-        }
-        if (request.getEndDate() != null) {
-            member.setEndDate(request.getEndDate());
-        }
-        if (request.getNotes() != null) {
-            member.setNotes(request.getNotes());
-        }
-        if (request.getHeight() != null) {
-            member.setHeight(request.getHeight());
+        
+        int updated = memberRepository.updateMembers(ids, filter, active, membershipType, LocalDateTime.now());
+        for (Object[] group : groups) {
+            MemberStatsTracker.StatsKey before = MemberStatsTracker.StatsKey.of((Boolean) group[0], (String) group[1], (String) group[2]);
+            MemberStatsTracker.StatsKey after = MemberStatsTracker.StatsKey.of(
+                    active != null ? active : before.active(),
+                    membershipType != null ? membershipType : before.membershipType(),
+                    before.gender());
+            memberStatsTracker.membersChanged(before, after, ((Number) group[3]).longValue());
         }
-        if (request.getWeight() != null) {
-            member.setWeight(request.getWeight());
+        return updated;
+    }
+
+    private void validateBulkSelection(BulkMemberUpdateRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter = request.getFilter() != null;
+        if (hasIds == hasFilter) {
+            throw new InvalidBulkUpdateRequestException("Debe indicar ids o filter, pero no ambos");
         }
-        if (request.getIsActive() != null) {
-            member.setIsActive(request.getIsActive());
+        if (hasFilter && request.getFilter().isEmpty()) {
+            throw new InvalidBulkUpdateRequestException(
+                    "El filtro debe tener al menos un criterio; para modificar todos los miembros use isActive");
         }
     }
-} 
\ No newline at end of file
+
+    private static List<Long> distinctIds(BulkMemberUpdateRequest request) {
+        return request.getIds() == null ? null
+                : request.getIds().stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    private static int sizeOf(List<Long> ids) {
+        return ids == null ? 0 : ids.size();
+    }
+
+    private static ResourceVersion memberVersion(Long id, Long version, LocalDateTime updatedAt) {
+        // La edad calculada cambia con el día aunque la fila no cambie
+        return ResourceVersion.ofVersion("member", id, version, updatedAt).changingDaily(LocalDate.now());
+    }
+}
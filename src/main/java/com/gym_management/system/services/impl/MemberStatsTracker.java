@@ -0,0 +1,326 @@
+package com.gym_management.system.services.impl;
+
+import com.gym_management.system.model.Member;
+import com.gym_management.system.repository.MemberRepository;
+import com.gym_management.system.services.MemberService.MemberStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Contadores en memoria de miembros por (activo, tipo de membresía, género).
+ *
+ * <p>Los contadores se cargan con una única consulta agregada y luego se ajustan en cada alta,
+ * modificación y baja. El ajuste se aplica de inmediato, para que la propia transacción vea sus
+ * cambios, y se revierte si la transacción hace rollback. Una tarea periódica recarga los conteos
+ * desde la base de datos para corregir cambios hechos por otras instancias o por SQL directo.</p>
+ *
+ * <p>Una recarga solo reemplaza los conteos si ninguna transacción con ajustes estaba confirmando
+ * mientras corría la consulta: de un commit que coincide con ella no se sabe si la consulta lo vio,
+ * así que la carga se descarta y se repite. Los ajustes confirmados después del reemplazo se aplican
+ * a los conteos nuevos, y un rollback solo se compensa sobre los conteos en los que se aplicó el
+ * ajuste original.</p>
+ *
+ * <p>Todas las cifras de {@link MemberStats} se derivan de esta misma estructura, de modo que
+ * obtenerlas no ejecuta consultas.</p>
+ */
+@Component
+@Slf4j
+public class MemberStatsTracker {
+
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    private static final long COMMIT_WAIT_MILLIS = 1000;
+
+    private final MemberRepository memberRepository;
+
+    private volatile Map<StatsKey, LongAdder> counts;
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    // Transacciones con ajustes entre beforeCompletion y afterCompletion, y cuántas entraron en ese
+    // tramo desde el arranque: el commit en la base cae en algún punto del tramo
+    private int committing;
+    private long commitsStarted;
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final Condition noneCommitting = commitLock.newCondition();
+
+    public MemberStatsTracker(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * Clave de agrupación de un miembro para las estadísticas
+     */
+    public record StatsKey(boolean active, String membershipType, String gender) {
+
+        public static StatsKey of(Member member) {
+            return of(member.getIsActive(), member.getMembershipType(), member.getGender());
+        }
+
+        public static StatsKey of(Boolean active, String membershipType, String gender) {
+            return new StatsKey(Boolean.TRUE.equals(active),
+                    Objects.requireNonNullElse(membershipType, UNKNOWN),
+                    Objects.requireNonNullElse(gender, UNKNOWN));
+        }
+    }
+
+    /**
+     * Registrar un miembro nuevo
+     */
+    public void memberCreated(Member member) {
+        adjust(null, StatsKey.of(member), 1);
+    }
+
+    /**
+     * Registrar un cambio de estado, tipo de membresía o género; sin efecto si la clave no cambió
+     */
+    public void memberChanged(StatsKey before, Member after) {
+        StatsKey current = StatsKey.of(after);
+        if (!before.equals(current)) {
+            adjust(before, current, 1);
+        }
+    }
+
+    /**
+     * Registrar el cambio de {@code count} miembros de un grupo a otro (operaciones masivas)
+     */
+    public void membersChanged(StatsKey before, StatsKey after, long count) {
+        if (!before.equals(after) && count > 0) {
+            adjust(before, after, count);
+        }
+    }
+
+    /**
+     * Obtener las estadísticas actuales sin consultar la base de datos
+     */
+    public MemberStats snapshot() {
+        long active = 0;
+        long inactive = 0;
+        Map<String, Long> byMembershipType = new TreeMap<>();
+        Map<String, Long> byGender = new TreeMap<>();
+
+        for (Map.Entry<StatsKey, LongAdder> entry : counts().entrySet()) {
+            long count = entry.getValue().sum();
+            StatsKey key = entry.getKey();
+            if (!key.active()) {
+                inactive += count;
+                continue;
+            }
+            active += count;
+            if (count != 0) {
+                byMembershipType.merge(key.membershipType(), count, Long::sum);
+                byGender.merge(key.gender(), count, Long::sum);
+            }
+        }
+        return new MemberStats(active + inactive, active, inactive, byMembershipType, byGender);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        counts();
+    }
+
+    /**
+     * Recargar los contadores desde la base de datos, registrando la diferencia si la hubo
+     */
+    @Scheduled(initialDelayString = "${member.stats.reconcile-interval:300000}",
+            fixedDelayString = "${member.stats.reconcile-interval:300000}")
+    public void reconcile() {
+        loadLock.lock();
+        try {
+            Map<StatsKey, LongAdder> previous = counts;
+            Map<StatsKey, LongAdder> loaded = null;
+            for (int attempt = 1; loaded == null && attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+                loaded = loadWithoutConcurrentCommits();
+            }
+            if (loaded == null) {
+                log.warn("Reconciliación de estadísticas de miembros pospuesta: hubo commits durante los {} intentos de carga",
+                        MAX_LOAD_ATTEMPTS);
+                return;
+            }
+
+            if (previous != null && !sameCounts(previous, loaded)) {
+                log.info("Estadísticas de miembros corregidas por reconciliación: {} -> {}",
+                        toPlainMap(previous), toPlainMap(loaded));
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Cargar los conteos y reemplazar los vigentes; null si un commit con ajustes pudo coincidir con
+     * la consulta, porque entonces no se sabe si ya está incluido en lo cargado
+     */
+    private Map<StatsKey, LongAdder> loadWithoutConcurrentCommits() {
+        long startedBefore;
+        commitLock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(COMMIT_WAIT_MILLIS);
+            while (committing > 0) {
+                if (remaining <= 0) {
+                    return null;
+                }
+                remaining = noneCommitting.awaitNanos(remaining);
+            }
+            startedBefore = commitsStarted;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            commitLock.unlock();
+        }
+
+        Map<StatsKey, LongAdder> loaded = load();
+
+        commitLock.lock();
+        try {
+            if (commitsStarted != startedBefore) {
+                log.debug("Carga de estadísticas de miembros descartada: hubo commits durante la consulta");
+                return null;
+            }
+            counts = loaded;
+            return loaded;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private Map<StatsKey, LongAdder> counts() {
+        Map<StatsKey, LongAdder> current = counts;
+        if (current == null) {
+            // ReentrantLock y no synchronized: el lock se mantiene durante la consulta de carga, y un hilo
+            // virtual que espera dentro de un synchronized retiene su hilo portador (Java 21)
+            loadLock.lock();
+            try {
+                current = counts;
+                if (current == null) {
+                    current = load();
+                    counts = current;
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private Map<StatsKey, LongAdder> load() {
+        Map<StatsKey, LongAdder> loaded = new ConcurrentHashMap<>();
+        List<Object[]> rows = memberRepository.countGroupedByStatusAndTypeAndGender();
+        for (Object[] row : rows) {
+            StatsKey key = StatsKey.of((Boolean) row[0], (String) row[1], (String) row[2]);
+            loaded.computeIfAbsent(key, ignored -> new LongAdder()).add(((Number) row[3]).longValue());
+        }
+        log.debug("Estadísticas de miembros cargadas: {} grupos", loaded.size());
+        return loaded;
+    }
+
+    private void adjust(StatsKey removed, StatsKey added, long count) {
+        Adjustment adjustment = new Adjustment(removed, added, count);
+        Map<StatsKey, LongAdder> target = counts();
+        adjustment.applyTo(target);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean started;
+
+                @Override
+                public void beforeCompletion() {
+                    commitStarted();
+                    started = true;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (!started) {
+                        commitStarted();
+                    }
+                    commitFinished(adjustment, target, status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            commitStarted();
+            commitFinished(adjustment, target, true);
+        }
+    }
+
+    private void commitStarted() {
+        commitLock.lock();
+        try {
+            committing++;
+            commitsStarted++;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Cerrar el tramo de confirmación de un ajuste: si se confirmó y los conteos donde se aplicó ya
+     * fueron reemplazados, se aplica a los nuevos; si hizo rollback se revierte donde se aplicó
+     */
+    private void commitFinished(Adjustment adjustment, Map<StatsKey, LongAdder> appliedTo, boolean committed) {
+        commitLock.lock();
+        try {
+            if (!committed) {
+                // Si los conteos ya se reemplazaron, los nuevos nunca incluyeron este ajuste
+                adjustment.reverse().applyTo(appliedTo);
+            } else if (appliedTo != counts) {
+                adjustment.applyTo(counts);
+            }
+            if (--committing == 0) {
+                noneCommitting.signalAll();
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Traslado de {@code count} miembros de un grupo a otro; null representa un alta o una baja
+     */
+    private record Adjustment(StatsKey removed, StatsKey added, long count) {
+
+        void applyTo(Map<StatsKey, LongAdder> target) {
+            if (removed != null) {
+                target.computeIfAbsent(removed, ignored -> new LongAdder()).add(-count);
+            }
+            if (added != null) {
+                target.computeIfAbsent(added, ignored -> new LongAdder()).add(count);
+            }
+        }
+
+        Adjustment reverse() {
+            return new Adjustment(added, removed, count);
+        }
+    }
+
+    private static boolean sameCounts(Map<StatsKey, LongAdder> left, Map<StatsKey, LongAdder> right) {
+        return toPlainMap(left).equals(toPlainMap(right));
+    }
+
+    private static Map<StatsKey, Long> toPlainMap(Map<StatsKey, LongAdder> counts) {
+        Map<StatsKey, Long> plain = new HashMap<>();
+        counts.forEach((key, adder) -> {
+            long value = adder.sum();
+            if (value != 0) {
+                plain.put(key, value);
+            }
+        });
+        return plain;
+    }
+}
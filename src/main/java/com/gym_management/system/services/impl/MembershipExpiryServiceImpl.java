@@ -0,0 +1,215 @@
+package com.gym_management.system.services.impl;
+
+import com.gym_management.system.model.JobCheckpoint;
+import com.gym_management.system.model.dto.MembershipExpiryResponse;
+import com.gym_management.system.repository.JobCheckpointRepository;
+import com.gym_management.system.repository.MemberRepository;
+import com.gym_management.system.services.MemberService;
+import com.gym_management.system.services.MembershipExpiryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementación del vencimiento de membresías por bloques.
+ *
+ * <p>Cada bloque selecciona hasta {@code member.expiry.chunk-size} ids con una consulta por
+ * keyset sobre {@code (is_active, end_date, id)} y los desactiva con
+ * {@link MemberService#expireMembers}, que repite la condición de vencimiento en el UPDATE y
+ * ajusta las estadísticas. Selección, UPDATE y punto de avance comparten una transacción corta:
+ * el primer día del mes, con decenas de miles de vencimientos, ninguna transacción retiene más
+ * filas que las de un bloque.</p>
+ *
+ * <p>Métricas publicadas: {@code member.expiry.expired} (miembros desactivados),
+ * {@code member.expiry.chunk} (duración de cada bloque), {@code member.expiry.backlog} (activos
+ * vencidos pendientes), {@code member.expiry.lag} (segundos desde el vencimiento pendiente más
+ * antiguo) y {@code member.expiry.throughput} (filas por segundo de la última ejecución).</p>
+ */
+@Service
+@Slf4j
+public class MembershipExpiryServiceImpl implements MembershipExpiryService {
+
+    static final String JOB_NAME = "membership-expiry";
+
+    private final MemberRepository memberRepository;
+    private final MemberService memberService;
+    private final JobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private final AtomicLong backlog = new AtomicLong();
+    // Epoch day del endDate pendiente más antiguo; Long.MIN_VALUE si no hay pendientes
+    private final AtomicLong oldestPendingEndDate = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong lastThroughput = new AtomicLong();
+    private final Counter expiredCounter;
+    private final Timer chunkTimer;
+
+    public MembershipExpiryServiceImpl(
+            MemberRepository memberRepository,
+            MemberService memberService,
+            JobCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${member.expiry.chunk-size:1000}") int chunkSize) {
+        this.memberRepository = memberRepository;
+        this.memberService = memberService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+
+        this.expiredCounter = Counter.builder("member.expiry.expired")
+                .description("Miembros desactivados por vencimiento de la membresía")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("member.expiry.chunk")
+                .description("Duración de cada bloque del job de vencimientos")
+                .register(meterRegistry);
+        Gauge.builder("member.expiry.backlog", backlog, AtomicLong::get)
+                .description("Miembros activos con la membresía vencida pendientes de desactivar")
+                .register(meterRegistry);
+        Gauge.builder("member.expiry.lag", this, MembershipExpiryServiceImpl::currentLagSeconds)
+                .description("Antigüedad del vencimiento pendiente más antiguo")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("member.expiry.throughput", lastThroughput, AtomicLong::get)
+                .description("Miembros desactivados por segundo en la última ejecución")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public MembershipExpiryResponse expireMemberships() {
+        // Una ejecución a la vez: el job programado y una ejecución manual comparten el punto de avance
+        runLock.lock();
+        try {
+            return doExpire(LocalDate.now());
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Ejecución diaria, poco después de medianoche, cuando vencen las membresías del día anterior
+     */
+    @Scheduled(cron = "${member.expiry.cron:0 15 0 * * *}")
+    public void expireScheduled() {
+        try {
+            expireMemberships();
+        } catch (RuntimeException e) {
+            // El punto de avance quedó en el último bloque confirmado; la próxima ejecución retoma desde ahí
+            log.error("Error en el vencimiento programado de membresías: {}", e.getMessage());
+        }
+    }
+
+    private MembershipExpiryResponse doExpire(LocalDate today) {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        JobCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .filter(existing -> today.equals(existing.getCutoffDate()) && existing.getCompletedAt() == null)
+                .orElse(null);
+        boolean resumed = checkpoint != null;
+        if (resumed) {
+            log.info("Retomando el vencimiento de membresías al {} desde ({}, {}), {} ya procesados",
+                    today, checkpoint.getLastDate(), checkpoint.getLastId(), checkpoint.getProcessedRows());
+        } else {
+            checkpoint = new JobCheckpoint(JOB_NAME, today, null, null, 0, now, now, null);
+        }
+        refreshBacklog(today);
+        log.info("Iniciando vencimiento de membresías anteriores al {} - pendientes: {}", today, backlog.get());
+
+        long expired = 0;
+        long chunks = 0;
+        int selected;
+        do {
+            JobCheckpoint current = checkpoint;
+            long[] result = chunkTimer.record(() -> transactionTemplate.execute(status -> processChunk(current, today)));
+            selected = (int) result[0];
+            if (selected > 0) {
+                chunks++;
+                expired += result[1];
+                expiredCounter.increment(result[1]);
+                backlog.updateAndGet(pending -> Math.max(0, pending - result[1]));
+            }
+        } while (selected == chunkSize);
+
+        checkpoint.setCompletedAt(LocalDateTime.now());
+        checkpoint.setUpdatedAt(checkpoint.getCompletedAt());
+        checkpointRepository.save(checkpoint);
+
+        // Lo que queda son vencidos que el UPDATE no tomó (renovados o modificados durante la ejecución)
+        refreshBacklog(today);
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        lastThroughput.set(expired * 1000 / Math.max(1, durationMillis));
+        log.info("Vencimiento de membresías terminado: {} miembros desactivados en {} bloques, {} ms ({} filas/s), " +
+                "pendientes: {}", expired, chunks, durationMillis, lastThroughput.get(), backlog.get());
+        return new MembershipExpiryResponse(today, expired, chunks, resumed, backlog.get(), durationMillis);
+    }
+
+    /**
+     * Procesar un bloque dentro de la transacción actual
+     *
+     * @return {filas seleccionadas, miembros desactivados}
+     */
+    private long[] processChunk(JobCheckpoint checkpoint, LocalDate today) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        List<Object[]> rows = checkpoint.getLastId() == null
+                ? memberRepository.findExpiredChunk(today, chunk)
+                : memberRepository.findExpiredChunkAfter(today, checkpoint.getLastDate(), checkpoint.getLastId(), chunk);
+        if (rows.isEmpty()) {
+            return new long[]{0, 0};
+        }
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ids.add((Long) row[0]);
+        }
+        long updated = memberService.expireMembers(ids, today);
+
+        Object[] last = rows.get(rows.size() - 1);
+        checkpoint.setLastDate((LocalDate) last[1]);
+        checkpoint.setLastId((Long) last[0]);
+        checkpoint.setProcessedRows(checkpoint.getProcessedRows() + updated);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+
+        // Los bloques avanzan en orden de endDate: lo pendiente vence, como mucho, desde el último procesado
+        oldestPendingEndDate.set(checkpoint.getLastDate().toEpochDay());
+        log.debug("Bloque de vencimientos hasta ({}, {}): {} seleccionados, {} desactivados",
+                checkpoint.getLastDate(), checkpoint.getLastId(), rows.size(), updated);
+        return new long[]{rows.size(), updated};
+    }
+
+    private void refreshBacklog(LocalDate today) {
+        Object[] row = memberRepository.countAndOldestExpired(today).get(0);
+        backlog.set(((Number) row[0]).longValue());
+        oldestPendingEndDate.set(row[1] == null ? Long.MIN_VALUE : ((LocalDate) row[1]).toEpochDay());
+    }
+
+    private double currentLagSeconds() {
+        long epochDay = oldestPendingEndDate.get();
+        if (epochDay == Long.MIN_VALUE) {
+            return 0;
+        }
+        // La membresía vence al terminar su endDate
+        long expiredAt = LocalDate.ofEpochDay(epochDay).plusDays(1)
+                .atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Math.max(0, System.currentTimeMillis() - expiredAt) / 1000.0;
+    }
+}
@@ -3,22 +3,33 @@ package com.gym_management.system.services.impl;
 import com.gym_management.system.exception.DuplicateEmailException;
 import com.gym_management.system.exception.DuplicateUsernameException;
 import com.gym_management.system.exception.UserNotFoundException;
+import com.gym_management.system.exception.VersionConflictException;
 import com.gym_management.system.model.User;
 import com.gym_management.system.model.dto.CreateUserRequest;
+import com.gym_management.system.model.dto.ResourceVersion;
 import com.gym_management.system.model.dto.UpdateUserRequest;
 import com.gym_management.system.model.dto.UserResponse;
 import com.gym_management.system.repository.UserRepository;
+import com.gym_management.system.search.UserSearchIndex;
+import com.gym_management.system.security.UserStatusCache;
 import com.gym_management.system.services.UserService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "service.invocations", description = "Duración de los métodos de servicio")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
@@ -26,6 +37,8 @@ public class UserServiceImpl implements UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatusCache userStatusCache;
+    private final UserSearchIndex userSearchIndex;
     
     @Override
     public UserResponse createUser(CreateUserRequest request) {
@@ -52,6 +65,8 @@ public class UserServiceImpl implements UserService {
         user.setIsActive(true);
         
         User savedUser = userRepository.save(user);
+        userStatusCache.update(savedUser, false);
+        userSearchIndex.index(savedUser);
         log.info("Usuario creado exitosamente con ID: {}", savedUser.getId());
         
         return convertToResponse(savedUser);
@@ -70,7 +85,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public UserResponse getUserByUsername(String username) {
         log.info("Buscando usuario con username: {}", username);
-        User user = userRepository.findByUsername(username)
+        User user = userRepository.findByUsernameNaturalId(username)
                 .orElseThrow(() -> new UserNotFoundException("username", username));
         return convertToResponse(user);
     }
@@ -84,6 +99,41 @@ public class UserServiceImpl implements UserService {
         return convertToResponse(user);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getUserVersion(Long id) {
+        return userRepository.findTimestampsById(id).stream()
+                .findFirst()
+                .map(UserServiceImpl::toVersion)
+                .orElseThrow(() -> new UserNotFoundException(id));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getUserVersionByUsername(String username) {
+        return userRepository.findTimestampsByUsername(username).stream()
+                .findFirst()
+                .map(UserServiceImpl::toVersion)
+                .orElseThrow(() -> new UserNotFoundException("username", username));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getUserVersionByEmail(String email) {
+        return userRepository.findTimestampsByEmail(email).stream()
+                .findFirst()
+                .map(UserServiceImpl::toVersion)
+                .orElseThrow(() -> new UserNotFoundException("email", email));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getUsersVersion() {
+        Object[] row = userRepository.countAndMaxTimestamps().get(0);
+        return ResourceVersion.ofCollection("users", (Long) row[0],
+                latest((LocalDateTime) row[1], (LocalDateTime) row[2]));
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
@@ -124,7 +174,19 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public List<UserResponse> searchUsers(String searchTerm) {
         log.info("Buscando usuarios con término: {}", searchTerm);
-        return userRepository.searchUsers(searchTerm).stream()
+        if (!userSearchIndex.isReady() || searchTerm == null || searchTerm.isBlank()) {
+            return userRepository.searchUsers(searchTerm).stream()
+                    .map(this::convertToResponse)
+                    .collect(Collectors.toList());
+        }
+        
+        // El índice devuelve los ids ya ordenados por relevancia; se cargan en una sola consulta
+        List<Long> ids = userSearchIndex.search(searchTerm);
+        Map<Long, User> usersById = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ids.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
     }
@@ -135,6 +197,9 @@ public class UserServiceImpl implements UserService {
         
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
+        String previousUsername = user.getUsername();
+        String previousRole = user.getRole();
+        Boolean previousActive = user.getIsActive();
         
         // Verificar username duplicado si se está cambiando
         if (request.getUsername() != null && !request.getUsername().equals(user.getUsername())) {
@@ -172,7 +237,17 @@ public class UserServiceImpl implements UserService {
             user.setIsActive(request.getIsActive());
         }
         
-        User savedUser = userRepository.save(user);
+        User savedUser = saveVersioned(user);
+        
+        // Revocar tokens vigentes si cambió algo que afecta la autenticación
+        boolean revokeTokens = request.getPassword() != null
+                || !savedUser.getRole().equals(previousRole)
+                || !savedUser.getIsActive().equals(previousActive);
+        if (!savedUser.getUsername().equals(previousUsername)) {
+            userStatusCache.remove(previousUsername);
+        }
+        userStatusCache.update(savedUser, revokeTokens);
+        userSearchIndex.index(savedUser);
         log.info("Usuario actualizado exitosamente con ID: {}", savedUser.getId());
         
         return convertToResponse(savedUser);
@@ -185,7 +260,8 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException(id));
         
         user.setIsActive(false);
-        User savedUser = userRepository.save(user);
+        User savedUser = saveVersioned(user);
+        userStatusCache.update(savedUser, true);
         log.info("Usuario desactivado exitosamente con ID: {}", savedUser.getId());
         
         return convertToResponse(savedUser);
@@ -198,7 +274,8 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException(id));
         
         user.setIsActive(true);
-        User savedUser = userRepository.save(user);
+        User savedUser = saveVersioned(user);
+        userStatusCache.update(savedUser, false);
         log.info("Usuario activado exitosamente con ID: {}", savedUser.getId());
         
         return convertToResponse(savedUser);
@@ -211,6 +288,8 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException(id));
         
         userRepository.delete(user);
+        userStatusCache.remove(user.getUsername());
+        userSearchIndex.remove(user.getId());
         log.info("Usuario eliminado exitosamente con ID: {}", id);
     }
     
@@ -226,6 +305,36 @@ public class UserServiceImpl implements UserService {
         return userRepository.existsByEmail(email);
     }
     
+    /**
+     * La respuesta incluye lastLogin, que se escribe por JDBC sin tocar updated_at:
+     * la versión del usuario es la más reciente de ambas marcas
+     */
+    private static ResourceVersion toVersion(Object[] row) {
+        return ResourceVersion.of("user", (Long) row[0], latest((LocalDateTime) row[1], (LocalDateTime) row[2]));
+    }
+    
+    private static LocalDateTime latest(LocalDateTime updatedAt, LocalDateTime lastLogin) {
+        if (lastLogin == null || (updatedAt != null && updatedAt.isAfter(lastLogin))) {
+            return updatedAt;
+        }
+        return lastLogin;
+    }
+    
+    /**
+     * Guardar y ejecutar el UPDATE de inmediato: un conflicto de versión se informa antes de
+     * actualizar la caché de estado y el índice de búsqueda
+     */
+    private User saveVersioned(User user) {
+        User savedUser = userRepository.save(user);
+        try {
+            userRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Conflicto de versión al actualizar el usuario con ID: {}", user.getId());
+            throw new VersionConflictException("usuario", user.getId());
+        }
+        return savedUser;
+    }
+    
     private UserResponse convertToResponse(User user) {
         UserResponse response = new UserResponse();
         response.setId(user.getId());
@@ -1,5 +1,23 @@
 -- Datos iniciales para desarrollo
 
+-- Migración: fechas de miembros de VARCHAR (yyyy-MM-dd) a DATE.
+-- ddl-auto=update no cambia el tipo de columnas existentes, así que se hace aquí; solo se ejecuta
+-- el ALTER si alguna de las tres columnas todavía no es DATE (en los arranques siguientes es un DO 0).
+-- Antes de desplegar, verificar que no haya valores con otro formato (el ALTER fallaría):
+--   SELECT id, date_of_birth, start_date, end_date FROM members
+--   WHERE STR_TO_DATE(date_of_birth, '%Y-%m-%d') IS NULL OR STR_TO_DATE(start_date, '%Y-%m-%d') IS NULL
+--      OR STR_TO_DATE(end_date, '%Y-%m-%d') IS NULL;
+SET @members_dates_ddl = (
+    SELECT IF(COUNT(*) > 0,
+              'ALTER TABLE members MODIFY date_of_birth DATE NOT NULL, MODIFY start_date DATE NOT NULL, MODIFY end_date DATE NOT NULL',
+              'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'members'
+      AND column_name IN ('date_of_birth', 'start_date', 'end_date') AND data_type <> 'date');
+PREPARE members_dates_stmt FROM @members_dates_ddl;
+EXECUTE members_dates_stmt;
+DEALLOCATE PREPARE members_dates_stmt;
+
 -- Insertar usuarios por defecto
 INSERT INTO users (username, email, password, first_name, last_name, role, is_active, created_at, updated_at) 
 VALUES 
@@ -9,9 +27,13 @@ VALUES
 ON DUPLICATE KEY UPDATE updated_at = NOW();
 
 -- Insertar algunos miembros de ejemplo
-INSERT INTO members (first_name, last_name, email, phone, date_of_birth, gender, address, emergency_contact, emergency_phone, membership_type, start_date, end_date, notes, is_active, created_at, updated_at) 
+INSERT INTO members (id, first_name, last_name, email, phone, date_of_birth, gender, address, emergency_contact, emergency_phone, membership_type, start_date, end_date, notes, is_active, created_at, updated_at) 
 VALUES 
-('Juan', 'Pérez', 'juan.perez@email.com', '+56987654321', '1990-05-15', 'MALE', 'Av. Providencia 1234', 'María Pérez', '+56912345678', 'BASIC', '2024-01-01', '2024-12-31', 'Cliente nuevo', true, NOW(), NOW()),
-('Ana', 'García', 'ana.garcia@email.com', '+56912345678', '1985-08-22', 'FEMALE', 'Las Condes 5678', 'Carlos García', '+56987654321', 'PREMIUM', '2024-01-01', '2024-12-31', 'Cliente premium', true, NOW(), NOW()),
-('Carlos', 'López', 'carlos.lopez@email.com', '+56955555555', '1992-12-10', 'MALE', 'Ñuñoa 9012', 'Laura López', '+56944444444', 'VIP', '2024-01-01', '2024-12-31', 'Cliente VIP', true, NOW(), NOW())
-ON DUPLICATE KEY UPDATE updated_at = NOW(); 
\ No newline at end of file
+(1, 'Juan', 'Pérez', 'juan.perez@email.com', '+56987654321', '1990-05-15', 'MALE', 'Av. Providencia 1234', 'María Pérez', '+56912345678', 'BASIC', '2024-01-01', '2024-12-31', 'Cliente nuevo', true, NOW(), NOW()),
+(2, 'Ana', 'García', 'ana.garcia@email.com', '+56912345678', '1985-08-22', 'FEMALE', 'Las Condes 5678', 'Carlos García', '+56987654321', 'PREMIUM', '2024-01-01', '2024-12-31', 'Cliente premium', true, NOW(), NOW()),
+(3, 'Carlos', 'López', 'carlos.lopez@email.com', '+56955555555', '1992-12-10', 'MALE', 'Ñuñoa 9012', 'Laura López', '+56944444444', 'VIP', '2024-01-01', '2024-12-31', 'Cliente VIP', true, NOW(), NOW())
+ON DUPLICATE KEY UPDATE updated_at = NOW();
+
+-- Alinear el generador de ids de miembros (tabla members_seq, bloques de 50) con los ids existentes.
+-- El optimizador pooled usa el valor leído como límite superior del bloque, por eso se suma un bloque completo.
+UPDATE members_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM members));
@@ -1,9 +1,31 @@
 -- Datos iniciales para producción
 
+-- Migración: fechas de miembros de VARCHAR (yyyy-MM-dd) a DATE.
+-- ddl-auto=update no cambia el tipo de columnas existentes, así que se hace aquí; solo se ejecuta
+-- el ALTER si alguna de las tres columnas todavía no es DATE (en los arranques siguientes es un DO 0).
+-- Antes de desplegar, verificar que no haya valores con otro formato (el ALTER fallaría):
+--   SELECT id, date_of_birth, start_date, end_date FROM members
+--   WHERE STR_TO_DATE(date_of_birth, '%Y-%m-%d') IS NULL OR STR_TO_DATE(start_date, '%Y-%m-%d') IS NULL
+--      OR STR_TO_DATE(end_date, '%Y-%m-%d') IS NULL;
+SET @members_dates_ddl = (
+    SELECT IF(COUNT(*) > 0,
+              'ALTER TABLE members MODIFY date_of_birth DATE NOT NULL, MODIFY start_date DATE NOT NULL, MODIFY end_date DATE NOT NULL',
+              'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'members'
+      AND column_name IN ('date_of_birth', 'start_date', 'end_date') AND data_type <> 'date');
+PREPARE members_dates_stmt FROM @members_dates_ddl;
+EXECUTE members_dates_stmt;
+DEALLOCATE PREPARE members_dates_stmt;
+
 -- Insertar usuarios por defecto
 INSERT INTO users (username, email, password, first_name, last_name, role, is_active, created_at, updated_at) 
 VALUES 
 ('admin', 'admin@gym.com', '$2a$12$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8lE9lBOsl7iKTVEFDa', 'Admin', 'User', 'ADMIN', true, NOW(), NOW()),
 ('manager', 'manager@gym.com', '$2a$12$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8lE9lBOsl7iKTVEFDa', 'Manager', 'User', 'MANAGER', true, NOW(), NOW()),
 ('receptionist', 'receptionist@gym.com', '$2a$12$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8lE9lBOsl7iKTVEFDa', 'Receptionist', 'User', 'RECEPTIONIST', true, NOW(), NOW())
-ON DUPLICATE KEY UPDATE updated_at = NOW(); 
\ No newline at end of file
+ON DUPLICATE KEY UPDATE updated_at = NOW();
+
+-- Alinear el generador de ids de miembros (tabla members_seq, bloques de 50) con los ids existentes.
+-- El optimizador pooled usa el valor leído como límite superior del bloque, por eso se suma un bloque completo.
+UPDATE members_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM members));
@@ -0,0 +1,130 @@
+package com.gym_management.system;
+
+import com.gym_management.system.model.User;
+import com.gym_management.system.model.dto.AuthResponse;
+import com.gym_management.system.model.dto.LoginRequest;
+import com.gym_management.system.model.dto.RegisterRequest;
+import com.gym_management.system.querybudget.BudgetedCall;
+import com.gym_management.system.querybudget.QueryBudget;
+import com.gym_management.system.querybudget.QueryBudgetTest;
+import com.gym_management.system.repository.UserRepository;
+import com.gym_management.system.services.AuthService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Presupuesto de sentencias SQL por método de {@link AuthService}, con el {@code AuthenticationManager}
+ * y el {@code UserDetailsService} reales. El último login se escribe en diferido desde otro hilo y no
+ * forma parte del presupuesto del login.
+ */
+@QueryBudgetTest
+@DisplayName("AuthService - presupuesto de consultas")
+class AuthServiceQueryBudgetTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private AuthResponse registered;
+
+    @BeforeEach
+    void setUp() {
+        registered = authService.register(registerRequest());
+    }
+
+    @Test
+    @QueryBudget(method = "login", maxStatements = 1)
+    @DisplayName("login: una lectura del usuario")
+    void login(BudgetedCall budget) throws Throwable {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(registered.getUser().getUsername());
+        request.setPassword(PASSWORD);
+
+        AuthResponse response = budget.call(() -> authService.login(request));
+
+        assertNotNull(response.getToken());
+    }
+
+    @Test
+    @QueryBudget(method = "register", maxStatements = 3)
+    @DisplayName("register: verificación de username y email e INSERT")
+    void register(BudgetedCall budget) throws Throwable {
+        RegisterRequest request = registerRequest();
+
+        AuthResponse response = budget.call(() -> authService.register(request));
+
+        assertNotNull(response.getUser().getId());
+    }
+
+    @Test
+    @QueryBudget(method = "refreshToken", maxStatements = 1)
+    @DisplayName("refreshToken: una lectura del usuario")
+    void refreshToken(BudgetedCall budget) throws Throwable {
+        String refreshToken = registered.getRefreshToken();
+
+        AuthResponse response = budget.call(() -> authService.refreshToken(refreshToken));
+
+        assertNotNull(response.getToken());
+    }
+
+    @Test
+    @QueryBudget(method = "validateToken", maxStatements = 1)
+    @DisplayName("validateToken: una lectura del usuario")
+    void validateToken(BudgetedCall budget) throws Throwable {
+        String token = registered.getToken();
+
+        boolean valid = budget.call(() -> authService.validateToken(token));
+
+        assertTrue(valid);
+    }
+
+    @Test
+    @QueryBudget(method = "encryptExistingPasswords", maxStatements = 4)
+    @DisplayName("encryptExistingPasswords: lectura de todos, relectura de los cambiados y un UPDATE por cambiado")
+    void encryptExistingPasswords(BudgetedCall budget) throws Throwable {
+        // Con @DynamicUpdate Hibernate no agrupa los UPDATE en lotes: el presupuesto es 2 + usuarios cambiados
+        List<User> plainText = userRepository.saveAll(List.of(plainTextUser(), plainTextUser()));
+
+        budget.run(() -> authService.encryptExistingPasswords());
+
+        for (User user : plainText) {
+            assertTrue(userRepository.findById(user.getId()).orElseThrow().getPassword().startsWith("$2a$"));
+        }
+    }
+
+    private static RegisterRequest registerRequest() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername("recepcion_" + suffix);
+        request.setEmail("recepcion." + suffix + "@presupuesto.test");
+        request.setPassword(PASSWORD);
+        request.setFirstName("Camila");
+        request.setLastName("Rojas");
+        request.setRole("RECEPTIONIST");
+        return request;
+    }
+
+    private static User plainTextUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setUsername("legado_" + suffix);
+        user.setEmail("legado." + suffix + "@presupuesto.test");
+        user.setPassword(PASSWORD);
+        user.setFirstName("Diego");
+        user.setLastName("Soto");
+        user.setRole("MANAGER");
+        user.setIsActive(true);
+        return user;
+    }
+}
@@ -0,0 +1,154 @@
+package com.gym_management.system;
+
+import com.gym_management.system.model.User;
+import com.gym_management.system.model.dto.AuthResponse;
+import com.gym_management.system.model.dto.LoginRequest;
+import com.gym_management.system.repository.UserRepository;
+import com.gym_management.system.search.UserSearchIndex;
+import com.gym_management.system.security.CustomUserDetailsService;
+import com.gym_management.system.security.JwtService;
+import com.gym_management.system.security.UserStatusCache;
+import com.gym_management.system.services.impl.AuthServiceImpl;
+import com.gym_management.system.services.impl.LastLoginWriteBehind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifica que cada operación de autenticación consulte la tabla users una sola vez.
+ * Se usa el proveedor real de Spring Security sobre un repositorio simulado, de modo que
+ * cada invocación del repositorio equivale a una sentencia SQL.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService Tests")
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private LastLoginWriteBehind lastLoginWriteBehind;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
+    private AuthServiceImpl authService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "secretKey", "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.setField(jwtService, "cacheEnabled", false);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository);
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+
+        authService = new AuthServiceImpl(userRepository, passwordEncoder, jwtService,
+                new ProviderManager(provider), userDetailsService, userStatusCache, lastLoginWriteBehind, userSearchIndex,
+                TransactionOperations.withoutTransaction());
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("admin");
+        testUser.setEmail("admin@gym.com");
+        testUser.setPassword(passwordEncoder.encode("password123"));
+        testUser.setFirstName("Admin");
+        testUser.setLastName("Usuario");
+        testUser.setRole("ADMIN");
+        testUser.setIsActive(true);
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Login exitoso debe leer el usuario una sola vez y no escribir en el request")
+    void testLogin_SingleLookup() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+
+        AuthResponse response = authService.login(loginRequest("admin", "password123"));
+
+        assertNotNull(response.getToken());
+        assertNotNull(response.getRefreshToken());
+        assertEquals("admin", response.getUser().getUsername());
+        verify(userRepository, times(1)).findByUsername("admin");
+        verifyNoMoreInteractions(userRepository);
+        verify(lastLoginWriteBehind).record(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Login con contraseña incorrecta no debe escribir en la base de datos")
+    void testLogin_BadCredentials() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+
+        assertThrows(BadCredentialsException.class,
+                () -> authService.login(loginRequest("admin", "incorrecta")));
+
+        verify(userRepository, times(1)).findByUsername("admin");
+        verifyNoMoreInteractions(userRepository);
+        verifyNoInteractions(lastLoginWriteBehind);
+    }
+
+    @Test
+    @DisplayName("Refresh de token debe leer el usuario una sola vez")
+    void testRefreshToken_SingleLookup() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+        String refreshToken = authService.login(loginRequest("admin", "password123")).getRefreshToken();
+        clearInvocations(userRepository);
+
+        AuthResponse response = authService.refreshToken(refreshToken);
+
+        assertNotNull(response.getToken());
+        verify(userRepository, times(1)).findByUsername("admin");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Validación de token debe leer el usuario una sola vez")
+    void testValidateToken_SingleLookup() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+        String token = authService.login(loginRequest("admin", "password123")).getToken();
+        clearInvocations(userRepository);
+
+        assertTrue(authService.validateToken(token));
+
+        verify(userRepository, times(1)).findByUsername("admin");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    private LoginRequest loginRequest(String username, String password) {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword(password);
+        return request;
+    }
+}
@@ -0,0 +1,170 @@
+package com.gym_management.system;
+
+import com.gym_management.system.repository.UserRepository;
+import com.gym_management.system.security.JwtAuthenticationFilter;
+import com.gym_management.system.security.JwtService;
+import com.gym_management.system.security.UserStatusCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Resolución del principal en el filtro JWT: en modo stateless se arma desde los claims y se valida
+ * contra {@link UserStatusCache}, sin consultar la tabla users en cada request.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter Tests")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtService jwtService;
+    private UserStatusCache userStatusCache;
+    private JwtAuthenticationFilter filter;
+    private UserDetails admin;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.setField(jwtService, "cacheEnabled", true);
+        ReflectionTestUtils.setField(jwtService, "cacheMaxSize", 1000);
+        ReflectionTestUtils.setField(jwtService, "cacheTtl", 300000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+        userStatusCache = new UserStatusCache(userRepository, 60_000L, 100, 604_800_000L);
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, userStatusCache);
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", true);
+
+        admin = User.withUsername("admin")
+                .password("irrelevante")
+                .authorities(Collections.singletonList(new SimpleGrantedAuthority("ADMIN")))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Debe autenticar desde los claims sin cargar el usuario por request")
+    void testStatelessPrincipal_FromClaims() throws Exception {
+        when(userRepository.findByUsername("admin"))
+                .thenReturn(Optional.of(UserStatusCacheTest.user("admin", "ADMIN", true)));
+        String token = jwtService.generateTokenWithRole(admin, "ADMIN");
+
+        Authentication first = authenticate(token);
+        SecurityContextHolder.clearContext();
+        Authentication second = authenticate(token);
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals("admin", second.getName());
+        assertEquals(List.of(new SimpleGrantedAuthority("ADMIN")), List.copyOf(second.getAuthorities()));
+        verify(userRepository, times(1)).findByUsername("admin");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el token tras desactivar al usuario")
+    void testStatelessPrincipal_RejectsAfterDeactivation() throws Exception {
+        when(userRepository.findByUsername("admin"))
+                .thenReturn(Optional.of(UserStatusCacheTest.user("admin", "ADMIN", true)));
+        String token = jwtService.generateTokenWithRole(admin, "ADMIN");
+        assertNotNull(authenticate(token));
+        SecurityContextHolder.clearContext();
+
+        userStatusCache.update(UserStatusCacheTest.user("admin", "ADMIN", false), true);
+
+        assertNull(authenticate(token));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el token emitido con el rol anterior tras un cambio de rol")
+    void testStatelessPrincipal_RejectsAfterRoleChange() throws Exception {
+        String token = jwtService.generateTokenWithRole(admin, "ADMIN");
+
+        userStatusCache.update(UserStatusCacheTest.user("admin", "USER", true), false);
+
+        assertNull(authenticate(token));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el token del nombre anterior tras renombrar o eliminar al usuario")
+    void testStatelessPrincipal_RejectsAfterRenameOrDelete() throws Exception {
+        String token = jwtService.generateTokenWithRole(admin, "ADMIN");
+
+        userStatusCache.remove("admin");
+
+        assertNull(authenticate(token));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Debe cargar el usuario desde la base si el token no trae rol")
+    void testStatelessPrincipal_FallsBackWithoutRoleClaim() throws Exception {
+        when(userDetailsService.loadUserByUsername("admin")).thenReturn(admin);
+        String token = jwtService.generateToken(admin);
+
+        Authentication authentication = authenticate(token);
+
+        assertNotNull(authentication);
+        verify(userDetailsService).loadUserByUsername("admin");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Sin modo stateless debe cargar el usuario desde la base")
+    void testStatefulPrincipal_LoadsUser() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", false);
+        when(userDetailsService.loadUserByUsername("admin")).thenReturn(admin);
+        String token = jwtService.generateTokenWithRole(admin, "ADMIN");
+
+        assertNotNull(authenticate(token));
+        verify(userDetailsService).loadUserByUsername("admin");
+        verifyNoInteractions(userRepository);
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
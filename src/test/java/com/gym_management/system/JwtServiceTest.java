@@ -0,0 +1,98 @@
+package com.gym_management.system;
+
+import com.gym_management.system.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtService Tests")
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private UserDetails userDetails;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        userDetails = User.withUsername("admin")
+                .password("irrelevante")
+                .authorities(Collections.emptyList())
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar los claims verificados para el mismo token")
+    void testParseToken_CachesVerifiedClaims() {
+        JwtService jwtService = newJwtService(true);
+        String token = jwtService.generateTokenWithRole(userDetails, "ADMIN");
+
+        Claims first = jwtService.parseToken(token);
+        Claims second = jwtService.parseToken(token);
+
+        assertSame(first, second);
+        assertEquals("admin", second.getSubject());
+        assertEquals("ADMIN", second.get("role", String.class));
+        assertTrue(jwtService.isTokenValid(second, userDetails));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token con la firma alterada aunque el original esté en caché")
+    void testParseToken_RejectsTamperedToken() {
+        JwtService jwtService = newJwtService(true);
+        String token = jwtService.generateToken(userDetails);
+        jwtService.parseToken(token);
+
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(Exception.class, () -> jwtService.parseToken(tampered));
+        assertFalse(jwtService.isTokenValid(tampered, userDetails));
+    }
+
+    @Test
+    @DisplayName("Debe registrar cada verificación según caché y resultado")
+    void testParseToken_RecordsVerificationMetrics() {
+        JwtService jwtService = newJwtService(true);
+        String token = jwtService.generateToken(userDetails);
+
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        jwtService.parseToken(token);
+        jwtService.parseToken(token);
+        assertThrows(Exception.class, () -> jwtService.parseToken(tampered));
+
+        assertEquals(1, verifications("miss", "valid"));
+        assertEquals(1, verifications("hit", "valid"));
+        assertEquals(1, verifications("miss", "invalid"));
+        assertEquals(0, verifications("miss", "expired"));
+    }
+
+    private JwtService newJwtService(boolean cacheEnabled) {
+        JwtService jwtService = new JwtService(meterRegistry);
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.setField(jwtService, "cacheEnabled", cacheEnabled);
+        ReflectionTestUtils.setField(jwtService, "cacheMaxSize", 1000);
+        ReflectionTestUtils.setField(jwtService, "cacheTtl", 300000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        return jwtService;
+    }
+
+    private long verifications(String cache, String result) {
+        return meterRegistry.get("jwt.verification").tag("cache", cache).tag("result", result).timer().count();
+    }
+}
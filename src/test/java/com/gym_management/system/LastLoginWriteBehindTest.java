@@ -0,0 +1,134 @@
+package com.gym_management.system;
+
+import com.gym_management.system.model.User;
+import com.gym_management.system.services.impl.LastLoginWriteBehind;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Escritura diferida del último login contra una tabla users en H2, para ejercitar el UPDATE real.
+ */
+@DisplayName("LastLoginWriteBehind Tests")
+class LastLoginWriteBehindTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private Cache cache;
+    private MeterRegistry meterRegistry;
+    private LastLoginWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = spy(new JdbcTemplate(database));
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, last_login TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO users (id, last_login) VALUES (1, NULL), (2, ?)",
+                Timestamp.valueOf(BASE.plusHours(1)));
+
+        cache = mock(Cache.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        meterRegistry = new SimpleMeterRegistry();
+        writeBehind = new LastLoginWriteBehind(jdbcTemplate, entityManagerFactory, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe coalescer los logins de un usuario y escribir solo el más reciente")
+    void testFlush_CoalescesToNewest() {
+        writeBehind.record(1L, BASE.plusMinutes(5));
+        writeBehind.record(1L, BASE.plusMinutes(10));
+        writeBehind.record(1L, BASE.plusMinutes(1));
+        assertEquals(1.0, gauge("auth.last-login.pending"));
+
+        writeBehind.flush();
+
+        assertEquals(BASE.plusMinutes(10), lastLogin(1L));
+        assertEquals(1, meterRegistry.get("auth.last-login.batch.size").summary().count());
+        assertEquals(1.0, meterRegistry.get("auth.last-login.batch.size").summary().totalAmount());
+        assertEquals(0.0, gauge("auth.last-login.pending"));
+        verify(cache).evict(User.class, 1L);
+    }
+
+    @Test
+    @DisplayName("No debe retroceder un last_login más reciente ya guardado")
+    void testFlush_DoesNotOverwriteNewerLastLogin() {
+        writeBehind.record(1L, BASE);
+        writeBehind.record(2L, BASE);
+
+        writeBehind.flush();
+
+        assertEquals(BASE, lastLogin(1L));
+        assertEquals(BASE.plusHours(1), lastLogin(2L));
+
+        writeBehind.record(2L, BASE.plusHours(2));
+        writeBehind.flush();
+
+        assertEquals(BASE.plusHours(2), lastLogin(2L));
+    }
+
+    @Test
+    @DisplayName("Si el volcado falla debe reencolar sin perder logins ni reiniciar el lag")
+    void testFlush_RequeuesOnFailure() throws InterruptedException {
+        doThrow(new DataAccessResourceFailureException("Base de datos no disponible"))
+                .doCallRealMethod()
+                .when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        writeBehind.record(1L, BASE);
+        Thread.sleep(50);
+
+        writeBehind.flush();
+
+        assertEquals(1.0, gauge("auth.last-login.pending"));
+        assertTrue(gauge("auth.last-login.flush.lag") >= 0.05);
+        assertNull(lastLogin(1L));
+        verify(cache, never()).evict(any(), any());
+
+        writeBehind.record(1L, BASE.plusMinutes(1));
+        assertTrue(gauge("auth.last-login.flush.lag") >= 0.05);
+        writeBehind.flush();
+
+        assertEquals(BASE.plusMinutes(1), lastLogin(1L));
+        assertEquals(0.0, gauge("auth.last-login.pending"));
+        assertEquals(0.0, gauge("auth.last-login.flush.lag"));
+    }
+
+    private LocalDateTime lastLogin(long userId) {
+        List<Timestamp> rows = jdbcTemplate.queryForList(
+                "SELECT last_login FROM users WHERE id = ?", Timestamp.class, userId);
+        Timestamp value = rows.get(0);
+        return value == null ? null : value.toLocalDateTime();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
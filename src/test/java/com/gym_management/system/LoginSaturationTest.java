@@ -0,0 +1,51 @@
+package com.gym_management.system;
+
+import com.gym_management.system.exception.PasswordHashingUnavailableException;
+import com.gym_management.system.security.PasswordHashingExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Login con el pool de hashing saturado, sobre el servidor real: el 503 pasa por el despacho ERROR
+ * de Tomcat, que MockMvc no ejecuta.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Login con el pool de hashing saturado")
+class LoginSaturationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockitoBean
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Test
+    @DisplayName("Un cliente anónimo debe recibir 503 y no 403")
+    void testLogin_SaturatedPoolAnswers503() {
+        when(passwordHashingExecutor.execute(any())).thenThrow(new PasswordHashingUnavailableException());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/auth/login",
+                new HttpEntity<>("{\"username\":\"saturado\",\"password\":\"secreto\"}", headers), String.class);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().contains("\"status\":503"));
+    }
+}
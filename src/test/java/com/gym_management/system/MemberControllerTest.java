@@ -0,0 +1,100 @@
+package com.gym_management.system;
+
+import com.gym_management.system.controller.MemberController;
+import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.model.dto.ResourceVersion;
+import com.gym_management.system.services.MemberImportService;
+import com.gym_management.system.services.MemberService;
+import com.gym_management.system.services.MembershipExpiryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Capa HTTP de {@link MemberController} con el servicio simulado: validadores del GET condicional.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberController Tests")
+class MemberControllerTest {
+
+    private static final String ETAG = "\"member-1-v3\"";
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private MemberImportService memberImportService;
+
+    @Mock
+    private MembershipExpiryService membershipExpiryService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new MemberController(memberService, memberImportService, membershipExpiryService)).build();
+    }
+
+    @Test
+    @DisplayName("Una versión del segundo en curso se valida solo por ETag y no responde 304 a If-Modified-Since")
+    void testGetMember_LastModifiedInCurrentSecond() throws Exception {
+        AtomicLong lastModified = new AtomicLong(System.currentTimeMillis());
+        when(memberService.getMemberVersion(1L)).thenAnswer(invocation -> new ResourceVersion(ETAG, lastModified.get()));
+        when(memberService.getMemberById(1L)).thenReturn(new MemberResponse());
+        mockMvc.perform(get("/api/members/1").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified());
+
+        long now = startOfFreshSecond();
+        lastModified.set(now + 200);
+        // El cliente guardó una respuesta de este mismo segundo, anterior a la última modificación
+        mockMvc.perform(get("/api/members/1").header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(now)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    @DisplayName("Una versión de un segundo ya cerrado envía Last-Modified y responde 304 a If-Modified-Since")
+    void testGetMember_LastModifiedInPastSecond() throws Exception {
+        long lastModified = Instant.parse("2025-03-01T10:15:30.250Z").toEpochMilli();
+        when(memberService.getMemberVersion(1L)).thenReturn(new ResourceVersion(ETAG, lastModified));
+
+        mockMvc.perform(get("/api/members/1").header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(lastModified)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, lastModified / 1000 * 1000));
+        verify(memberService, never()).getMemberById(1L);
+    }
+
+    /**
+     * Esperar al comienzo de un segundo, para que el test no cruce el límite entre dos segundos
+     */
+    private static long startOfFreshSecond() throws InterruptedException {
+        while (System.currentTimeMillis() % 1000 > 100) {
+            Thread.sleep(5);
+        }
+        return System.currentTimeMillis() / 1000 * 1000;
+    }
+
+    private static String httpDate(long epochMillis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(epochMillis).atOffset(ZoneOffset.UTC));
+    }
+}
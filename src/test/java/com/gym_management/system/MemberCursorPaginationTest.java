@@ -0,0 +1,162 @@
+package com.gym_management.system;
+
+import com.gym_management.system.exception.InvalidPaginationRequestException;
+import com.gym_management.system.model.dto.CreateMemberRequest;
+import com.gym_management.system.model.dto.CursorPageResponse;
+import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.services.MemberService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Paginación por keyset de {@link MemberService} sobre H2.
+ *
+ * <p>La base del perfil {@code test} es compartida con otros tests, así que las verificaciones se
+ * hacen sobre el recorrido completo y sobre los miembros que crea cada test. Cada test corre en una
+ * transacción que se revierte al terminar.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MemberService - paginación por cursor")
+class MemberCursorPaginationTest {
+
+    private static final Comparator<MemberResponse> BY_LAST_NAME_THEN_ID =
+            Comparator.comparing(MemberResponse::getLastName).thenComparing(MemberResponse::getId);
+
+    @Autowired
+    private MemberService memberService;
+
+    private Set<Long> createdIds;
+
+    @BeforeEach
+    void setUp() {
+        // Apellidos repetidos: el desempate por id tiene que mantener el orden entre páginas
+        createdIds = new HashSet<>();
+        for (String lastName : List.of("Cursor-Araya", "Cursor-Bravo", "Cursor-Araya", "Cursor-Cortés",
+                "Cursor-Bravo", "Cursor-Araya", "Cursor-Díaz")) {
+            createdIds.add(memberService.createMember(createRequest(lastName)).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("El cursor de una página continúa exactamente después de su última fila")
+    void testCursor_RoundTrip() {
+        CursorPageResponse<MemberResponse> first = memberService.getMembersByCursor(null, 2, "lastName", "asc", true);
+
+        assertTrue(first.isHasNext());
+        assertNotNull(first.getNextCursor());
+        assertEquals(2, first.getSize());
+        assertTrue(first.getTotalElements() >= createdIds.size());
+        String decoded = new String(Base64.getUrlDecoder().decode(first.getNextCursor()), StandardCharsets.UTF_8);
+        assertTrue(decoded.startsWith("v1|lastName|ASC|" + first.getContent().get(1).getId() + "|"));
+
+        CursorPageResponse<MemberResponse> second =
+                memberService.getMembersByCursor(first.getNextCursor(), 2, "lastName", "asc", false);
+
+        assertNull(second.getTotalElements());
+        assertTrue(BY_LAST_NAME_THEN_ID.compare(first.getContent().get(1), second.getContent().get(0)) < 0);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un cursor generado con otro campo o dirección de orden")
+    void testCursor_RejectsDifferentSort() {
+        String cursor = memberService.getMembersByCursor(null, 2, "lastName", "asc", false).getNextCursor();
+
+        assertThrows(InvalidPaginationRequestException.class,
+                () -> memberService.getMembersByCursor(cursor, 2, "email", "asc", false));
+        assertThrows(InvalidPaginationRequestException.class,
+                () -> memberService.getMembersByCursor(cursor, 2, "lastName", "desc", false));
+        assertThrows(InvalidPaginationRequestException.class,
+                () -> memberService.getMembersByCursor(cursor, 2, "email", "asc", false, "id,email"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cursores corruptos y campos de orden no permitidos")
+    void testCursor_RejectsInvalidInput() {
+        assertThrows(InvalidPaginationRequestException.class,
+                () -> memberService.getMembersByCursor("no-es-un-cursor", 2, "lastName", "asc", false));
+        assertThrows(InvalidPaginationRequestException.class,
+                () -> memberService.getMembersByCursor(null, 2, "phone", "asc", false));
+        assertThrows(InvalidPaginationRequestException.class,
+                () -> memberService.getMembersByCursor(null, 0, "lastName", "asc", false));
+    }
+
+    @Test
+    @DisplayName("Recorrer todas las páginas entrega cada miembro una sola vez y en orden")
+    void testCursor_MultiPageWalk() {
+        List<MemberResponse> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<MemberResponse> page = memberService.getMembersByCursor(cursor, 3, "lastName", "asc", false);
+            assertTrue(page.getSize() <= 3);
+            assertEquals(page.isHasNext(), page.getNextCursor() != null);
+            walked.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertTrue(pages >= 3);
+        List<Long> ids = walked.stream().map(MemberResponse::getId).toList();
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        assertTrue(ids.containsAll(createdIds));
+        List<MemberResponse> sorted = new ArrayList<>(walked);
+        sorted.sort(BY_LAST_NAME_THEN_ID);
+        assertEquals(sorted.stream().map(MemberResponse::getId).toList(), ids);
+    }
+
+    @Test
+    @DisplayName("El recorrido descendente con campos seleccionados también es completo y ordenado")
+    void testCursor_MultiPageWalkDescendingProjected() {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<Map<String, Object>> page =
+                    memberService.getMembersByCursor(cursor, 2, "id", "desc", false, "id,lastName");
+            page.getContent().forEach(row -> ids.add(((Number) row.get("id")).longValue()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        assertTrue(ids.containsAll(createdIds));
+        List<Long> sorted = new ArrayList<>(ids);
+        sorted.sort(Comparator.reverseOrder());
+        assertEquals(sorted, ids);
+    }
+
+    private static CreateMemberRequest createRequest(String lastName) {
+        CreateMemberRequest request = new CreateMemberRequest();
+        request.setFirstName("Socia");
+        request.setLastName(lastName);
+        request.setEmail("cursor." + UUID.randomUUID().toString().substring(0, 8) + "@paginacion.test");
+        request.setPhone("+56912345678");
+        request.setDateOfBirth(LocalDate.of(1990, 5, 20));
+        request.setGender("FEMALE");
+        request.setAddress("Av. Providencia 1234");
+        request.setEmergencyContact("Contacto de emergencia");
+        request.setEmergencyPhone("+56987654321");
+        request.setMembershipType("BASIC");
+        request.setStartDate(LocalDate.of(2024, 1, 1));
+        request.setEndDate(LocalDate.of(2024, 12, 31));
+        return request;
+    }
+}
@@ -0,0 +1,154 @@
+package com.gym_management.system;
+
+import com.gym_management.system.controller.MemberExportController;
+import com.gym_management.system.services.MemberExportService;
+import com.gym_management.system.services.export.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Descarga de la exportación con rangos HTTP, sobre un archivo pequeño generado para el test.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberExportController Tests")
+class MemberExportControllerTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+    private static final Instant LAST_MODIFIED = Instant.parse("2025-03-01T10:15:30Z");
+
+    @Mock
+    private MemberExportService memberExportService;
+
+    @TempDir
+    Path directory;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.writeString(directory.resolve("members.csv.gz"), CONTENT, StandardCharsets.US_ASCII);
+        Files.setLastModifiedTime(file, FileTime.from(LAST_MODIFIED));
+        when(memberExportService.getExportFile(ExportFormat.CSV)).thenReturn(file);
+        mockMvc = MockMvcBuilders.standaloneSetup(new MemberExportController(memberExportService)).build();
+    }
+
+    @Test
+    @DisplayName("Sin Range debe entregar el archivo completo")
+    void testDownload_FullFile() throws Exception {
+        download(null)
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "20"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @DisplayName("Un rango simple o por sufijo debe responder 206 con solo esos bytes")
+    void testDownload_SingleRange() throws Exception {
+        download("bytes=2-5")
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/20"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "4"))
+                .andExpect(content().string("2345"));
+        download("bytes=15-")
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 15-19/20"))
+                .andExpect(content().string("fghij"));
+        download("bytes=-3")
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 17-19/20"))
+                .andExpect(content().string("hij"));
+        download("bytes=18-100")
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 18-19/20"))
+                .andExpect(content().string("ij"));
+    }
+
+    @Test
+    @DisplayName("Un rango bien formado que empieza después del final debe responder 416")
+    void testDownload_RangePastEnd() throws Exception {
+        download("bytes=20-")
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+        download("bytes=50-60")
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+    }
+
+    @Test
+    @DisplayName("Un Range mal formado o con otra unidad se ignora y se entrega el archivo completo")
+    void testDownload_InvalidRangeIgnored() throws Exception {
+        for (String range : new String[]{"bytes=abc", "bytes=5-2", "items=0-5", "bytes="}) {
+            download(range)
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                    .andExpect(content().string(CONTENT));
+        }
+    }
+
+    @Test
+    @DisplayName("Varios rangos se responden con el archivo completo")
+    void testDownload_MultipleRanges() throws Exception {
+        download("bytes=0-1,4-5")
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @DisplayName("If-Range solo respeta el rango si coincide con Last-Modified")
+    void testDownload_IfRange() throws Exception {
+        mockMvc.perform(get("/api/members/export")
+                        .header(HttpHeaders.RANGE, "bytes=10-")
+                        .header(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED)))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("abcdefghij"));
+
+        mockMvc.perform(get("/api/members/export")
+                        .header(HttpHeaders.RANGE, "bytes=10-")
+                        .header(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED.minusSeconds(3600))))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+
+        mockMvc.perform(get("/api/members/export")
+                        .header(HttpHeaders.RANGE, "bytes=10-")
+                        .header(HttpHeaders.IF_RANGE, "\"etag-desconocido\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+    }
+
+    private ResultActions download(String range) throws Exception {
+        return range == null
+                ? mockMvc.perform(get("/api/members/export"))
+                : mockMvc.perform(get("/api/members/export").header(HttpHeaders.RANGE, range));
+    }
+
+    private static String httpDate(Instant instant) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(instant.atOffset(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,118 @@
+package com.gym_management.system;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gym_management.system.model.Member;
+import com.gym_management.system.model.dto.MemberImportResponse;
+import com.gym_management.system.repository.MemberRepository;
+import com.gym_management.system.search.MemberSearchIndex;
+import com.gym_management.system.services.export.ExportFormat;
+import com.gym_management.system.services.impl.MemberImportServiceImpl;
+import com.gym_management.system.services.impl.MemberStatsTracker;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberImportService Tests")
+class MemberImportServiceTest {
+
+    private static final String HEADER = "firstName,lastName,email,phone,dateOfBirth,gender,address,"
+            + "emergencyContact,emergencyPhone,membershipType,startDate,endDate\n";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private MemberSearchIndex memberSearchIndex;
+
+    @Mock
+    private MemberStatsTracker memberStatsTracker;
+
+    private MemberImportServiceImpl importService;
+    private final List<String> savedEmails = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        importService = new MemberImportServiceImpl(memberRepository, entityManager,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                transactionManager, memberSearchIndex, memberStatsTracker, 8, 100);
+        when(memberRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Si un lote falla debe rechazar solo las filas que fallan por sí solas")
+    void testImport_ChunkFailureRejectsOnlyOffendingRows() throws IOException {
+        // Emails que la base rechaza aunque la validación en memoria los aceptó
+        Set<String> conflicting = Set.of("socio3@import.test", "socio6@import.test");
+        when(memberRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Member> members = invocation.getArgument(0);
+            if (members.stream().anyMatch(member -> conflicting.contains(member.getEmail()))) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'members.email'");
+            }
+            members.forEach(member -> savedEmails.add(member.getEmail()));
+            return members;
+        });
+
+        MemberImportResponse response = importService.importMembers(ExportFormat.CSV, csv(10));
+
+        assertEquals(10, response.getTotalRows());
+        assertEquals(8, response.getImportedRows());
+        assertEquals(2, response.getFailedRows());
+        assertEquals(List.of(3L, 6L), response.getErrors().stream().map(MemberImportResponse.RowError::getRow).toList());
+        assertEquals("No se pudo guardar la fila: Duplicate entry for key 'members.email'",
+                response.getErrors().get(0).getMessages().get(0));
+        assertEquals(8, savedEmails.size());
+        assertFalse(savedEmails.contains("socio3@import.test"));
+        verify(memberStatsTracker, times(8)).memberCreated(any());
+    }
+
+    @Test
+    @DisplayName("Sin errores cada lote se inserta en una sola transacción")
+    void testImport_OneTransactionPerChunk() throws IOException {
+        when(memberRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MemberImportResponse response = importService.importMembers(ExportFormat.CSV, csv(10));
+
+        assertEquals(10, response.getImportedRows());
+        assertEquals(0, response.getFailedRows());
+        verify(memberRepository, times(2)).saveAllAndFlush(anyList());
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
+
+    private static ByteArrayInputStream csv(int rows) {
+        StringBuilder content = new StringBuilder(HEADER);
+        for (int i = 1; i <= rows; i++) {
+            content.append("Socio,Importado,socio").append(i).append("@import.test,+56912345678,1990-05-20,FEMALE,")
+                    .append("Av. Providencia 1234,Contacto,+56987654321,BASIC,2025-01-01,2025-12-31\n");
+        }
+        return new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package com.gym_management.system;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Validación del campo de orden en los listados de miembros, con el contexto completo sobre H2.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("GET /api/members - campo de orden")
+class MemberListEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("El listado con campos debe responder 400 a un sortBy fuera de la lista permitida")
+    void testProjectedList_UnknownSortByIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/members").param("fields", "id,email").param("sortBy", "noExiste")
+                        .with(user("staff")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/members").param("fields", "id,email").param("sortBy", "phone")
+                        .with(user("staff")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("El listado con campos acepta los mismos campos de orden que el cursor")
+    void testProjectedList_AllowedSortBy() throws Exception {
+        mockMvc.perform(get("/api/members").param("fields", "id,email").param("sortBy", "lastName")
+                        .param("sortDirection", "desc").with(user("staff")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/members/cursor").param("fields", "id,email").param("sortBy", "noExiste")
+                        .with(user("staff")))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,93 @@
+package com.gym_management.system;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.services.export.ExportFormat;
+import com.gym_management.system.services.export.MemberRowReader;
+import com.gym_management.system.services.export.MemberRowWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MemberRowReader Tests")
+class MemberRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("CSV exportado debe poder leerse de nuevo, incluidos campos con comas, comillas y saltos de línea")
+    void testCsv_ReadsExportedFile() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MemberRowWriter writer = new MemberRowWriter(ExportFormat.CSV, out, objectMapper, 100);
+        writer.writeHeader();
+        writer.write(member("Pérez, \"Pepe\"", "línea 1\nlínea 2", 1.75));
+        writer.write(member("Gómez", null, null));
+        writer.flush();
+
+        MemberRowReader reader = reader(ExportFormat.CSV, out.toString(StandardCharsets.UTF_8));
+
+        MemberRowReader.Row first = reader.next();
+        assertNull(first.error());
+        assertEquals(1, first.number());
+        assertEquals("Pérez, \"Pepe\"", first.request().getLastName());
+        assertEquals("línea 1\nlínea 2", first.request().getNotes());
+        assertEquals(1.75, first.request().getHeight());
+        assertEquals(LocalDate.of(1990, 5, 15), first.request().getDateOfBirth());
+        assertEquals(LocalDate.of(2025, 12, 31), first.request().getEndDate());
+
+        MemberRowReader.Row second = reader.next();
+        assertEquals(2, second.number());
+        assertEquals("Gómez", second.request().getLastName());
+        assertNull(second.request().getNotes());
+        assertNull(second.request().getHeight());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Filas no interpretables deben informar el error sin interrumpir la lectura")
+    void testRowErrors_DoNotStopReading() throws IOException {
+        MemberRowReader csv = reader(ExportFormat.CSV,
+                "firstName,lastName,height,endDate\nAna,García,alta,\nAna\n\nLuis,Soto,1.8,2025-12-31\nEva,Ríos,,31/12/2025\n");
+        assertEquals("height: valor numérico inválido 'alta'", csv.next().error());
+        assertEquals("Se esperaban 4 columnas y la fila tiene 1", csv.next().error());
+        MemberRowReader.Row valid = csv.next();
+        assertEquals(3, valid.number());
+        assertEquals("Soto", valid.request().getLastName());
+        assertEquals("endDate: fecha inválida '31/12/2025', se espera yyyy-MM-dd", csv.next().error());
+        assertNull(csv.next());
+
+        MemberRowReader ndjson = reader(ExportFormat.NDJSON, "{\"firstName\":\"Ana\",\"age\":30}\n{roto\n");
+        assertEquals("Ana", ndjson.next().request().getFirstName());
+        MemberRowReader.Row broken = ndjson.next();
+        assertNull(broken.request());
+        assertTrue(broken.error().startsWith("JSON inválido"));
+        assertNull(ndjson.next());
+    }
+
+    private MemberRowReader reader(ExportFormat format, String content) {
+        return new MemberRowReader(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), objectMapper);
+    }
+
+    private MemberResponse member(String lastName, String notes, Double height) {
+        MemberResponse member = new MemberResponse();
+        member.setId(1L);
+        member.setFirstName("Juan");
+        member.setLastName(lastName);
+        member.setEmail("juan@email.com");
+        member.setDateOfBirth(LocalDate.of(1990, 5, 15));
+        member.setEndDate(LocalDate.of(2025, 12, 31));
+        member.setNotes(notes);
+        member.setHeight(height);
+        member.setIsActive(true);
+        return member;
+    }
+}
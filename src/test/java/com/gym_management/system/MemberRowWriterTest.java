@@ -0,0 +1,66 @@
+package com.gym_management.system;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.services.export.ExportFormat;
+import com.gym_management.system.services.export.MemberRowWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MemberRowWriter Tests")
+class MemberRowWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("CSV debe escapar comas, comillas y saltos de línea")
+    void testCsv_EscapesSpecialCharacters() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MemberRowWriter writer = new MemberRowWriter(ExportFormat.CSV, out, objectMapper, 100);
+
+        writer.writeHeader();
+        writer.write(member(1L, "Pérez, \"Pepe\"", "línea 1\nlínea 2"));
+        writer.flush();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertTrue(lines[0].startsWith("id,firstName,lastName,email"));
+        assertTrue(lines[1].startsWith("1,Juan,\"Pérez, \"\"Pepe\"\"\",juan@email.com"));
+        assertTrue(lines[1].contains("\"línea 1\nlínea 2\""));
+        assertEquals(1, writer.getRowsWritten());
+    }
+
+    @Test
+    @DisplayName("NDJSON debe escribir un objeto JSON por línea")
+    void testNdjson_OneObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MemberRowWriter writer = new MemberRowWriter(ExportFormat.NDJSON, out, objectMapper, 1);
+
+        writer.writeHeader();
+        writer.write(member(1L, "Pérez", "nota\ncon salto"));
+        writer.write(member(2L, "Gómez", null));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals("nota\ncon salto", objectMapper.readTree(lines[0]).get("notes").asText());
+        assertEquals("Gómez", objectMapper.readTree(lines[1]).get("lastName").asText());
+    }
+
+    private MemberResponse member(Long id, String lastName, String notes) {
+        MemberResponse member = new MemberResponse();
+        member.setId(id);
+        member.setFirstName("Juan");
+        member.setLastName(lastName);
+        member.setEmail("juan@email.com");
+        member.setNotes(notes);
+        member.setIsActive(true);
+        return member;
+    }
+}
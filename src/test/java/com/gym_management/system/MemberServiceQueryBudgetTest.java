@@ -0,0 +1,394 @@
+package com.gym_management.system;
+
+import com.gym_management.system.model.dto.BulkMemberUpdateRequest;
+import com.gym_management.system.model.dto.CreateMemberRequest;
+import com.gym_management.system.model.dto.CursorPageResponse;
+import com.gym_management.system.model.dto.MemberResponse;
+import com.gym_management.system.model.dto.ResourceVersion;
+import com.gym_management.system.model.dto.UpdateMemberRequest;
+import com.gym_management.system.querybudget.BudgetedCall;
+import com.gym_management.system.querybudget.QueryBudget;
+import com.gym_management.system.querybudget.QueryBudgetTest;
+import com.gym_management.system.search.MemberSearchIndex;
+import com.gym_management.system.services.MemberService;
+import com.gym_management.system.services.export.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.Page;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Presupuesto de sentencias SQL por método de {@link MemberService}.
+ *
+ * <p>Cada test crea tres miembros (fuera de la medición) y mide una sola llamada: con más de una fila
+ * en juego, una consulta por miembro (N+1) supera el presupuesto. Los listados paginados piden
+ * páginas de dos elementos para que también se ejecute el conteo.</p>
+ */
+@QueryBudgetTest
+@AutoConfigureMockMvc
+@DisplayName("MemberService - presupuesto de consultas")
+class MemberServiceQueryBudgetTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberSearchIndex memberSearchIndex;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private List<MemberResponse> members;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        members = List.of(createMember("Lucía"), createMember("Martina"), createMember("Sofía"));
+        ids = members.stream().map(MemberResponse::getId).toList();
+    }
+
+    @Test
+    @QueryBudget(method = "createMember", maxStatements = 3)
+    @DisplayName("createMember: verificación de email, secuencia e INSERT")
+    void createMember(BudgetedCall budget) throws Throwable {
+        MemberResponse created = budget.call(() -> memberService.createMember(createRequest("Valentina")));
+
+        assertNotNull(created.getId());
+    }
+
+    @Test
+    @QueryBudget(method = "getAllMembers", parameterTypes = {int.class, int.class, String.class, String.class},
+            maxStatements = 2)
+    @DisplayName("getAllMembers: página y conteo")
+    void getAllMembers(BudgetedCall budget) throws Throwable {
+        Page<MemberResponse> page = budget.call(() -> memberService.getAllMembers(0, 2, "id", "asc"));
+
+        assertEquals(2, page.getContent().size());
+    }
+
+    @Test
+    @QueryBudget(method = "getAllMembers",
+            parameterTypes = {int.class, int.class, String.class, String.class, String.class}, maxStatements = 2)
+    @DisplayName("getAllMembers con campos: página proyectada y conteo")
+    void getAllMembersProjected(BudgetedCall budget) throws Throwable {
+        Page<Map<String, Object>> page = budget.call(
+                () -> memberService.getAllMembers(0, 2, "id", "asc", "id,firstName,email"));
+
+        assertEquals(2, page.getContent().size());
+    }
+
+    @Test
+    @QueryBudget(method = "getMembersByCursor",
+            parameterTypes = {String.class, int.class, String.class, String.class, boolean.class}, maxStatements = 2)
+    @DisplayName("getMembersByCursor: página por keyset y total")
+    void getMembersByCursor(BudgetedCall budget) throws Throwable {
+        CursorPageResponse<MemberResponse> page = budget.call(
+                () -> memberService.getMembersByCursor(null, 2, "id", "asc", true));
+
+        assertTrue(page.isHasNext());
+    }
+
+    @Test
+    @QueryBudget(method = "getMembersByCursor",
+            parameterTypes = {String.class, int.class, String.class, String.class, boolean.class}, maxStatements = 2)
+    @DisplayName("GET /api/members/cursor sin includeTotal: versión de la colección y página, sin COUNT")
+    void getMembersByCursorEndpointWithoutTotal(BudgetedCall budget) throws Throwable {
+        budget.call(() -> mockMvc.perform(get("/api/members/cursor").param("size", "2").with(user("staff")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist()));
+
+        assertTrue(budget.getMeasurement().sql().stream().noneMatch(sql -> sql.toLowerCase().contains("count(")),
+                budget.getMeasurement().describe());
+    }
+
+    @Test
+    @QueryBudget(method = "getMembersByCursor",
+            parameterTypes = {String.class, int.class, String.class, String.class, boolean.class, String.class},
+            maxStatements = 2)
+    @DisplayName("getMembersByCursor con campos: página proyectada por keyset y total")
+    void getMembersByCursorProjected(BudgetedCall budget) throws Throwable {
+        CursorPageResponse<Map<String, Object>> page = budget.call(
+                () -> memberService.getMembersByCursor(null, 2, "id", "asc", true, "firstName"));
+
+        assertTrue(page.isHasNext());
+    }
+
+    @Test
+    @QueryBudget(method = "getMemberById", maxStatements = 1)
+    @DisplayName("getMemberById: una lectura por id")
+    void getMemberById(BudgetedCall budget) throws Throwable {
+        MemberResponse member = budget.call(() -> memberService.getMemberById(ids.get(0)));
+
+        assertEquals(ids.get(0), member.getId());
+    }
+
+    @Test
+    @QueryBudget(method = "getMemberByEmail", maxStatements = 1)
+    @DisplayName("getMemberByEmail: una lectura por identificador natural")
+    void getMemberByEmail(BudgetedCall budget) throws Throwable {
+        String email = members.get(1).getEmail();
+
+        MemberResponse member = budget.call(() -> memberService.getMemberByEmail(email));
+
+        assertEquals(ids.get(1), member.getId());
+    }
+
+    @Test
+    @QueryBudget(method = "getMemberVersion", maxStatements = 1)
+    @DisplayName("getMemberVersion: solo versión y fecha de modificación")
+    void getMemberVersion(BudgetedCall budget) throws Throwable {
+        ResourceVersion version = budget.call(() -> memberService.getMemberVersion(ids.get(0)));
+
+        assertNotNull(version);
+    }
+
+    @Test
+    @QueryBudget(method = "getMemberVersionByEmail", maxStatements = 1)
+    @DisplayName("getMemberVersionByEmail: solo id, versión y fecha de modificación")
+    void getMemberVersionByEmail(BudgetedCall budget) throws Throwable {
+        String email = members.get(0).getEmail();
+
+        ResourceVersion version = budget.call(() -> memberService.getMemberVersionByEmail(email));
+
+        assertNotNull(version);
+    }
+
+    @Test
+    @QueryBudget(method = "getMembersVersion", maxStatements = 1)
+    @DisplayName("getMembersVersion: solo la última modificación, sin COUNT")
+    void getMembersVersion(BudgetedCall budget) throws Throwable {
+        ResourceVersion version = budget.call(() -> memberService.getMembersVersion());
+
+        assertNotNull(version);
+    }
+
+    @Test
+    @QueryBudget(method = "updateMember", parameterTypes = {Long.class, UpdateMemberRequest.class},
+            maxStatements = 3)
+    @DisplayName("updateMember: lectura, verificación del email nuevo y UPDATE")
+    void updateMember(BudgetedCall budget) throws Throwable {
+        UpdateMemberRequest request = new UpdateMemberRequest();
+        request.setEmail(uniqueEmail("actualizado"));
+        request.setMembershipType("PREMIUM");
+
+        MemberResponse updated = budget.call(() -> memberService.updateMember(ids.get(0), request));
+
+        assertEquals("PREMIUM", updated.getMembershipType());
+    }
+
+    @Test
+    @QueryBudget(method = "updateMember", parameterTypes = {Long.class, UpdateMemberRequest.class, Long.class},
+            maxStatements = 3)
+    @DisplayName("updateMember con versión esperada: lectura, verificación del email nuevo y UPDATE")
+    void updateMemberWithExpectedVersion(BudgetedCall budget) throws Throwable {
+        UpdateMemberRequest request = new UpdateMemberRequest();
+        request.setEmail(uniqueEmail("actualizado"));
+        Long version = members.get(0).getVersion();
+
+        MemberResponse updated = budget.call(() -> memberService.updateMember(ids.get(0), request, version));
+
+        assertEquals(version + 1, updated.getVersion());
+    }
+
+    @Test
+    @QueryBudget(method = "deleteMember", maxStatements = 2)
+    @DisplayName("deleteMember: conteo por grupo y UPDATE, sin cargar la entidad")
+    void deleteMember(BudgetedCall budget) throws Throwable {
+        budget.run(() -> memberService.deleteMember(ids.get(0)));
+
+        assertFalse(memberService.getMemberById(ids.get(0)).getIsActive());
+    }
+
+    @Test
+    @QueryBudget(method = "deactivateMembers", maxStatements = 2)
+    @DisplayName("deactivateMembers: conteo por grupo y un UPDATE para todos los ids")
+    void deactivateMembers(BudgetedCall budget) throws Throwable {
+        BulkMemberUpdateRequest request = new BulkMemberUpdateRequest();
+        request.setIds(ids);
+
+        long updated = budget.call(() -> memberService.deactivateMembers(request));
+
+        assertEquals(3, updated);
+    }
+
+    @Test
+    @QueryBudget(method = "activateMembers", maxStatements = 2)
+    @DisplayName("activateMembers: conteo por grupo y un UPDATE para todos los ids")
+    void activateMembers(BudgetedCall budget) throws Throwable {
+        BulkMemberUpdateRequest request = new BulkMemberUpdateRequest();
+        request.setIds(ids);
+        memberService.deactivateMembers(request);
+
+        long updated = budget.call(() -> memberService.activateMembers(request));
+
+        assertEquals(3, updated);
+    }
+
+    @Test
+    @QueryBudget(method = "changeMembershipType", maxStatements = 2)
+    @DisplayName("changeMembershipType: conteo por grupo y un UPDATE para todos los ids")
+    void changeMembershipType(BudgetedCall budget) throws Throwable {
+        BulkMemberUpdateRequest request = new BulkMemberUpdateRequest();
+        request.setIds(ids);
+        request.setMembershipType("VIP");
+
+        long updated = budget.call(() -> memberService.changeMembershipType(request));
+
+        assertEquals(3, updated);
+    }
+
+    @Test
+    @QueryBudget(method = "expireMembers", maxStatements = 2)
+    @DisplayName("expireMembers: conteo por grupo y un UPDATE por bloque")
+    void expireMembers(BudgetedCall budget) throws Throwable {
+        long expired = budget.call(() -> memberService.expireMembers(ids, END.plusDays(1)));
+
+        assertEquals(3, expired);
+    }
+
+    @Test
+    @QueryBudget(method = "searchMembersByName", parameterTypes = {String.class}, maxStatements = 1)
+    @DisplayName("searchMembersByName: ids desde el índice y una carga por lote")
+    void searchMembersByName(BudgetedCall budget) throws Throwable {
+        assertTrue(memberSearchIndex.isReady());
+
+        List<MemberResponse> found = budget.call(() -> memberService.searchMembersByName("Presupuesto"));
+
+        assertTrue(found.size() >= 3);
+    }
+
+    @Test
+    @QueryBudget(method = "searchMembersByName", parameterTypes = {String.class, String.class}, maxStatements = 1)
+    @DisplayName("searchMembersByName con campos: ids desde el índice y una proyección por lote")
+    void searchMembersByNameProjected(BudgetedCall budget) throws Throwable {
+        assertTrue(memberSearchIndex.isReady());
+
+        List<Map<String, Object>> found = budget.call(
+                () -> memberService.searchMembersByName("Presupuesto", "firstName,lastName"));
+
+        assertTrue(found.size() >= 3);
+    }
+
+    @Test
+    @QueryBudget(method = "getActiveMembers", maxStatements = 1)
+    @DisplayName("getActiveMembers: una consulta para todos los activos")
+    void getActiveMembers(BudgetedCall budget) throws Throwable {
+        List<MemberResponse> active = budget.call(() -> memberService.getActiveMembers());
+
+        assertTrue(active.size() >= 3);
+    }
+
+    @Test
+    @QueryBudget(method = "getActiveMembers", parameterTypes = {String.class}, maxStatements = 1)
+    @DisplayName("getActiveMembers con campos: una proyección para todos los activos")
+    void getActiveMembersProjected(BudgetedCall budget) throws Throwable {
+        List<Map<String, Object>> active = budget.call(() -> memberService.getActiveMembers("id,email"));
+
+        assertTrue(active.size() >= 3);
+    }
+
+    @Test
+    @QueryBudget(method = "streamActiveMembers", maxStatements = 1)
+    @DisplayName("streamActiveMembers: un solo cursor para todo el listado")
+    void streamActiveMembers(BudgetedCall budget) throws Throwable {
+        OutputStream output = new ByteArrayOutputStream();
+
+        long rows = budget.call(() -> memberService.streamActiveMembers(ExportFormat.NDJSON, output));
+
+        assertTrue(rows >= 3);
+    }
+
+    @Test
+    @QueryBudget(method = "streamMembersByName", maxStatements = 1)
+    @DisplayName("streamMembersByName: un solo cursor para todo el listado")
+    void streamMembersByName(BudgetedCall budget) throws Throwable {
+        OutputStream output = new ByteArrayOutputStream();
+
+        long rows = budget.call(() -> memberService.streamMembersByName("Presupuesto", ExportFormat.CSV, output));
+
+        assertTrue(rows >= 3);
+    }
+
+    @Test
+    @QueryBudget(method = "getMemberStats", maxStatements = 0)
+    @DisplayName("getMemberStats: contadores en memoria, sin consultas")
+    void getMemberStats(BudgetedCall budget) throws Throwable {
+        MemberService.MemberStats stats = budget.call(() -> memberService.getMemberStats());
+
+        assertTrue(stats.getTotalMembers() >= 3);
+    }
+
+    @Test
+    @QueryBudget(method = "getMembersEndingBetween", maxStatements = 2)
+    @DisplayName("getMembersEndingBetween: página y conteo")
+    void getMembersEndingBetween(BudgetedCall budget) throws Throwable {
+        Page<MemberResponse> page = budget.call(
+                () -> memberService.getMembersEndingBetween(END.minusDays(1), END.plusDays(1), 0, 2));
+
+        assertEquals(2, page.getContent().size());
+    }
+
+    @Test
+    @QueryBudget(method = "getMembersStartingBetween", maxStatements = 2)
+    @DisplayName("getMembersStartingBetween: página y conteo")
+    void getMembersStartingBetween(BudgetedCall budget) throws Throwable {
+        Page<MemberResponse> page = budget.call(
+                () -> memberService.getMembersStartingBetween(START.minusDays(1), START.plusDays(1), 0, 2));
+
+        assertEquals(2, page.getContent().size());
+    }
+
+    @Test
+    @QueryBudget(method = "getMembersByAgeRange", maxStatements = 2)
+    @DisplayName("getMembersByAgeRange: página y conteo")
+    void getMembersByAgeRange(BudgetedCall budget) throws Throwable {
+        Page<MemberResponse> page = budget.call(() -> memberService.getMembersByAgeRange(18, 99, 0, 2));
+
+        assertEquals(2, page.getContent().size());
+    }
+
+    private MemberResponse createMember(String firstName) {
+        return memberService.createMember(createRequest(firstName));
+    }
+
+    private static CreateMemberRequest createRequest(String firstName) {
+        CreateMemberRequest request = new CreateMemberRequest();
+        request.setFirstName(firstName);
+        request.setLastName("Presupuesto");
+        request.setEmail(uniqueEmail("socio"));
+        request.setPhone("+56912345678");
+        request.setDateOfBirth(LocalDate.of(1990, 5, 20));
+        request.setGender("FEMALE");
+        request.setAddress("Av. Providencia 1234");
+        request.setEmergencyContact("Contacto de emergencia");
+        request.setEmergencyPhone("+56987654321");
+        request.setMembershipType("BASIC");
+        request.setStartDate(START);
+        request.setEndDate(END);
+        return request;
+    }
+
+    private static String uniqueEmail(String prefix) {
+        return prefix + "." + UUID.randomUUID().toString().substring(0, 8) + "@presupuesto.test";
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -29,14 +31,14 @@ class MemberServiceTest {
         request.setLastName("User");
         request.setEmail("test.user@email.com");
         request.setPhone("+1234567890");
-        request.setDateOfBirth("1990-01-01");
+        request.setDateOfBirth(LocalDate.of(1990, 1, 1));
         request.setGender("MALE");
         request.setAddress("Test Address");
         request.setEmergencyContact("Emergency Contact");
         request.setEmergencyPhone("+1234567891");
         request.setMembershipType("BASIC");
-        request.setStartDate("2024-01-01");
-        request.setEndDate("2024-12-31");
+        request.setStartDate(LocalDate.of(2024, 1, 1));
+        request.setEndDate(LocalDate.of(2024, 12, 31));
         request.setNotes("Test member");
 
         // When
@@ -60,14 +62,14 @@ class MemberServiceTest {
         firstRequest.setLastName("Pérez");
         firstRequest.setEmail("duplicate@email.com");
         firstRequest.setPhone("+1234567890");
-        firstRequest.setDateOfBirth("1990-01-01");
+        firstRequest.setDateOfBirth(LocalDate.of(1990, 1, 1));
         firstRequest.setGender("MALE");
         firstRequest.setAddress("Test Address");
         firstRequest.setEmergencyContact("Emergency Contact");
         firstRequest.setEmergencyPhone("+1234567891");
         firstRequest.setMembershipType("BASIC");
-        firstRequest.setStartDate("2024-01-01");
-        firstRequest.setEndDate("2024-12-31");
+        firstRequest.setStartDate(LocalDate.of(2024, 1, 1));
+        firstRequest.setEndDate(LocalDate.of(2024, 12, 31));
         
         memberService.createMember(firstRequest);
         
@@ -77,14 +79,14 @@ class MemberServiceTest {
         secondRequest.setLastName("García");
         secondRequest.setEmail("duplicate@email.com"); // Email duplicado
         secondRequest.setPhone("+1234567891");
-        secondRequest.setDateOfBirth("1985-01-01");
+        secondRequest.setDateOfBirth(LocalDate.of(1985, 1, 1));
         secondRequest.setGender("FEMALE");
         secondRequest.setAddress("Test Address 2");
         secondRequest.setEmergencyContact("Emergency Contact 2");
         secondRequest.setEmergencyPhone("+1234567892");
         secondRequest.setMembershipType("PREMIUM");
-        secondRequest.setStartDate("2024-01-01");
-        secondRequest.setEndDate("2024-12-31");
+        secondRequest.setStartDate(LocalDate.of(2024, 1, 1));
+        secondRequest.setEndDate(LocalDate.of(2024, 12, 31));
 
         // When & Then
         assertThrows(DuplicateEmailException.class, () -> {
@@ -100,14 +102,14 @@ class MemberServiceTest {
         request.setLastName("Pérez");
         request.setEmail("juan.test@email.com");
         request.setPhone("+1234567890");
-        request.setDateOfBirth("1990-01-01");
+        request.setDateOfBirth(LocalDate.of(1990, 1, 1));
         request.setGender("MALE");
         request.setAddress("Test Address");
         request.setEmergencyContact("Emergency Contact");
         request.setEmergencyPhone("+1234567891");
         request.setMembershipType("BASIC");
-        request.setStartDate("2024-01-01");
-        request.setEndDate("2024-12-31");
+        request.setStartDate(LocalDate.of(2024, 1, 1));
+        request.setEndDate(LocalDate.of(2024, 12, 31));
 
         MemberResponse createdMember = memberService.createMember(request);
 
@@ -140,28 +142,28 @@ class MemberServiceTest {
         request1.setLastName("User1");
         request1.setEmail("test1@email.com");
         request1.setPhone("+1234567890");
-        request1.setDateOfBirth("1990-01-01");
+        request1.setDateOfBirth(LocalDate.of(1990, 1, 1));
         request1.setGender("MALE");
         request1.setAddress("Test Address 1");
         request1.setEmergencyContact("Emergency Contact 1");
         request1.setEmergencyPhone("+1234567891");
         request1.setMembershipType("BASIC");
-        request1.setStartDate("2024-01-01");
-        request1.setEndDate("2024-12-31");
+        request1.setStartDate(LocalDate.of(2024, 1, 1));
+        request1.setEndDate(LocalDate.of(2024, 12, 31));
         
         CreateMemberRequest request2 = new CreateMemberRequest();
         request2.setFirstName("Test2");
         request2.setLastName("User2");
         request2.setEmail("test2@email.com");
         request2.setPhone("+1234567892");
-        request2.setDateOfBirth("1985-01-01");
+        request2.setDateOfBirth(LocalDate.of(1985, 1, 1));
         request2.setGender("FEMALE");
         request2.setAddress("Test Address 2");
         request2.setEmergencyContact("Emergency Contact 2");
         request2.setEmergencyPhone("+1234567893");
         request2.setMembershipType("PREMIUM");
-        request2.setStartDate("2024-01-01");
-        request2.setEndDate("2024-12-31");
+        request2.setStartDate(LocalDate.of(2024, 1, 1));
+        request2.setEndDate(LocalDate.of(2024, 12, 31));
 
         memberService.createMember(request1);
         memberService.createMember(request2);
@@ -0,0 +1,249 @@
+package com.gym_management.system;
+
+import com.gym_management.system.model.Member;
+import com.gym_management.system.repository.MemberRepository;
+import com.gym_management.system.services.MemberService.MemberStats;
+import com.gym_management.system.services.impl.MemberStatsTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberStatsTracker Tests")
+class MemberStatsTrackerTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberStatsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        when(memberRepository.countGroupedByStatusAndTypeAndGender()).thenReturn(baseRows());
+        tracker = new MemberStatsTracker(memberRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe calcular totales y desgloses con una sola consulta")
+    void testSnapshot_SingleQuery() {
+        MemberStats stats = tracker.snapshot();
+        tracker.snapshot();
+
+        assertEquals(6, stats.getTotalMembers());
+        assertEquals(5, stats.getActiveMembers());
+        assertEquals(1, stats.getInactiveMembers());
+        assertEquals(3L, stats.getByMembershipType().get("BASIC"));
+        assertEquals(2L, stats.getByMembershipType().get("VIP"));
+        assertEquals(3L, stats.getByGender().get("MALE"));
+        verify(memberRepository, times(1)).countGroupedByStatusAndTypeAndGender();
+    }
+
+    @Test
+    @DisplayName("Debe ajustar los contadores en altas, cambios y bajas")
+    void testAdjustments() {
+        Member member = member(true, "PREMIUM", "OTHER");
+        tracker.memberCreated(member);
+
+        MemberStatsTracker.StatsKey before = MemberStatsTracker.StatsKey.of(member);
+        member.setIsActive(false);
+        tracker.memberChanged(before, member);
+
+        MemberStats stats = tracker.snapshot();
+        assertEquals(7, stats.getTotalMembers());
+        assertEquals(5, stats.getActiveMembers());
+        assertEquals(2, stats.getInactiveMembers());
+        assertNull(stats.getByMembershipType().get("PREMIUM"));
+    }
+
+    @Test
+    @DisplayName("Debe mover grupos completos en las operaciones masivas")
+    void testBulkChange() {
+        tracker.membersChanged(MemberStatsTracker.StatsKey.of(true, "BASIC", "MALE"),
+                MemberStatsTracker.StatsKey.of(true, "PREMIUM", "MALE"), 2);
+        tracker.membersChanged(MemberStatsTracker.StatsKey.of(true, "VIP", "FEMALE"),
+                MemberStatsTracker.StatsKey.of(false, "VIP", "FEMALE"), 2);
+
+        MemberStats stats = tracker.snapshot();
+        assertEquals(6, stats.getTotalMembers());
+        assertEquals(3, stats.getActiveMembers());
+        assertEquals(1L, stats.getByMembershipType().get("BASIC"));
+        assertEquals(2L, stats.getByMembershipType().get("PREMIUM"));
+        assertNull(stats.getByMembershipType().get("VIP"));
+    }
+
+    @Test
+    @DisplayName("Debe revertir el ajuste si la transacción hace rollback")
+    void testRollbackCompensation() {
+        TransactionSynchronizationManager.initSynchronization();
+        tracker.memberCreated(member(true, "VIP", "MALE"));
+        assertEquals(6, tracker.snapshot().getActiveMembers());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        assertEquals(5, tracker.snapshot().getActiveMembers());
+        assertEquals(2L, tracker.snapshot().getByMembershipType().get("VIP"));
+    }
+
+    @Test
+    @DisplayName("La reconciliación vuelve a consultar si un alta se confirma durante la consulta")
+    void testReconcile_ReloadsWhenAdjustmentCommittedDuringLoad() {
+        tracker.snapshot();
+        when(memberRepository.countGroupedByStatusAndTypeAndGender()).thenAnswer(invocation -> {
+            // El alta se confirma mientras la consulta ya leyó las filas
+            tracker.memberCreated(member(true, "VIP", "MALE"));
+            return baseRows();
+        }).thenReturn(rowsWithNewVip());
+
+        tracker.reconcile();
+
+        assertEquals(7, tracker.snapshot().getTotalMembers());
+        assertEquals(3L, tracker.snapshot().getByMembershipType().get("VIP"));
+        verify(memberRepository, times(3)).countGroupedByStatusAndTypeAndGender();
+    }
+
+    @Test
+    @DisplayName("La reconciliación se pospone si cada consulta coincide con un commit")
+    void testReconcile_PostponedWhileCommitsKeepOverlapping() {
+        tracker.snapshot();
+        when(memberRepository.countGroupedByStatusAndTypeAndGender()).thenAnswer(invocation -> {
+            tracker.memberCreated(member(true, "VIP", "MALE"));
+            return baseRows();
+        });
+
+        tracker.reconcile();
+
+        // Se conservan los conteos ajustados en lugar de una carga que pudo no ver las altas
+        assertEquals(9, tracker.snapshot().getTotalMembers());
+        verify(memberRepository, times(4)).countGroupedByStatusAndTypeAndGender();
+    }
+
+    @Test
+    @DisplayName("Un commit anterior a la consulta cuyo afterCompletion llega durante la reconciliación se cuenta una vez")
+    void testReconcile_CommitBeforeQueryCompletedDuringReconcile() {
+        tracker.snapshot();
+        TransactionSynchronizationManager.initSynchronization();
+        tracker.memberCreated(member(true, "VIP", "MALE"));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::beforeCompletion);
+        // El commit ya está en la base: la consulta lo ve, aunque afterCompletion llegue después de empezar
+        when(memberRepository.countGroupedByStatusAndTypeAndGender()).thenReturn(rowsWithNewVip());
+
+        CompletableFuture<Void> completion = CompletableFuture.runAsync(() -> {
+            sleep(200);
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        });
+        tracker.reconcile();
+        completion.join();
+
+        assertEquals(7, tracker.snapshot().getTotalMembers());
+        assertEquals(3L, tracker.snapshot().getByMembershipType().get("VIP"));
+    }
+
+    @Test
+    @DisplayName("Un rollback posterior a la reconciliación no debe descontar de los conteos nuevos")
+    void testReconcile_IgnoresRollbackOfAdjustmentFromReplacedCounts() {
+        tracker.snapshot();
+        TransactionSynchronizationManager.initSynchronization();
+        tracker.memberCreated(member(true, "VIP", "MALE"));
+
+        tracker.reconcile();
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(6, tracker.snapshot().getTotalMembers());
+        assertEquals(2L, tracker.snapshot().getByMembershipType().get("VIP"));
+    }
+
+    @Test
+    @DisplayName("Un commit posterior a la reconciliación debe sumarse a los conteos nuevos")
+    void testReconcile_AppliesAdjustmentCommittedAfterSwap() {
+        tracker.snapshot();
+        TransactionSynchronizationManager.initSynchronization();
+        tracker.memberCreated(member(true, "VIP", "MALE"));
+
+        tracker.reconcile();
+        assertEquals(6, tracker.snapshot().getTotalMembers());
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(7, tracker.snapshot().getTotalMembers());
+        assertEquals(3L, tracker.snapshot().getByMembershipType().get("VIP"));
+    }
+
+    @Test
+    @DisplayName("Un commit durante la consulta de la reconciliación obliga a repetirla")
+    void testReconcile_ReloadsWhenTransactionCommittedDuringLoad() {
+        tracker.snapshot();
+        TransactionSynchronizationManager.initSynchronization();
+        tracker.memberCreated(member(true, "VIP", "MALE"));
+        when(memberRepository.countGroupedByStatusAndTypeAndGender()).thenAnswer(invocation -> {
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+            return baseRows();
+        }).thenReturn(rowsWithNewVip());
+
+        tracker.reconcile();
+
+        assertEquals(7, tracker.snapshot().getTotalMembers());
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.beforeCompletion();
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<Object[]> baseRows() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{true, "BASIC", "MALE", 3L});
+        rows.add(new Object[]{true, "VIP", "FEMALE", 2L});
+        rows.add(new Object[]{false, "BASIC", "FEMALE", 1L});
+        return rows;
+    }
+
+    private static List<Object[]> rowsWithNewVip() {
+        List<Object[]> rows = baseRows();
+        rows.add(new Object[]{true, "VIP", "MALE", 1L});
+        return rows;
+    }
+
+    private Member member(boolean active, String membershipType, String gender) {
+        Member member = new Member();
+        member.setIsActive(active);
+        member.setMembershipType(membershipType);
+        member.setGender(gender);
+        return member;
+    }
+}
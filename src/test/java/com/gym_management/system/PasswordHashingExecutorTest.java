@@ -0,0 +1,130 @@
+package com.gym_management.system;
+
+import com.gym_management.system.exception.PasswordHashingUnavailableException;
+import com.gym_management.system.security.BoundedPasswordEncoder;
+import com.gym_management.system.security.PasswordHashingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Saturación del pool de hashing: con el único hilo ocupado y la cola llena, las llamadas se
+ * rechazan de inmediato con 503 en lugar de esperar.
+ */
+@DisplayName("PasswordHashingExecutor Tests")
+class PasswordHashingExecutorTest {
+
+    private MeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+    private CountDownLatch release;
+    private PasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1);
+        release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(release), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        ReflectionTestUtils.invokeMethod(executor, "shutdown");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar de inmediato con 503 cuando el hilo está ocupado y la cola llena")
+    void testExecute_RejectsWhenSaturated() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("ocupa-el-hilo"));
+        awaitGauge("auth.hashing.active", 1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("ocupa-la-cola", "x"));
+        awaitGauge("auth.hashing.queue.size", 1);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("secreto", "x"));
+            assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("secreto"));
+        });
+        assertEquals(2.0, meterRegistry.get("auth.hashing.rejected").counter().count());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+                PasswordHashingUnavailableException.class.getAnnotation(ResponseStatus.class).value());
+
+        release.countDown();
+        assertEquals("hash:ocupa-el-hilo", running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        awaitGauge("auth.hashing.active", 0);
+        assertEquals(0.0, gauge("auth.hashing.queue.size"));
+        assertEquals(2, meterRegistry.get("auth.hashing.duration").timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar en el pool y propagar el resultado del encoder")
+    void testExecute_DelegatesToEncoder() {
+        release.countDown();
+
+        assertEquals("hash:secreto", encoder.encode("secreto"));
+        assertTrue(encoder.matches("secreto", "hash:secreto"));
+        assertEquals(0.0, meterRegistry.get("auth.hashing.rejected").counter().count());
+        assertEquals(2, meterRegistry.get("auth.hashing.duration").timer().count());
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge(name) != expected) {
+            if (System.nanoTime() > deadline) {
+                fail(name + " no llegó a " + expected + ", valor actual: " + gauge(name));
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Encoder que retiene el hilo de hashing hasta que el test lo libera
+     */
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch release;
+
+        BlockingPasswordEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return true;
+        }
+
+        private void await() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
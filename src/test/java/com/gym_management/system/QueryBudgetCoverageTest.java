@@ -0,0 +1,71 @@
+package com.gym_management.system;
+
+import com.gym_management.system.querybudget.QueryBudget;
+import com.gym_management.system.services.AuthService;
+import com.gym_management.system.services.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exige un {@link QueryBudget} por cada método público de los servicios con presupuesto, de modo que
+ * un método nuevo no pueda entrar sin declarar cuántas consultas hace.
+ */
+@DisplayName("Cobertura de presupuestos de consultas")
+class QueryBudgetCoverageTest {
+
+    @Test
+    @DisplayName("Todos los métodos de MemberService tienen presupuesto")
+    void memberServiceIsFullyBudgeted() {
+        assertFullyBudgeted(MemberService.class, MemberServiceQueryBudgetTest.class);
+    }
+
+    @Test
+    @DisplayName("Todos los métodos de AuthService tienen presupuesto")
+    void authServiceIsFullyBudgeted() {
+        assertFullyBudgeted(AuthService.class, AuthServiceQueryBudgetTest.class);
+    }
+
+    private static void assertFullyBudgeted(Class<?> service, Class<?> budgetTest) {
+        List<QueryBudget> budgets = Arrays.stream(budgetTest.getDeclaredMethods())
+                .map(method -> method.getAnnotation(QueryBudget.class))
+                .filter(budget -> budget != null)
+                .toList();
+
+        List<String> missing = new ArrayList<>();
+        for (Method method : service.getMethods()) {
+            if (!method.isDefault() && budgets.stream().noneMatch(budget -> covers(budget, method, service))) {
+                missing.add(signature(method));
+            }
+        }
+
+        assertTrue(missing.isEmpty(), "Métodos de " + service.getSimpleName() + " sin @QueryBudget en "
+                + budgetTest.getSimpleName() + ": " + missing);
+    }
+
+    /**
+     * Un presupuesto cubre un método por nombre; si el nombre está sobrecargado, también por parámetros
+     */
+    private static boolean covers(QueryBudget budget, Method method, Class<?> service) {
+        if (!budget.method().equals(method.getName())) {
+            return false;
+        }
+        long overloads = Arrays.stream(service.getMethods())
+                .filter(candidate -> candidate.getName().equals(method.getName()))
+                .count();
+        return overloads == 1 || Arrays.equals(budget.parameterTypes(), method.getParameterTypes());
+    }
+
+    private static String signature(Method method) {
+        return method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", ", "(", ")"));
+    }
+}
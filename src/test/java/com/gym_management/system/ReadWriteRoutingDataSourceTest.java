@@ -0,0 +1,100 @@
+package com.gym_management.system;
+
+import com.gym_management.system.config.ReadWriteRoutingDataSource;
+import com.gym_management.system.config.ReplicaLagMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        // Dos bases H2 independientes: el nombre de la base indica a cuál llegó cada consulta
+        primary = new DriverManagerDataSource("jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1");
+        replica = new DriverManagerDataSource("jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Debe enviar las transacciones readOnly a la réplica y el resto al primario")
+    void testRouting_ByTransactionType() {
+        DataSource dataSource = routing(monitor(""), 10000);
+
+        assertEquals("ROUTING_REPLICA", databaseIn(dataSource, true));
+        assertEquals("ROUTING_PRIMARY", databaseIn(dataSource, false));
+        assertEquals("ROUTING_PRIMARY", new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    @Test
+    @DisplayName("Debe leer del primario después de que el mismo usuario escribió")
+    void testRouting_ReadYourWrites() {
+        DataSource dataSource = routing(monitor(""), 10000);
+
+        authenticate("recepcion1");
+        databaseIn(dataSource, false);
+        assertEquals("ROUTING_PRIMARY", databaseIn(dataSource, true));
+
+        authenticate("recepcion2");
+        assertEquals("ROUTING_REPLICA", databaseIn(dataSource, true));
+    }
+
+    @Test
+    @DisplayName("Debe leer del primario si la réplica supera el retraso tolerado")
+    void testRouting_ReplicaLagging() {
+        DataSource dataSource = routing(monitor("SELECT 30"), 10000);
+
+        assertEquals("ROUTING_PRIMARY", databaseIn(dataSource, true));
+        assertEquals(30.0, meterRegistry.get("datasource.replica.lag").gauge().value());
+        assertEquals(1.0, meterRegistry.get("datasource.routing").tag("reason", "replica-lag").counter().count());
+    }
+
+    private ReplicaLagMonitor monitor(String lagQuery) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, 5, meterRegistry);
+        monitor.check();
+        return monitor;
+    }
+
+    private DataSource routing(ReplicaLagMonitor monitor, long readYourWritesWindowMillis) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, monitor,
+                readYourWritesWindowMillis, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static String databaseIn(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
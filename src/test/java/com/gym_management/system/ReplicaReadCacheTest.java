@@ -0,0 +1,107 @@
+package com.gym_management.system;
+
+import com.gym_management.system.config.ReplicaLagMonitor;
+import com.gym_management.system.model.Member;
+import com.gym_management.system.model.dto.CreateMemberRequest;
+import com.gym_management.system.repository.MemberRepository;
+import com.gym_management.system.services.MemberService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Caché de segundo nivel con el enrutamiento a la réplica activo. La réplica apunta a la misma base
+ * H2 que el primario: lo que se verifica es qué lecturas llenan la caché, no el contenido.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:gym_replica_cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.replica.enabled=true",
+        "cache.second-level.enabled=true"
+})
+@ActiveProfiles("test")
+@DisplayName("Caché de segundo nivel con réplica de lectura")
+class ReplicaReadCacheTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        replicaLagMonitor.check();
+        cache = entityManagerFactory.getCache();
+        cache.evictAll();
+    }
+
+    @Test
+    @DisplayName("Después de un UPDATE masivo, una lectura en la réplica no vuelve a poblar la caché")
+    void testBulkUpdateThenReplicaRead_DoesNotCache() {
+        Long id = memberService.createMember(createRequest()).getId();
+        cache.evictAll();
+
+        double replicaRoutes = replicaRoutes();
+        assertTrue(memberService.getMemberById(id).getIsActive());
+        assertEquals(replicaRoutes + 1, replicaRoutes());
+        assertFalse(cache.contains(Member.class, id));
+
+        // Baja lógica por UPDATE masivo: vacía la región de miembros
+        memberService.deleteMember(id);
+        assertFalse(memberService.getMemberById(id).getIsActive());
+        assertEquals(replicaRoutes + 2, replicaRoutes());
+        assertFalse(cache.contains(Member.class, id));
+
+        // Lo leído en el primario sí se guarda
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> memberRepository.findById(id));
+        assertTrue(cache.contains(Member.class, id));
+    }
+
+    private double replicaRoutes() {
+        return meterRegistry.get("datasource.routing").tag("target", "replica").counter().count();
+    }
+
+    private static CreateMemberRequest createRequest() {
+        CreateMemberRequest request = new CreateMemberRequest();
+        request.setFirstName("Socia");
+        request.setLastName("Réplica");
+        request.setEmail("replica." + UUID.randomUUID().toString().substring(0, 8) + "@cache.test");
+        request.setPhone("+56912345678");
+        request.setDateOfBirth(LocalDate.of(1990, 5, 20));
+        request.setGender("FEMALE");
+        request.setAddress("Av. Providencia 1234");
+        request.setEmergencyContact("Contacto de emergencia");
+        request.setEmergencyPhone("+56987654321");
+        request.setMembershipType("BASIC");
+        request.setStartDate(LocalDate.of(2024, 1, 1));
+        request.setEndDate(LocalDate.of(2024, 12, 31));
+        return request;
+    }
+}
@@ -0,0 +1,74 @@
+package com.gym_management.system;
+
+import com.gym_management.system.search.SearchText;
+import com.gym_management.system.search.TrigramIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TrigramIndex Tests")
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1L, "José", "Peña", "jose.pena@email.com", "+56911111111");
+        index.put(2L, "Josefina", "Gómez", "josefina@email.com", "+56922222222");
+        index.put(3L, "María José", "Pérez", "mjperez@email.com", "+56933333333");
+        index.put(4L, "Ana", "Rojas", "arojas@email.com", "+56944444444");
+    }
+
+    @Test
+    @DisplayName("Debe normalizar mayúsculas, acentos y espacios")
+    void testFold() {
+        assertEquals("jose pena", SearchText.fold("  JOSÉ   Peña "));
+        assertEquals("", SearchText.fold(null));
+    }
+
+    @Test
+    @DisplayName("Debe encontrar sin acentos y ordenar por calidad de coincidencia")
+    void testSearch_AccentInsensitiveAndRanked() {
+        List<Long> ids = index.search("jose", 10);
+
+        // palabra completa (José, María José) antes que inicio de palabra (Josefina)
+        assertEquals(List.of(1L, 3L, 2L), ids);
+    }
+
+    @Test
+    @DisplayName("Debe buscar subcadenas, varias palabras y respetar el límite")
+    void testSearch_SubstringMultiWordAndLimit() {
+        assertEquals(List.of(1L), index.search("pena", 10));
+        assertEquals(List.of(3L), index.search("erez", 10));
+        assertEquals(List.of(3L), index.search("maria perez", 10));
+        assertEquals(List.of(4L), index.search("44444", 10));
+        assertEquals(List.of(1L), index.search("jose", 1));
+        assertEquals(List.of(2L), index.search("osefin", 10));
+        assertTrue(index.search("xyz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Términos cortos deben coincidir solo con inicios de palabra")
+    void testSearch_ShortTermIsWordPrefix() {
+        assertEquals(List.of(4L), index.search("an", 10));
+        assertEquals(List.of(4L), index.search("ro", 10));
+    }
+
+    @Test
+    @DisplayName("Debe reflejar actualizaciones y bajas")
+    void testPutAndRemove() {
+        index.put(4L, "Ana", "Muñoz", "amunoz@email.com", null);
+        assertTrue(index.search("rojas", 10).isEmpty());
+        assertEquals(List.of(4L), index.search("munoz", 10));
+
+        index.remove(1L);
+        assertEquals(List.of(3L, 2L), index.search("jose", 10));
+        assertEquals(3, index.documentCount());
+        assertTrue(index.estimatedBytes() > 0);
+    }
+}
@@ -3,11 +3,15 @@ package com.gym_management.system;
 import com.gym_management.system.exception.DuplicateEmailException;
 import com.gym_management.system.exception.DuplicateUsernameException;
 import com.gym_management.system.exception.UserNotFoundException;
+import com.gym_management.system.exception.VersionConflictException;
 import com.gym_management.system.model.User;
 import com.gym_management.system.model.dto.CreateUserRequest;
+import com.gym_management.system.model.dto.ResourceVersion;
 import com.gym_management.system.model.dto.UpdateUserRequest;
 import com.gym_management.system.model.dto.UserResponse;
 import com.gym_management.system.repository.UserRepository;
+import com.gym_management.system.search.UserSearchIndex;
+import com.gym_management.system.security.UserStatusCache;
 import com.gym_management.system.services.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,8 +20,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +40,12 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -160,7 +172,7 @@ class UserServiceTest {
     @DisplayName("Debe obtener usuario por username exitosamente")
     void testGetUserByUsername_Success() {
         // Given
-        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByUsernameNaturalId("admin")).thenReturn(Optional.of(testUser));
 
         // When
         UserResponse result = userService.getUserByUsername("admin");
@@ -169,7 +181,7 @@ class UserServiceTest {
         assertNotNull(result);
         assertEquals(testUser.getUsername(), result.getUsername());
 
-        verify(userRepository).findByUsername("admin");
+        verify(userRepository).findByUsernameNaturalId("admin");
     }
 
     @Test
@@ -240,6 +252,19 @@ class UserServiceTest {
         verify(userRepository).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("Debe informar un conflicto si otra operación modificó el usuario")
+    void testDeactivateUser_VersionConflict() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        doThrow(new ObjectOptimisticLockingFailureException(User.class, 1L)).when(userRepository).flush();
+
+        // When & Then
+        assertThrows(VersionConflictException.class, () -> userService.deactivateUser(1L));
+        verifyNoInteractions(userStatusCache);
+    }
+
     @Test
     @DisplayName("Debe activar usuario exitosamente")
     void testActivateUser_Success() {
@@ -297,4 +322,33 @@ class UserServiceTest {
         assertTrue(result);
         verify(userRepository).existsByEmail("admin@gym.com");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe derivar la versión del usuario de la marca más reciente, incluido el último login")
+    void testGetUserVersion_UsesLatestTimestamp() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime lastLogin = updatedAt.plusHours(1);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, updatedAt, lastLogin});
+        when(userRepository.findTimestampsById(1L)).thenReturn(rows);
+
+        // When
+        ResourceVersion version = userService.getUserVersion(1L);
+
+        // Then
+        assertEquals(ResourceVersion.of("user", 1L, lastLogin), version);
+        assertNotEquals(ResourceVersion.of("user", 1L, updatedAt), version);
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción al pedir la versión de un usuario inexistente")
+    void testGetUserVersion_NotFound() {
+        // Given
+        when(userRepository.findTimestampsById(999L)).thenReturn(List.of());
+
+        // When & Then
+        assertThrows(UserNotFoundException.class, () -> userService.getUserVersion(999L));
+    }
+}
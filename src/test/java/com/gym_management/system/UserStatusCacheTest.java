@@ -0,0 +1,185 @@
+package com.gym_management.system;
+
+import com.gym_management.system.model.User;
+import com.gym_management.system.repository.UserRepository;
+import com.gym_management.system.security.UserStatusCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStatusCache Tests")
+class UserStatusCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserStatusCache(userRepository, 60_000L, 100, 604_800_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe aceptar el token de un usuario activo y consultar la base una sola vez")
+    void testIsTokenAccepted_ActiveUser() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user("admin", "ADMIN", true)));
+
+        assertTrue(cache.isTokenAccepted(claims("admin", "ADMIN")));
+        assertTrue(cache.isTokenAccepted(claims("admin", "ADMIN")));
+
+        verify(userRepository, times(1)).findByUsername("admin");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el token tras desactivar al usuario")
+    void testIsTokenAccepted_RejectsAfterDeactivation() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user("admin", "ADMIN", true)));
+        Claims token = claims("admin", "ADMIN");
+        assertTrue(cache.isTokenAccepted(token));
+
+        cache.update(user("admin", "ADMIN", false), true);
+
+        assertFalse(cache.isTokenAccepted(token));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el token emitido con el rol anterior tras un cambio de rol")
+    void testIsTokenAccepted_RejectsAfterRoleChange() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user("admin", "ADMIN", true)));
+        Claims token = claims("admin", "ADMIN");
+        assertTrue(cache.isTokenAccepted(token));
+
+        cache.update(user("admin", "USER", true), false);
+
+        assertFalse(cache.isTokenAccepted(token));
+        assertTrue(cache.isTokenAccepted(claims("admin", "USER")));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar los tokens emitidos antes de una revocación y aceptar los nuevos")
+    void testIsTokenAccepted_RejectsTokensIssuedBeforeRevocation() {
+        Claims before = claims("admin", "ADMIN", System.currentTimeMillis() - 5_000);
+
+        cache.update(user("admin", "ADMIN", true), true);
+
+        assertFalse(cache.isTokenAccepted(before));
+        assertTrue(cache.isTokenAccepted(claims("admin", "ADMIN", System.currentTimeMillis() + 5_000)));
+        verify(userRepository, never()).findByUsername(any());
+    }
+
+    @Test
+    @DisplayName("Debe conservar la revocación al cambiar el rol dos veces seguidas")
+    void testUpdate_KeepsEarlierRevocation() {
+        Claims before = claims("admin", "ADMIN", System.currentTimeMillis() - 5_000);
+
+        cache.update(user("admin", "USER", true), true);
+        cache.update(user("admin", "ADMIN", true), false);
+
+        assertFalse(cache.isTokenAccepted(before));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar los tokens del nombre anterior tras renombrar o eliminar al usuario")
+    void testIsTokenAccepted_RejectsAfterRenameOrDelete() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user("admin", "ADMIN", true)));
+        Claims token = claims("admin", "ADMIN");
+        assertTrue(cache.isTokenAccepted(token));
+
+        cache.remove("admin");
+
+        assertFalse(cache.isTokenAccepted(token));
+        assertFalse(cache.getStatus("admin").exists());
+        verify(userRepository, times(1)).findByUsername("admin");
+    }
+
+    @Test
+    @DisplayName("Una carga iniciada antes de una invalidación no debe pisar la entrada más reciente")
+    void testGetStatus_StaleLoadDoesNotOverwriteNewerEntry() {
+        when(userRepository.findByUsername("admin")).thenAnswer(invocation -> {
+            // La desactivación se confirma mientras la carga sigue leyendo la fila anterior
+            cache.update(user("admin", "ADMIN", false), true);
+            return Optional.of(user("admin", "ADMIN", true));
+        });
+
+        UserStatusCache.UserStatus status = cache.getStatus("admin");
+
+        assertFalse(status.active());
+        assertFalse(cache.isTokenAccepted(claims("admin", "ADMIN")));
+        verify(userRepository, times(1)).findByUsername("admin");
+    }
+
+    @Test
+    @DisplayName("Dentro de una transacción el cambio se aplica recién al confirmarse")
+    void testUpdate_AppliedAfterCommit() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user("admin", "ADMIN", true)));
+        Claims token = claims("admin", "ADMIN");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.update(user("admin", "ADMIN", false), true);
+        assertTrue(cache.isTokenAccepted(token));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertFalse(cache.isTokenAccepted(token));
+    }
+
+    @Test
+    @DisplayName("Un rollback no debe dejar en caché la desactivación ni la revocación")
+    void testUpdate_DiscardedOnRollback() {
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user("admin", "ADMIN", true)));
+        Claims token = claims("admin", "ADMIN", System.currentTimeMillis() - 5_000);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.update(user("admin", "USER", false), true);
+        cache.remove("admin");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertTrue(cache.isTokenAccepted(token));
+        assertEquals(0L, cache.getStatus("admin").tokensValidAfter());
+    }
+
+    static User user(String username, String role, boolean active) {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername(username);
+        user.setRole(role);
+        user.setIsActive(active);
+        return user;
+    }
+
+    private static Claims claims(String username, String role) {
+        return claims(username, role, System.currentTimeMillis());
+    }
+
+    private static Claims claims(String username, String role, long issuedAt) {
+        return Jwts.claims()
+                .subject(username)
+                .issuedAt(new Date(issuedAt))
+                .add("role", role)
+                .build();
+    }
+}
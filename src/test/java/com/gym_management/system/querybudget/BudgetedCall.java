@@ -0,0 +1,72 @@
+package com.gym_management.system.querybudget;
+
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Mide la llamada al servicio de un test con {@link QueryBudget} y la compara con su presupuesto.
+ *
+ * <p>La preparación de datos del test queda fuera de la medición: solo cuenta lo que ocurre dentro
+ * de {@link #call} o {@link #run}. {@link QueryBudgetExtension} inyecta la instancia y verifica al
+ * final que el test haya medido exactamente una llamada.</p>
+ */
+public class BudgetedCall {
+
+    private final QueryBudget budget;
+    private QueryMeasurement measurement;
+    private int calls;
+
+    BudgetedCall(QueryBudget budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Medir una llamada que devuelve un valor
+     */
+    public <T> T call(ThrowingSupplier<T> serviceCall) throws Throwable {
+        calls++;
+        T result;
+        SqlStatementRecorder.start();
+        try {
+            result = serviceCall.get();
+        } finally {
+            measurement = SqlStatementRecorder.stop();
+        }
+        check();
+        return result;
+    }
+
+    /**
+     * Medir una llamada sin valor de retorno
+     */
+    public void run(Executable serviceCall) throws Throwable {
+        call(() -> {
+            serviceCall.execute();
+            return null;
+        });
+    }
+
+    /**
+     * Sentencias de la llamada medida, para verificar también cuáles se ejecutaron
+     */
+    public QueryMeasurement getMeasurement() {
+        return measurement;
+    }
+
+    int getCalls() {
+        return calls;
+    }
+
+    private void check() {
+        if (measurement.statements() > budget.maxStatements()) {
+            fail(budget.method() + " superó su presupuesto de " + budget.maxStatements() + " sentencias: "
+                    + measurement.describe());
+        }
+        if (measurement.dbMillis() > budget.maxDbMillis()) {
+            fail(budget.method() + " superó su presupuesto de " + budget.maxDbMillis() + " ms de base de datos: "
+                    + measurement.describe());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.gym_management.system.querybudget;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Presupuesto de consultas de un método público de servicio.
+ *
+ * <p>Se declara en el test que ejercita el método; el test mide la llamada con {@link BudgetedCall}
+ * y falla si la llamada supera el presupuesto. {@code QueryBudgetCoverageTest} exige un presupuesto
+ * por cada método de {@code MemberService} y {@code AuthService}.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * Nombre del método de la interfaz de servicio
+     */
+    String method();
+
+    /**
+     * Parámetros del método; obligatorios solo si el nombre está sobrecargado
+     */
+    Class<?>[] parameterTypes() default {};
+
+    /**
+     * Máximo de sentencias SQL (viajes a la base de datos) de la llamada
+     */
+    int maxStatements();
+
+    /**
+     * Máximo de tiempo de base de datos de la llamada. Holgado a propósito: en H2 sirve para detectar
+     * un recorrido de tabla o un lote degenerado, no diferencias finas
+     */
+    long maxDbMillis() default 250;
+}
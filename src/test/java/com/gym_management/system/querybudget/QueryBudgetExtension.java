@@ -0,0 +1,53 @@
+package com.gym_management.system.querybudget;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Inyecta un {@link BudgetedCall} en los tests anotados con {@link QueryBudget} y, al terminar cada
+ * uno, exige que haya medido exactamente una llamada: un presupuesto declarado que nunca se mide
+ * no protege nada.
+ */
+@Slf4j
+public class QueryBudgetExtension implements ParameterResolver, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == BudgetedCall.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        QueryBudget budget = extensionContext.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        if (budget == null) {
+            throw new ParameterResolutionException(
+                    "BudgetedCall solo se puede usar en tests anotados con @QueryBudget");
+        }
+        BudgetedCall call = new BudgetedCall(budget);
+        extensionContext.getStore(NAMESPACE).put(BudgetedCall.class, call);
+        return call;
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        if (budget == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        BudgetedCall call = context.getStore(NAMESPACE).get(BudgetedCall.class, BudgetedCall.class);
+        if (call == null || call.getCalls() != 1) {
+            fail("El test de " + budget.method() + " debe medir exactamente una llamada con BudgetedCall (midió "
+                    + (call == null ? 0 : call.getCalls()) + ")");
+        }
+        log.info("{}: {} (presupuesto {} sentencias, {} ms)", budget.method(), call.getMeasurement().describe(),
+                budget.maxStatements(), budget.maxDbMillis());
+    }
+}
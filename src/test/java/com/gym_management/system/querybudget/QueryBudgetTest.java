@@ -0,0 +1,27 @@
+package com.gym_management.system.querybudget;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Test de presupuesto de consultas: contexto completo sobre H2 (perfil {@code test}) con el
+ * DataSource instrumentado.
+ *
+ * <p>Las clases anotadas no deben ser {@code @Transactional}: una transacción del test posterga los
+ * flush y los commits, y las escrituras quedarían fuera de la medición.</p>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryCountingConfiguration.class)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudgetTest {
+}
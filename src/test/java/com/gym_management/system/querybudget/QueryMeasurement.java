@@ -0,0 +1,22 @@
+package com.gym_management.system.querybudget;
+
+import java.util.List;
+
+/**
+ * Sentencias SQL y tiempo de base de datos de una llamada medida
+ *
+ * @param statements Viajes a la base de datos (un lote JDBC cuenta como uno)
+ * @param dbMillis Tiempo total dentro del driver JDBC, en milisegundos
+ * @param sql Sentencias ejecutadas, en orden
+ */
+public record QueryMeasurement(int statements, long dbMillis, List<String> sql) {
+
+    public String describe() {
+        StringBuilder description = new StringBuilder()
+                .append(statements).append(" sentencias, ").append(dbMillis).append(" ms de base de datos");
+        for (int i = 0; i < sql.size(); i++) {
+            description.append(System.lineSeparator()).append("  ").append(i + 1).append(". ").append(sql.get(i));
+        }
+        return description.toString();
+    }
+}
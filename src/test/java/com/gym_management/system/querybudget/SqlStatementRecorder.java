@@ -0,0 +1,67 @@
+package com.gym_management.system.querybudget;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Listener de datasource-proxy que cuenta las sentencias SQL y el tiempo de base de datos del hilo actual.
+ *
+ * <p>Solo registra entre {@link #start()} y {@link #stop()}, y solo lo que ejecuta el mismo hilo: las
+ * tareas programadas, la escritura diferida del último login y el pool de BCrypt no se cuentan. Cada
+ * ejecución es un viaje a la base de datos, así que un lote JDBC cuenta como una sentencia.</p>
+ */
+public class SqlStatementRecorder implements QueryExecutionListener {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Empezar a registrar las sentencias del hilo actual
+     */
+    public static void start() {
+        CURRENT.set(new Recording());
+    }
+
+    /**
+     * Dejar de registrar y devolver lo medido desde {@link #start()}
+     */
+    public static QueryMeasurement stop() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        if (recording == null) {
+            throw new IllegalStateException("No hay una medición en curso en este hilo");
+        }
+        return new QueryMeasurement(recording.statements.size(), TimeUnit.NANOSECONDS.toMillis(recording.dbNanos),
+                List.copyOf(recording.statements));
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.startedAt = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Recording recording = CURRENT.get();
+        if (recording == null) {
+            return;
+        }
+        recording.dbNanos += System.nanoTime() - recording.startedAt;
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).distinct().collect(Collectors.joining("; "));
+        recording.statements.add(execInfo.isBatch() ? "[lote de " + execInfo.getBatchSize() + "] " + sql : sql);
+    }
+
+    private static final class Recording {
+        private final List<String> statements = new ArrayList<>();
+        private long startedAt;
+        private long dbNanos;
+    }
+}